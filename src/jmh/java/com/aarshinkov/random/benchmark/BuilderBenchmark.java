@@ -0,0 +1,70 @@
+package com.aarshinkov.random.benchmark;
+
+import com.aarshinkov.random.RandomEngine;
+import com.aarshinkov.random.Randomy;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the creation of randomy objects.
+ *
+ * @author Atanas Yordanov Arshinkov
+ * @since 1.4.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BuilderBenchmark {
+
+  @Benchmark
+  public Randomy build() {
+    return Randomy.Builder.build();
+  }
+
+  @Benchmark
+  public Randomy createDedicated() {
+    return Randomy.Builder.configure().dedicated().create();
+  }
+
+  @Benchmark
+  public Randomy createSplittable() {
+    return Randomy.Builder.configure().engine(RandomEngine.SPLITTABLE).create();
+  }
+
+  @Benchmark
+  public Randomy createConcurrent() {
+    return Randomy.Builder.configure().concurrent(8).create();
+  }
+
+  /**
+   * The first call on a new object, which includes any lazy seeding of the generator.
+   */
+  @Benchmark
+  public String buildAndGenerate() {
+    return Randomy.Builder.build().generateRandomString(16);
+  }
+
+  /**
+   * The first build and call in a fresh JVM, including the creation and seeding of the shared generator.
+   */
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  @Warmup(iterations = 0)
+  @Measurement(iterations = 1)
+  @Fork(20)
+  public String startup() {
+    return Randomy.Builder.build().generateRandomString(16);
+  }
+}
@@ -0,0 +1,100 @@
+package com.aarshinkov.random.benchmark;
+
+import com.aarshinkov.random.Alphabet;
+import com.aarshinkov.random.Composition;
+import com.aarshinkov.random.Randomy;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the bulk generation methods. The scores are per generated string or number, so they can be compared with
+ * the single value methods in {@link StringBenchmark} and {@link NumberBenchmark}.
+ *
+ * @author Atanas Yordanov Arshinkov
+ * @since 1.4.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BulkBenchmark {
+
+  private static final int BATCH = 1024;
+
+  @Param({"8", "32"})
+  private int length;
+
+  private Randomy randomy;
+  private Composition composition;
+  private String[] strings;
+  private int[] ints;
+  private char[] chars;
+  private ByteBuffer buffer;
+
+  @Setup
+  public void setUp() {
+    randomy = Randomy.Builder.build();
+    composition = Composition.Builder.configure().digits(1).capital(1).lowercase(1).special(1).create();
+    strings = new String[BATCH];
+    ints = new int[BATCH];
+    chars = new char[BATCH * length];
+    buffer = ByteBuffer.allocateDirect(BATCH * length);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public String[] generateRandomStrings() {
+    randomy.generateRandomStrings(strings, length, true, true, true);
+    return strings;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public String[] generateRandomStringsAlphabet() {
+    randomy.generateRandomStrings(strings, length, Alphabet.ALPHANUMERIC);
+    return strings;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public String[] generateRandomStringsComposition() {
+    randomy.generateRandomStrings(strings, length, composition);
+    return strings;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public char[] generateRandomChars() {
+    randomy.generateRandomChars(chars, 0, chars.length, Alphabet.ALPHANUMERIC);
+    return chars;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public ByteBuffer generateRandomCharsDirectBuffer() {
+    buffer.clear();
+    randomy.generateRandomChars(buffer, buffer.capacity(), Alphabet.ALPHANUMERIC);
+    return buffer;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public int[] generateRandomInts() {
+    randomy.generateRandomInts(ints, 0, 1_000_000);
+    return ints;
+  }
+}
@@ -0,0 +1,61 @@
+package com.aarshinkov.random.benchmark;
+
+import com.aarshinkov.random.RandomEngine;
+import com.aarshinkov.random.Randomy;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures one randomy object shared by all benchmark threads, with and without the concurrent mode. Run with
+ * {@code -t 1}, {@code -t 4}, ... to see how the throughput scales with the threads.
+ *
+ * @author Atanas Yordanov Arshinkov
+ * @since 1.4.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(Threads.MAX)
+@Fork(1)
+public class ConcurrentBenchmark {
+
+  @Param({"SECURE", "THREAD_LOCAL"})
+  private RandomEngine engine;
+
+  @Param({"false", "true"})
+  private boolean concurrent;
+
+  private Randomy randomy;
+
+  @Setup
+  public void setUp() {
+    Randomy.Builder builder = Randomy.Builder.configure().engine(engine);
+    if (concurrent) {
+      builder.concurrent();
+    }
+    randomy = builder.create();
+  }
+
+  @Benchmark
+  public String generateRandomString() {
+    return randomy.generateRandomString(16, true);
+  }
+
+  @Benchmark
+  public String[] generateRandomStrings() {
+    return randomy.generateRandomStrings(16, 16, true);
+  }
+}
@@ -0,0 +1,106 @@
+package com.aarshinkov.random.benchmark;
+
+import com.aarshinkov.random.Alphabet;
+import com.aarshinkov.random.CodePattern;
+import com.aarshinkov.random.DatasetWriter;
+import com.aarshinkov.random.RandomEngine;
+import com.aarshinkov.random.Randomy;
+import com.aarshinkov.random.RecordSchema;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the dataset writer with a {@link BufferedWriter} fed by the string methods, scored per record. The buffer
+ * benchmark measures the generation alone, the file benchmarks include the page cache of the temporary file.
+ *
+ * @author Atanas Yordanov Arshinkov
+ * @since 1.4.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DatasetBenchmark {
+
+  private static final int RECORDS = 1_000_000;
+
+  @Param({"SECURE", "THREAD_LOCAL"})
+  private RandomEngine engine;
+
+  private Randomy randomy;
+  private CodePattern pattern;
+  private DatasetWriter writer;
+  private ByteBuffer buffer;
+  private Path file;
+
+  @Setup
+  public void setUp() throws IOException {
+    pattern = CodePattern.compile("AAA-999");
+    final RecordSchema schema = RecordSchema.Builder.configure()
+            .number(9)
+            .string(16, Alphabet.ALPHANUMERIC)
+            .string(32, Alphabet.HEX)
+            .code(pattern)
+            .create();
+    randomy = Randomy.Builder.configure().engine(engine).create();
+    writer = DatasetWriter.Builder.configure(randomy, schema).create();
+    buffer = ByteBuffer.allocateDirect(RECORDS * schema.recordLength());
+    file = Files.createTempFile("randomy-dataset", ".csv");
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(file);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RECORDS)
+  public int buffer() {
+    buffer.clear();
+    return writer.write(buffer, 0);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RECORDS)
+  public long mappedFile() throws IOException {
+    return writer.write(file, RECORDS);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RECORDS)
+  public long bufferedWriter() throws IOException {
+    try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.US_ASCII)) {
+      for (int i = 0; i < RECORDS; i++) {
+        out.write(randomy.generateRandomNumber(9));
+        out.write(',');
+        out.write(randomy.generateRandomString(16, Alphabet.ALPHANUMERIC));
+        out.write(',');
+        out.write(randomy.generateRandomString(32, Alphabet.HEX));
+        out.write(',');
+        out.write(randomy.generateCode(pattern));
+        out.write('\n');
+      }
+    }
+    return Files.size(file);
+  }
+}
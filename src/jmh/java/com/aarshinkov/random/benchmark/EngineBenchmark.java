@@ -0,0 +1,54 @@
+package com.aarshinkov.random.benchmark;
+
+import com.aarshinkov.random.RandomEngine;
+import com.aarshinkov.random.Randomy;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the throughput of the available random engines.
+ *
+ * @author Atanas Yordanov Arshinkov
+ * @since 1.4.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EngineBenchmark {
+
+  @Param({"SECURE", "THREAD_LOCAL", "SPLITTABLE"})
+  private RandomEngine engine;
+
+  @Param({"16"})
+  private int length;
+
+  private Randomy randomy;
+
+  @Setup
+  public void setUp() {
+    randomy = Randomy.Builder.configure().engine(engine).create();
+  }
+
+  @Benchmark
+  public String generateRandomString() {
+    return randomy.generateRandomString(length, true);
+  }
+
+  @Benchmark
+  public Integer generateRandomNumber() {
+    return randomy.generateRandomNumber(0, 1000);
+  }
+}
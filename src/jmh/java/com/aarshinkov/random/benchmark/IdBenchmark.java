@@ -0,0 +1,79 @@
+package com.aarshinkov.random.benchmark;
+
+import com.aarshinkov.random.IdGenerator;
+import com.aarshinkov.random.RandomEngine;
+import com.aarshinkov.random.Randomy;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the ID generator, which draws its random bits in blocks, with {@link UUID#randomUUID()}, which calls the
+ * shared {@link java.security.SecureRandom} for every UUID. With the secure engine the cost is mostly the throughput
+ * of the secure generator. Run it with {@code -t} to see the contention.
+ *
+ * @author Atanas Yordanov Arshinkov
+ * @since 1.4.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdBenchmark {
+
+  @Param({"SECURE", "THREAD_LOCAL"})
+  private RandomEngine engine;
+
+  private IdGenerator generator;
+  private IdGenerator monotonic;
+
+  @Setup
+  public void setUp() {
+    final Randomy randomy = Randomy.Builder.configure().engine(engine).create();
+    generator = IdGenerator.Builder.configure(randomy).create();
+    monotonic = IdGenerator.Builder.configure(randomy).monotonic().create();
+  }
+
+  @Benchmark
+  public UUID jdkRandomUuid() {
+    return UUID.randomUUID();
+  }
+
+  @Benchmark
+  public UUID randomUuid() {
+    return generator.randomUuid();
+  }
+
+  @Benchmark
+  public String randomUuidString() {
+    final UUID uuid = generator.randomUuid();
+    return IdGenerator.formatUuid(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+  }
+
+  @Benchmark
+  public UUID timeOrderedUuid() {
+    return generator.timeOrderedUuid();
+  }
+
+  @Benchmark
+  public String ulid() {
+    return generator.ulid();
+  }
+
+  @Benchmark
+  public String monotonicUlid() {
+    return monotonic.ulid();
+  }
+}
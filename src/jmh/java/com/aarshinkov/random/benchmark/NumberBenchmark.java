@@ -0,0 +1,84 @@
+package com.aarshinkov.random.benchmark;
+
+import com.aarshinkov.random.Randomy;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the number generation methods, both the boxed and the primitive ones.
+ *
+ * @author Atanas Yordanov Arshinkov
+ * @since 1.4.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NumberBenchmark {
+
+  @Param({"1", "6", "18", "64"})
+  private int digits;
+
+  private Randomy randomy;
+  private Integer start;
+  private Integer end;
+
+  @Setup
+  public void setUp() {
+    randomy = Randomy.Builder.build();
+    start = -1_000;
+    end = 1_000_000;
+  }
+
+  @Benchmark
+  public String generateRandomNumberDigits() {
+    return randomy.generateRandomNumber(digits);
+  }
+
+  @Benchmark
+  public String generateRandomDigits() {
+    return randomy.generateRandomDigits(digits);
+  }
+
+  @Benchmark
+  public long generateFixedLengthNumber() {
+    return randomy.generateFixedLengthNumber(Math.min(digits, 18));
+  }
+
+  @Benchmark
+  public Integer generateRandomNumberRange() {
+    return randomy.generateRandomNumber(start, end);
+  }
+
+  @Benchmark
+  public Integer generateRandomNumberRangeExclusive() {
+    return randomy.generateRandomNumber(start, end, false);
+  }
+
+  @Benchmark
+  public int generateRandomInt() {
+    return randomy.generateRandomInt(-1_000, 1_000_000);
+  }
+
+  @Benchmark
+  public long generateRandomLong() {
+    return randomy.generateRandomLong(Long.MIN_VALUE, Long.MAX_VALUE - 1);
+  }
+
+  @Benchmark
+  public double generateRandomDouble() {
+    return randomy.generateRandomDouble(-1.0, 1.0);
+  }
+}
@@ -0,0 +1,50 @@
+package com.aarshinkov.random.benchmark;
+
+import com.aarshinkov.random.Randomy;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the latency distribution of token generation with and without the prefetching buffer. The sample mode
+ * reports the percentiles, including p99.
+ *
+ * @author Atanas Yordanov Arshinkov
+ * @since 1.4.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrefetchBenchmark {
+
+  @Param({"0", "65536"})
+  private int prefetch;
+
+  private Randomy randomy;
+
+  @Setup
+  public void setUp() {
+    Randomy.Builder builder = Randomy.Builder.configure().dedicated();
+    if (prefetch > 0) {
+      builder.prefetch(prefetch);
+    }
+    randomy = builder.create();
+  }
+
+  @Benchmark
+  public String generateRandomString() {
+    return randomy.generateRandomString(32, true);
+  }
+}
@@ -0,0 +1,113 @@
+package com.aarshinkov.random.benchmark;
+
+import com.aarshinkov.random.LongReservoirSampler;
+import com.aarshinkov.random.RandomEngine;
+import com.aarshinkov.random.Randomy;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the sampling methods with the usual approaches built on {@code generateRandomNumber} and boxed integers:
+ * Floyd's selection against rejection with a {@link HashSet}, the primitive shuffle against
+ * the shuffle of a list of boxed integers and the skipping reservoir sampler against a reservoir which draws a number per
+ * element (Algorithm R).
+ *
+ * @author Atanas Yordanov Arshinkov
+ * @since 1.4.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SamplingBenchmark {
+
+  private static final int POPULATION = 1_000_000;
+  private static final int SAMPLE = 1_000;
+  private static final int SHUFFLED = 10_000;
+
+  @Param({"SECURE", "THREAD_LOCAL"})
+  private RandomEngine engine;
+
+  private Randomy randomy;
+  private int[] ints;
+  private List<Integer> boxed;
+  private long[] stream;
+
+  @Setup
+  public void setUp() {
+    randomy = Randomy.Builder.configure().engine(engine).create();
+    ints = new int[SHUFFLED];
+    boxed = new ArrayList<>();
+    for (int i = 0; i < SHUFFLED; i++) {
+      ints[i] = i;
+      boxed.add(i);
+    }
+    stream = LongStream.range(0, POPULATION).toArray();
+  }
+
+  @Benchmark
+  public int[] floydSample() {
+    return randomy.generateSample(SAMPLE, POPULATION);
+  }
+
+  @Benchmark
+  public Set<Integer> boxedRejectionSample() {
+    final Set<Integer> sample = new HashSet<>();
+    while (sample.size() < SAMPLE) {
+      sample.add(randomy.generateRandomNumber(0, POPULATION));
+    }
+    return sample;
+  }
+
+  @Benchmark
+  public int[] shuffleInts() {
+    randomy.shuffle(ints);
+    return ints;
+  }
+
+  @Benchmark
+  public List<Integer> shuffleBoxed() {
+    randomy.shuffle(boxed);
+    return boxed;
+  }
+
+  @Benchmark
+  public long[] skippingReservoir() {
+    final LongReservoirSampler sampler = LongReservoirSampler.of(randomy, SAMPLE);
+    sampler.acceptAll(stream, 0, stream.length);
+    return sampler.sample();
+  }
+
+  @Benchmark
+  public long[] perElementReservoir() {
+    final long[] reservoir = new long[SAMPLE];
+    for (int i = 0; i < stream.length; i++) {
+      if (i < SAMPLE) {
+        reservoir[i] = stream[i];
+      } else {
+        final int j = randomy.generateRandomNumber(0, i + 1);
+        if (j < SAMPLE) {
+          reservoir[j] = stream[i];
+        }
+      }
+    }
+    return reservoir;
+  }
+}
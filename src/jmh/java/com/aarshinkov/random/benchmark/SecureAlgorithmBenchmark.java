@@ -0,0 +1,70 @@
+package com.aarshinkov.random.benchmark;
+
+import com.aarshinkov.random.Alphabet;
+import com.aarshinkov.random.Randomy;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the throughput of the secure random algorithms under concurrency, with one generator shared by all
+ * benchmark threads and with the concurrent mode, and the cost of the background reseeding. {@code NativePRNG} reads
+ * the system entropy under a global lock on Linux, the other algorithms generate the bytes in memory. The available
+ * algorithms depend on the platform and the Java version, {@code DRBG} needs Java 9 or newer. Run with {@code -t 1},
+ * {@code -t 4}, ... to see how the throughput scales with the threads.
+ *
+ * @author Atanas Yordanov Arshinkov
+ * @since 1.4.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(Threads.MAX)
+@Fork(1)
+public class SecureAlgorithmBenchmark {
+
+  @Param({"NativePRNG", "NativePRNGNonBlocking", "SHA1PRNG", "DRBG"})
+  private String algorithm;
+
+  @Param({"false", "true"})
+  private boolean concurrent;
+
+  @Param({"false", "true"})
+  private boolean reseeding;
+
+  private Randomy randomy;
+
+  @Setup
+  public void setUp() {
+    final Randomy.Builder builder = Randomy.Builder.configure().secureAlgorithm(algorithm);
+    if (concurrent) {
+      builder.concurrent();
+    }
+    if (reseeding) {
+      builder.reseedAfter(1 << 20).reseedEvery(1, TimeUnit.SECONDS);
+    }
+    randomy = builder.create();
+  }
+
+  @Benchmark
+  public String token() {
+    return randomy.generateRandomString(32, Alphabet.BASE64_URL);
+  }
+
+  @Benchmark
+  public int randomInt() {
+    return randomy.generateRandomInt(0, 999);
+  }
+}
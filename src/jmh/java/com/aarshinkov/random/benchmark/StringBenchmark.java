@@ -0,0 +1,68 @@
+package com.aarshinkov.random.benchmark;
+
+import com.aarshinkov.random.Randomy;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link Randomy#generateRandomString(int, boolean, boolean, boolean)} and its shorter overloads for every
+ * valid combination of character groups.
+ *
+ * @author Atanas Yordanov Arshinkov
+ * @since 1.4.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringBenchmark {
+
+  /**
+   * The included groups: D - digits, C - capital letters, L - lowercase letters
+   */
+  @Param({"DCL", "DC", "DL", "D", "CL", "C", "L"})
+  private String groups;
+
+  @Param({"1", "8", "16", "64", "256", "4096"})
+  private int length;
+
+  private Randomy randomy;
+  private boolean includeDigits;
+  private boolean includeCapital;
+  private boolean includeLowercase;
+
+  @Setup
+  public void setUp() {
+    randomy = Randomy.Builder.build();
+    includeDigits = groups.contains("D");
+    includeCapital = groups.contains("C");
+    includeLowercase = groups.contains("L");
+  }
+
+  @Benchmark
+  public String generateRandomString() {
+    return randomy.generateRandomString(length, includeDigits, includeCapital, includeLowercase);
+  }
+
+  @Benchmark
+  public String generateRandomStringLength() {
+    return randomy.generateRandomString(length);
+  }
+
+  @Benchmark
+  public String generateRandomStringDigits() {
+    return randomy.generateRandomString(length, includeDigits);
+  }
+}
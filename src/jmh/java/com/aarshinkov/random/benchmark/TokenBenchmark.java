@@ -0,0 +1,69 @@
+package com.aarshinkov.random.benchmark;
+
+import com.aarshinkov.random.Alphabet;
+import com.aarshinkov.random.RandomEngine;
+import com.aarshinkov.random.Randomy;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the token alphabets whose size is a power of two, which are encoded directly from the random bits, with
+ * the alphanumeric alphabet, which needs rejection sampling. The bulk benchmark is scored per generated character, so
+ * its inverse is the throughput in bytes.
+ *
+ * @author Atanas Yordanov Arshinkov
+ * @since 1.4.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenBenchmark {
+
+  private static final int BULK_BYTES = 1 << 16;
+
+  @Param({"HEX", "BASE32", "BASE64_URL", "ALPHANUMERIC"})
+  private String alphabetName;
+
+  @Param({"THREAD_LOCAL", "SECURE"})
+  private RandomEngine engine;
+
+  @Param({"16", "32"})
+  private int length;
+
+  private Randomy randomy;
+  private Alphabet alphabet;
+  private byte[] bulk;
+
+  @Setup
+  public void setUp() throws ReflectiveOperationException {
+    randomy = Randomy.Builder.configure().engine(engine).create();
+    alphabet = (Alphabet) Alphabet.class.getField(alphabetName).get(null);
+    bulk = new byte[BULK_BYTES];
+  }
+
+  @Benchmark
+  public String generateToken() {
+    return randomy.generateRandomString(length, alphabet);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BULK_BYTES)
+  public byte[] generateBulkCharacters() {
+    randomy.generateRandomChars(bulk, 0, BULK_BYTES, alphabet);
+    return bulk;
+  }
+}
@@ -0,0 +1,161 @@
+package com.aarshinkov.random.benchmark;
+
+import com.aarshinkov.random.Alphabet;
+import com.aarshinkov.random.Randomy;
+import com.aarshinkov.random.TokenValidator;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the validators with the split based implementation used up to version 1.3.0, and the bulk token validator
+ * with the string validators on a batch of uppercase tokens, scored per token. Run with {@code -prof gc} to see the
+ * allocation rate.
+ *
+ * @author Atanas Yordanov Arshinkov
+ * @since 1.4.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidatorBenchmark {
+
+  private static final int BATCH = 256;
+
+  private static final String SPECIAL_CHARACTERS = "~`'\"!@#$%^&*()-_+=,.;\\|{}[]";
+
+  @Param({"16", "256", "4096"})
+  private int length;
+
+  private Randomy randomy;
+  private String letters;
+  private String lowercase;
+  private String uppercase;
+  private String[] tokens;
+  private byte[] packedTokens;
+  private TokenValidator validator;
+  private long[] bitmap;
+
+  @Setup
+  public void setUp() {
+    randomy = Randomy.Builder.build();
+    // Strings with no digits and a single case are the worst case, every character is checked
+    letters = randomy.generateRandomString(length);
+    lowercase = randomy.generateRandomString(length, false, false, true);
+    uppercase = randomy.generateRandomString(length, false, true, false);
+
+    final Alphabet upperAlphanumeric = Alphabet.of(true, true, false);
+    tokens = new String[BATCH];
+    randomy.generateRandomStrings(tokens, length, upperAlphanumeric);
+    packedTokens = String.join("", tokens).getBytes(StandardCharsets.US_ASCII);
+    validator = TokenValidator.Builder.configure(length).alphabet(upperAlphanumeric).requireDigit().forbidLowercase()
+            .create();
+    bitmap = new long[TokenValidator.bitmapLength(BATCH)];
+  }
+
+  @Benchmark
+  public boolean hasDigitInString() {
+    return randomy.hasDigitInString(letters);
+  }
+
+  @Benchmark
+  public boolean hasDigitInStringLegacy() {
+    return legacyHasDigitInString(letters);
+  }
+
+  @Benchmark
+  public boolean hasOnlyLowercase() {
+    return randomy.hasOnlyLowercase(lowercase);
+  }
+
+  @Benchmark
+  public boolean hasOnlyLowercaseLegacy() {
+    return legacyHasOnlyOneCase(lowercase, false);
+  }
+
+  @Benchmark
+  public boolean hasOnlyUppercase() {
+    return randomy.hasOnlyUppercase(uppercase);
+  }
+
+  @Benchmark
+  public boolean hasOnlyUppercaseLegacy() {
+    return legacyHasOnlyOneCase(uppercase, true);
+  }
+
+  private static boolean legacyHasDigitInString(String sequence) {
+    if (sequence == null || sequence.trim().isEmpty()) {
+      return false;
+    }
+    for (String character : sequence.split("")) {
+      if (Character.isDigit(character.charAt(0))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean legacyHasOnlyOneCase(String sequence, boolean isUppercase) {
+    if (sequence == null || sequence.trim().isEmpty()) {
+      return false;
+    }
+    for (String s : sequence.split("")) {
+      if (!SPECIAL_CHARACTERS.contains(s)) {
+        if (isUppercase ? s.equals(s.toLowerCase()) : s.equals(s.toUpperCase())) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public int validateBatch() {
+    return validator.validate(packedTokens, 0, BATCH, bitmap);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public int validateBatchPerString() {
+    int valid = 0;
+    for (String token : tokens) {
+      if (randomy.hasDigitInString(token) && !hasLowercase(token) && isAlphanumeric(token)) {
+        valid++;
+      }
+    }
+    return valid;
+  }
+
+  private static boolean hasLowercase(String token) {
+    for (int i = 0; i < token.length(); i++) {
+      if (Character.isLowerCase(token.charAt(i))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean isAlphanumeric(String token) {
+    for (int i = 0; i < token.length(); i++) {
+      if (!Character.isLetterOrDigit(token.charAt(i)) || token.charAt(i) >= 128) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
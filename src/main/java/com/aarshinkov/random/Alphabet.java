@@ -0,0 +1,274 @@
+package com.aarshinkov.random;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Immutable set of characters used for generating random strings. The alphabet is compiled once into a lookup table,
+ * so the generation is a table lookup per character and the same alphabet can be reused by any number of calls and
+ * threads.
+ * <br><br>
+ * Alphabets whose size is a power of two, such as {@link #HEX}, {@link #BASE32} and {@link #BASE64_URL}, take exactly
+ * log2(size) random bits per character, which are cut directly out of the random bytes.
+ * <br><br>
+ * Besides the predefined alphabets, custom ones can be created with {@link #of(String)}.
+ *
+ * @author Atanas Yordanov Arshinkov
+ * @since 1.4.0
+ */
+public final class Alphabet {
+
+  /**
+   * The maximum count of characters in an alphabet
+   */
+  public static final int MAX_SIZE = 256;
+
+  private static final String DIGIT_CHARACTERS = "0123456789";
+  private static final String CAPITAL_CHARACTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+  private static final String LOWERCASE_CHARACTERS = "abcdefghijklmnopqrstuvwxyz";
+
+  /**
+   * The digits from 0 to 9
+   */
+  public static final Alphabet DIGITS = of(DIGIT_CHARACTERS);
+
+  /**
+   * The capital letters of the english alphabet
+   */
+  public static final Alphabet CAPITAL = of(CAPITAL_CHARACTERS);
+
+  /**
+   * The lowercase letters of the english alphabet
+   */
+  public static final Alphabet LOWERCASE = of(LOWERCASE_CHARACTERS);
+
+  /**
+   * The capital and lowercase letters of the english alphabet
+   */
+  public static final Alphabet LETTERS = of(CAPITAL_CHARACTERS + LOWERCASE_CHARACTERS);
+
+  /**
+   * The digits, the capital and the lowercase letters of the english alphabet
+   */
+  public static final Alphabet ALPHANUMERIC = of(DIGIT_CHARACTERS + CAPITAL_CHARACTERS + LOWERCASE_CHARACTERS);
+
+  /**
+   * Lowercase hexadecimal digits
+   */
+  public static final Alphabet HEX = of("0123456789abcdef");
+
+  /**
+   * The base32 alphabet as defined in RFC 4648
+   */
+  public static final Alphabet BASE32 = of(CAPITAL_CHARACTERS + "234567");
+
+  /**
+   * The URL and filename safe base64 alphabet as defined in RFC 4648
+   */
+  public static final Alphabet BASE64_URL = of(CAPITAL_CHARACTERS + LOWERCASE_CHARACTERS + DIGIT_CHARACTERS + "-_");
+
+  /**
+   * The special characters recognised by {@link Randomy#hasOnlyLowercase(String)} and
+   * {@link Randomy#hasOnlyUppercase(String)}
+   */
+  public static final Alphabet SPECIAL = of("~`'\"!@#$%^&*()-_+=,.;\\|{}[]");
+
+  private static final Alphabet[] FLAG_ALPHABETS = {
+    null,
+    LOWERCASE,
+    CAPITAL,
+    LETTERS,
+    DIGITS,
+    of(DIGIT_CHARACTERS + LOWERCASE_CHARACTERS),
+    of(DIGIT_CHARACTERS + CAPITAL_CHARACTERS),
+    ALPHANUMERIC
+  };
+
+  private final char[] symbols;
+  private final long[] members;
+  private final short[] indexes;
+  private final int threshold;
+  private final boolean ascii;
+  private final BitSlicedEncoder encoder;
+
+  private Alphabet(char[] symbols) {
+    this.symbols = symbols;
+
+    char max = 0;
+    for (char symbol : symbols) {
+      max = (char) Math.max(max, symbol);
+    }
+    this.ascii = max < 128;
+
+    this.members = new long[(max >> 6) + 1];
+    for (char symbol : symbols) {
+      if (contains(symbol)) {
+        throw new IllegalArgumentException("The alphabet must not contain duplicate characters: " + symbol);
+      }
+      members[symbol >> 6] |= 1L << symbol;
+    }
+
+    this.indexes = new short[max + 1];
+    Arrays.fill(indexes, (short) -1);
+    for (int i = 0; i < symbols.length; i++) {
+      indexes[symbols[i]] = (short) i;
+    }
+
+    this.threshold = 256 - (256 % symbols.length);
+    this.encoder = BitSlicedEncoder.of(symbols);
+  }
+
+  /**
+   * Creates an alphabet from the given characters. The order of the characters is kept.
+   *
+   * @param characters the characters of the alphabet, must be distinct
+   *
+   * @return the created alphabet
+   */
+  public static Alphabet of(String characters) {
+
+    if (characters == null || characters.isEmpty()) {
+      throw new IllegalArgumentException("The alphabet must contain at least one character");
+    }
+
+    if (characters.length() > MAX_SIZE) {
+      throw new IllegalArgumentException("The alphabet must not contain more than " + MAX_SIZE + " characters");
+    }
+
+    return new Alphabet(characters.toCharArray());
+  }
+
+  /**
+   * Returns the alphabet for the given groups of characters. The digits come first, followed by the capital and the
+   * lowercase letters.
+   *
+   * @param includeDigits marks if the alphabet should include digits
+   * @param includeCapital marks if the alphabet should include capital letters
+   * @param includeLowercase marks if the alphabet should include lowercase letters
+   *
+   * @return the precompiled alphabet
+   */
+  public static Alphabet of(boolean includeDigits, boolean includeCapital, boolean includeLowercase) {
+
+    final Alphabet alphabet = FLAG_ALPHABETS[(includeDigits ? 4 : 0) | (includeCapital ? 2 : 0) | (includeLowercase ? 1 : 0)];
+
+    if (alphabet == null) {
+      throw new IllegalArgumentException("At least one group of characters must be included");
+    }
+
+    return alphabet;
+  }
+
+  /**
+   * @return the count of characters in the alphabet
+   */
+  public int size() {
+    return symbols.length;
+  }
+
+  /**
+   * @param index the index of the character
+   *
+   * @return the character at the given index
+   */
+  public char charAt(int index) {
+    return symbols[index];
+  }
+
+  /**
+   * @return true - if every character of the alphabet is an ASCII character, so it can be written as a single byte
+   */
+  public boolean isAscii() {
+    return ascii;
+  }
+
+  /**
+   * @param character the character to be checked
+   *
+   * @return true - if the character is part of the alphabet; false - if not
+   */
+  public boolean contains(char character) {
+    final int word = character >> 6;
+    return word < members.length && (members[word] & (1L << character)) != 0;
+  }
+
+  /**
+   * @param character the character to be found
+   *
+   * @return the index of the character in the alphabet, or -1 if it is not part of the alphabet
+   */
+  int indexOf(char character) {
+    return character < indexes.length ? indexes[character] : -1;
+  }
+
+  /**
+   * Returns a random character of the alphabet.
+   *
+   * @param random the generator to be used
+   *
+   * @return the random character
+   */
+  char nextChar(Random random) {
+    return symbols[random.nextInt(symbols.length)];
+  }
+
+  /**
+   * Returns the index of a random character of the alphabet, using one or more bytes of the buffer.
+   *
+   * @param entropy the buffer to be used
+   *
+   * @return the random index
+   */
+  int nextIndex(EntropyBuffer entropy) {
+    return entropy.nextIndex(symbols.length, threshold);
+  }
+
+  /**
+   * Writes random characters of an ASCII alphabet as bytes, drawing the random bytes from the given buffer.
+   *
+   * @param target the array to be written to
+   * @param offset the index of the first byte to be written
+   * @param length the count of characters to be written
+   * @param entropy the source of random bytes
+   */
+  void fill(byte[] target, int offset, int length, EntropyBuffer entropy) {
+    if (encoder != null) {
+      encoder.fill(target, offset, length, entropy);
+      return;
+    }
+
+    final int end = offset + length;
+    for (int i = offset; i < end; i++) {
+      target[i] = (byte) symbols[entropy.nextIndex(symbols.length, threshold)];
+    }
+  }
+
+  /**
+   * @return the encoder which turns random bytes directly into characters, or null if the size of the alphabet is not
+   * a power of two or it has characters beyond Latin-1
+   */
+  BitSlicedEncoder encoder() {
+    return encoder;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof Alphabet)) {
+      return false;
+    }
+    return Arrays.equals(symbols, ((Alphabet) o).symbols);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(symbols);
+  }
+
+  @Override
+  public String toString() {
+    return new String(symbols);
+  }
+}
@@ -0,0 +1,164 @@
+package com.aarshinkov.random;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+/**
+ * Encoder of random bytes into the characters of an alphabet whose size is a power of two, such as the hexadecimal,
+ * base32 and base64 alphabets. Every character takes exactly log2(size) bits, so no random bits are rejected or wasted:
+ * a hexadecimal character costs half a byte, a base32 character five eighths and a base64 character three quarters.
+ * <br><br>
+ * The bits are cut out of whole groups of bytes with shifts and mapped to the characters with a lookup table. The
+ * characters are written as single Latin-1 bytes, so the strings are created from a byte array without a decoding
+ * step.
+ *
+ * @author Atanas Yordanov Arshinkov
+ * @since 1.4.0
+ */
+final class BitSlicedEncoder {
+
+  private final int bits;
+  private final int mask;
+  private final byte[] table;
+
+  /**
+   * @param symbols the characters of the alphabet, a power of two between 2 and 256 of them, all Latin-1
+   */
+  private BitSlicedEncoder(char[] symbols) {
+    this.bits = Integer.numberOfTrailingZeros(symbols.length);
+    this.mask = symbols.length - 1;
+    this.table = new byte[symbols.length];
+    for (int i = 0; i < symbols.length; i++) {
+      table[i] = (byte) symbols[i];
+    }
+  }
+
+  /**
+   * @param symbols the characters of the alphabet
+   *
+   * @return encoder for the alphabet, or null if its size is not a power of two or it has characters beyond Latin-1
+   */
+  static BitSlicedEncoder of(char[] symbols) {
+    if (symbols.length < 2 || Integer.bitCount(symbols.length) != 1) {
+      return null;
+    }
+    for (char symbol : symbols) {
+      if (symbol > 0xFF) {
+        return null;
+      }
+    }
+    return new BitSlicedEncoder(symbols);
+  }
+
+  /**
+   * @param length the count of characters
+   *
+   * @return the count of random bytes needed for the given count of characters
+   */
+  int randomBytes(int length) {
+    return (int) (((long) length * bits + 7) >>> 3);
+  }
+
+  /**
+   * @param random the generator to be used
+   * @param length the length of the string as characters
+   *
+   * @return random string with characters of the alphabet
+   */
+  String nextString(Random random, int length) {
+    final byte[] bytes = new byte[randomBytes(length)];
+    random.nextBytes(bytes);
+    final byte[] chars = new byte[length];
+    encode(bytes, 0, chars, 0, length);
+    return new String(chars, StandardCharsets.ISO_8859_1);
+  }
+
+  /**
+   * Fills a part of the given array with random characters of the alphabet, drawing the random bytes from the
+   * given buffer. The random bytes are placed at the end of the part and encoded in place.
+   *
+   * @param target the array to be filled with Latin-1 characters
+   * @param offset the index of the first character
+   * @param length the count of characters
+   * @param entropy the source of random bytes
+   */
+  void fill(byte[] target, int offset, int length, EntropyBuffer entropy) {
+    final int randomBytes = randomBytes(length);
+    final int randomOffset = offset + length - randomBytes;
+    entropy.nextBytes(target, randomOffset, randomBytes);
+    encode(target, randomOffset, target, offset, length);
+  }
+
+  /**
+   * Encodes random bytes into characters. The source and the target may be the same array, as long as the random
+   * bytes end where the characters end: every group of characters is written only after its bytes are read, and
+   * never reaches the bytes of the following groups.
+   *
+   * @param random the array with the random bytes
+   * @param randomOffset the index of the first random byte
+   * @param target the array to be filled with Latin-1 characters
+   * @param offset the index of the first character
+   * @param length the count of characters
+   */
+  void encode(byte[] random, int randomOffset, byte[] target, int offset, int length) {
+    int r = randomOffset;
+    int i = offset;
+    final int end = offset + length;
+    final byte[] t = table;
+
+    switch (bits) {
+      case 4:
+        // 1 byte into 2 characters
+        for (; i + 2 <= end; i += 2) {
+          final int v = random[r++];
+          target[i] = t[(v >>> 4) & 15];
+          target[i + 1] = t[v & 15];
+        }
+        break;
+      case 5:
+        // 5 bytes into 8 characters
+        for (; i + 8 <= end; i += 8, r += 5) {
+          final long v = (random[r] & 0xFFL) << 32 | (random[r + 1] & 0xFFL) << 24 | (random[r + 2] & 0xFFL) << 16
+                  | (random[r + 3] & 0xFFL) << 8 | (random[r + 4] & 0xFFL);
+          target[i] = t[(int) (v >>> 35) & 31];
+          target[i + 1] = t[(int) (v >>> 30) & 31];
+          target[i + 2] = t[(int) (v >>> 25) & 31];
+          target[i + 3] = t[(int) (v >>> 20) & 31];
+          target[i + 4] = t[(int) (v >>> 15) & 31];
+          target[i + 5] = t[(int) (v >>> 10) & 31];
+          target[i + 6] = t[(int) (v >>> 5) & 31];
+          target[i + 7] = t[(int) v & 31];
+        }
+        break;
+      case 6:
+        // 3 bytes into 4 characters
+        for (; i + 4 <= end; i += 4, r += 3) {
+          final int v = (random[r] & 0xFF) << 16 | (random[r + 1] & 0xFF) << 8 | (random[r + 2] & 0xFF);
+          target[i] = t[v >>> 18];
+          target[i + 1] = t[(v >>> 12) & 63];
+          target[i + 2] = t[(v >>> 6) & 63];
+          target[i + 3] = t[v & 63];
+        }
+        break;
+      case 8:
+        for (; i < end; i++) {
+          target[i] = t[random[r++] & 0xFF];
+        }
+        break;
+      default:
+        break;
+    }
+
+    // The remaining characters, fewer than a group, or all of them for the other sizes
+    int buffer = 0;
+    int available = 0;
+    for (; i < end; i++) {
+      if (available < bits) {
+        buffer = buffer << 8 | (random[r++] & 0xFF);
+        available += 8;
+      }
+      available -= bits;
+      target[i] = t[(buffer >>> available) & mask];
+    }
+  }
+}
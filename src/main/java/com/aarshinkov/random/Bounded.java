@@ -0,0 +1,113 @@
+package com.aarshinkov.random;
+
+import java.util.Random;
+
+/**
+ * Unbiased sampling of primitive numbers from a range. The ranges are checked by the callers and may span every value
+ * of the type, the calculations never overflow.
+ *
+ * @author Atanas Yordanov Arshinkov
+ * @since 1.4.0
+ */
+final class Bounded {
+
+  private Bounded() {
+
+  }
+
+  /**
+   * @param random the generator to be used
+   * @param start the lowest possible result
+   * @param end the highest possible result, must not be lower than start
+   *
+   * @return random int between start and end, both inclusive
+   */
+  static int nextInt(Random random, int start, int end) {
+    final int range = end - start + 1;
+
+    if (range > 0) {
+      return start + random.nextInt(range);
+    }
+
+    if (range == 0) {
+      // The range spans every int
+      return random.nextInt();
+    }
+
+    // The range is wider than the positive ints, so more than half of the values are accepted
+    int value = random.nextInt();
+    while (value < start || value > end) {
+      reroll(random);
+      value = random.nextInt();
+    }
+    return value;
+  }
+
+  /**
+   * @param random the generator to be used
+   * @param start the lowest possible result
+   * @param end the highest possible result, must not be lower than start
+   *
+   * @return random long between start and end, both inclusive
+   */
+  static long nextLong(Random random, long start, long end) {
+    final long range = end - start + 1;
+
+    if (range > 0) {
+      final long mask = range - 1;
+      if ((range & mask) == 0) {
+        return start + (random.nextLong() & mask);
+      }
+      long bits = random.nextLong() >>> 1;
+      long value = bits % range;
+      while (bits - value + mask < 0) {
+        reroll(random);
+        bits = random.nextLong() >>> 1;
+        value = bits % range;
+      }
+      return start + value;
+    }
+
+    if (range == 0) {
+      // The range spans every long
+      return random.nextLong();
+    }
+
+    long value = random.nextLong();
+    while (value < start || value > end) {
+      reroll(random);
+      value = random.nextLong();
+    }
+    return value;
+  }
+
+  /**
+   * @param random the generator to be used
+   * @param start the lowest possible result
+   * @param end the upper bound, must be greater than start
+   *
+   * @return random double between start (inclusive) and end (exclusive)
+   */
+  static double nextDouble(Random random, double start, double end) {
+    final double uniform = random.nextDouble();
+    // Weighted sum instead of start + uniform * (end - start), which overflows for ranges wider than Double.MAX_VALUE
+    double value = start * (1 - uniform) + end * uniform;
+    if (value >= end) {
+      value = Math.nextDown(end);
+    }
+    if (value < start) {
+      value = start;
+    }
+    return value;
+  }
+
+  /**
+   * Records a rejected number, if the generator is measured.
+   */
+  private static void reroll(Random random) {
+    final RandomyMetrics metrics = MeteredRandom.metricsOf(random);
+    if (metrics != null) {
+      metrics.recordReroll();
+    }
+  }
+}
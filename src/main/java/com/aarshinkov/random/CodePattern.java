@@ -0,0 +1,217 @@
+package com.aarshinkov.random;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable template of formatted random codes, such as license keys, voucher codes or plate-like IDs. The template is
+ * parsed once into the literal characters and the alphabet of every random position, so generating a code is a copy
+ * of the literals and a table lookup per random position, in a single buffer.
+ * <br><br>
+ * The placeholders of the template are:
+ * <ul>
+ * <li>{@code 9} - a digit</li>
+ * <li>{@code A} - a capital letter</li>
+ * <li>{@code a} - a lowercase letter</li>
+ * <li>{@code L} - a capital or lowercase letter</li>
+ * <li>{@code X} - a capital letter or a digit</li>
+ * <li>{@code x} - a lowercase letter or a digit</li>
+ * <li>{@code *} - a capital letter, a lowercase letter or a digit</li>
+ * <li>{@code H} - an uppercase hexadecimal digit</li>
+ * <li>{@code h} - a lowercase hexadecimal digit</li>
+ * </ul>
+ * Every other character is copied as it is, a backslash makes the following character a literal. For example
+ * {@code "AAA-999-xxxx"} generates codes like {@code "QZK-042-7fq1"}. Other placeholders can be given with
+ * {@link #compile(String, Map)}.
+ *
+ * @author Atanas Yordanov Arshinkov
+ * @since 1.4.0
+ */
+public final class CodePattern {
+
+  private static final Map<Character, Alphabet> PLACEHOLDERS;
+
+  static {
+    final Map<Character, Alphabet> placeholders = new HashMap<>();
+    placeholders.put('9', Alphabet.DIGITS);
+    placeholders.put('A', Alphabet.CAPITAL);
+    placeholders.put('a', Alphabet.LOWERCASE);
+    placeholders.put('L', Alphabet.LETTERS);
+    placeholders.put('X', Alphabet.of(true, true, false));
+    placeholders.put('x', Alphabet.of(true, false, true));
+    placeholders.put('*', Alphabet.ALPHANUMERIC);
+    placeholders.put('H', Alphabet.of("0123456789ABCDEF"));
+    placeholders.put('h', Alphabet.HEX);
+    PLACEHOLDERS = Collections.unmodifiableMap(placeholders);
+  }
+
+  private final String template;
+  private final char[] literals;
+  private final int[] positions;
+  private final Alphabet[] alphabets;
+  private final boolean ascii;
+
+  private CodePattern(String template, char[] literals, int[] positions, Alphabet[] alphabets) {
+    this.template = template;
+    this.literals = literals;
+    this.positions = positions;
+    this.alphabets = alphabets;
+
+    boolean onlyAscii = true;
+    for (char literal : literals) {
+      onlyAscii &= literal < 128;
+    }
+    for (Alphabet alphabet : alphabets) {
+      onlyAscii &= alphabet.isAscii();
+    }
+    this.ascii = onlyAscii;
+  }
+
+  /**
+   * Parses the given template with the standard placeholders.
+   *
+   * @param template the template of the codes
+   *
+   * @return the compiled pattern
+   */
+  public static CodePattern compile(String template) {
+    return compile(template, Collections.emptyMap());
+  }
+
+  /**
+   * Parses the given template with the standard placeholders and the given ones, which take precedence.
+   *
+   * @param template the template of the codes
+   * @param placeholders additional placeholders and the alphabets they stand for
+   *
+   * @return the compiled pattern
+   */
+  public static CodePattern compile(String template, Map<Character, Alphabet> placeholders) {
+
+    if (template == null) {
+      throw new IllegalArgumentException("Template must not be null");
+    }
+
+    if (placeholders == null) {
+      throw new IllegalArgumentException("Placeholders must not be null");
+    }
+
+    final char[] literals = new char[template.length()];
+    final int[] positions = new int[template.length()];
+    final Alphabet[] alphabets = new Alphabet[template.length()];
+    int length = 0;
+    int randomCount = 0;
+
+    for (int i = 0; i < template.length(); i++) {
+      char c = template.charAt(i);
+      if (c == '\\') {
+        if (++i == template.length()) {
+          throw new IllegalArgumentException("Template must not end with an escape character");
+        }
+        literals[length++] = template.charAt(i);
+        continue;
+      }
+
+      Alphabet alphabet = placeholders.get(c);
+      if (alphabet == null) {
+        alphabet = PLACEHOLDERS.get(c);
+      }
+      if (alphabet != null) {
+        positions[randomCount] = length;
+        alphabets[randomCount++] = alphabet;
+      }
+      literals[length++] = c;
+    }
+
+    return new CodePattern(template, Arrays.copyOf(literals, length), Arrays.copyOf(positions, randomCount),
+            Arrays.copyOf(alphabets, randomCount));
+  }
+
+  /**
+   * @return the length of every code as characters
+   */
+  public int length() {
+    return literals.length;
+  }
+
+  /**
+   * @return the count of random bits in every code, the base 2 logarithm of the count of possible codes
+   */
+  public double entropyBits() {
+    double bits = 0;
+    for (Alphabet alphabet : alphabets) {
+      bits += Math.log(alphabet.size()) / Math.log(2);
+    }
+    return bits;
+  }
+
+  /**
+   * @return true - if the literals and the alphabets contain only ASCII characters, so a code can be written as bytes
+   */
+  public boolean isAscii() {
+    return ascii;
+  }
+
+  /**
+   * @return the count of random positions in every code
+   */
+  int randomPositions() {
+    return positions.length;
+  }
+
+  /**
+   * Writes a random code into the given buffer.
+   *
+   * @param chars the buffer, with the length of the code
+   * @param entropy the source of random bytes
+   */
+  void fill(char[] chars, EntropyBuffer entropy) {
+    System.arraycopy(literals, 0, chars, 0, literals.length);
+    for (int i = 0; i < positions.length; i++) {
+      final Alphabet alphabet = alphabets[i];
+      chars[positions[i]] = alphabet.charAt(alphabet.nextIndex(entropy));
+    }
+  }
+
+  /**
+   * Writes a random code as ASCII bytes. The pattern must be {@link #isAscii() ASCII}.
+   *
+   * @param target the array to be written to
+   * @param offset the index of the first byte of the code
+   * @param entropy the source of random bytes
+   */
+  void fill(byte[] target, int offset, EntropyBuffer entropy) {
+    for (int i = 0; i < literals.length; i++) {
+      target[offset + i] = (byte) literals[i];
+    }
+    for (int i = 0; i < positions.length; i++) {
+      final Alphabet alphabet = alphabets[i];
+      target[offset + positions[i]] = (byte) alphabet.charAt(alphabet.nextIndex(entropy));
+    }
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof CodePattern)) {
+      return false;
+    }
+    final CodePattern other = (CodePattern) o;
+    return Arrays.equals(literals, other.literals) && Arrays.equals(positions, other.positions)
+            && Arrays.equals(alphabets, other.alphabets);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * Arrays.hashCode(literals) + Arrays.hashCode(alphabets);
+  }
+
+  @Override
+  public String toString() {
+    return template;
+  }
+}
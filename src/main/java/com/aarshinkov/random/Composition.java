@@ -0,0 +1,512 @@
+package com.aarshinkov.random;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable description of the character groups of a random string and the minimum count of characters from each
+ * group, for example "at least two digits and one special character".
+ * <br><br>
+ * The strings are generated in a single pass instead of regenerating them until the rules are met, and every valid
+ * string has the same probability. When only one group has a minimum, the count of its characters is drawn from its
+ * exact distribution and the positions of the groups are mixed with a Fisher-Yates shuffle. With minimums for several
+ * groups, every position is drawn with the exact probability that the rest of the string can still meet the minimums,
+ * until all of them are met, and the remaining positions are filled from all groups. Either way the generation takes
+ * O(length) steps.
+ * <br><br>
+ * The probabilities depend only on the count of remaining positions and on the missing characters of every group, so
+ * a composition computes them once and keeps them. They reach 1 within a few hundred positions for the usual groups,
+ * longer strings reuse the last ones.
+ *
+ * @author Atanas Yordanov Arshinkov
+ * @since 1.4.0
+ */
+public final class Composition {
+
+  /**
+   * The maximum count of combinations of missing characters of the groups with a minimum
+   */
+  public static final int MAX_DEFICITS = 1024;
+
+  /**
+   * Label of the positions which are filled from the rest of the characters
+   */
+  private static final byte REST = -1;
+
+  /**
+   * Relative weight below which the remaining counts are too unlikely to be drawn
+   */
+  private static final double NEGLIGIBLE = 0x1.0p-60;
+
+  /**
+   * Probability above which the minimums are treated as certainly met by the remaining positions
+   */
+  private static final double CERTAIN = 1 - 0x1.0p-50;
+
+  private static final Composition[] FLAG_COMPOSITIONS = {
+    null,
+    Builder.configure().lowercase(0).create(),
+    Builder.configure().capital(0).create(),
+    Builder.configure().capital(0).lowercase(0).create(),
+    Builder.configure().digits(1).create(),
+    Builder.configure().digits(1).lowercase(0).create(),
+    Builder.configure().digits(1).capital(0).create(),
+    Builder.configure().digits(1).capital(0).lowercase(0).create()
+  };
+
+  private final Alphabet[] groups;
+  private final int[] minimums;
+  private final int minimumLength;
+  private final int constrained;
+  private final char[] rest;
+
+  // The groups with a minimum, used when there are several of them
+  private final int[] required;
+  private final int[] strides;
+  private final double[] shares;
+  private final int allDeficits;
+  private final int size;
+
+  /**
+   * Row r holds for every combination of missing characters the probability that r random characters of all groups
+   * provide them. Extended on demand, until the probabilities reach 1.
+   */
+  private volatile double[][] completions;
+  private volatile boolean complete;
+
+  private Composition(Builder builder) {
+    this.groups = builder.groups.toArray(new Alphabet[0]);
+    this.minimums = new int[groups.length];
+
+    int sum = 0;
+    int characters = 0;
+    int constrainedGroups = 0;
+    for (int i = 0; i < groups.length; i++) {
+      minimums[i] = builder.minimums.get(i);
+      sum += minimums[i];
+      characters += groups[i].size();
+      if (minimums[i] > 0) {
+        constrainedGroups++;
+      }
+    }
+    this.minimumLength = sum;
+    this.size = characters;
+
+    this.required = new int[constrainedGroups];
+    this.strides = new int[constrainedGroups];
+    this.shares = new double[constrainedGroups];
+    int stride = 1;
+    for (int i = 0, c = 0; i < groups.length; i++) {
+      if (minimums[i] > 0) {
+        required[c] = i;
+        strides[c] = stride;
+        shares[c] = (double) groups[i].size() / size;
+        stride *= minimums[i] + 1;
+        c++;
+      }
+    }
+    this.allDeficits = stride - 1;
+
+    // A single group with a minimum has its count drawn exactly, the rest are the characters of the other groups
+    this.constrained = constrainedGroups == 1 ? required[0] : -1;
+
+    final StringBuilder rest = new StringBuilder();
+    for (int i = 0; i < groups.length; i++) {
+      if (i != constrained) {
+        for (int j = 0; j < groups[i].size(); j++) {
+          rest.append(groups[i].charAt(j));
+        }
+      }
+    }
+    this.rest = rest.toString().toCharArray();
+
+    final double[] none = new double[stride];
+    none[0] = 1;
+    this.completions = new double[][]{none};
+  }
+
+  /**
+   * Returns the composition for the given groups of characters, with at least one digit when the digits are included.
+   * Unlike {@link Randomy#generateRandomString(int, boolean, boolean, boolean)}, which always includes both groups of
+   * letters as in 1.0.0, the composition honours every flag.
+   *
+   * @param includeDigits marks if the strings should include digits, at least one of them
+   * @param includeCapital marks if the strings should include capital letters
+   * @param includeLowercase marks if the strings should include lowercase letters
+   *
+   * @return the precompiled composition
+   *
+   * @throws IllegalArgumentException if no group is included
+   */
+  public static Composition of(boolean includeDigits, boolean includeCapital, boolean includeLowercase) {
+
+    final Composition composition =
+            FLAG_COMPOSITIONS[(includeDigits ? 4 : 0) | (includeCapital ? 2 : 0) | (includeLowercase ? 1 : 0)];
+
+    if (composition == null) {
+      throw new IllegalArgumentException("At least one group of characters must be included");
+    }
+
+    return composition;
+  }
+
+  /**
+   * Used as a generator for new Composition objects.
+   *
+   * @since 1.4.0
+   */
+  public static class Builder {
+
+    private final List<Alphabet> groups = new ArrayList<>();
+    private final List<Integer> minimums = new ArrayList<>();
+
+    private Builder() {
+
+    }
+
+    /**
+     * Starts the configuration of a new composition. The configured object is built with {@link #create()}.
+     *
+     * @return new builder with no groups
+     */
+    public static Builder configure() {
+      return new Builder();
+    }
+
+    /**
+     * Includes the digits.
+     *
+     * @param minimum the minimum count of digits, 0 if there is no minimum
+     *
+     * @return this builder
+     */
+    public Builder digits(int minimum) {
+      return group(Alphabet.DIGITS, minimum);
+    }
+
+    /**
+     * Includes the capital letters.
+     *
+     * @param minimum the minimum count of capital letters, 0 if there is no minimum
+     *
+     * @return this builder
+     */
+    public Builder capital(int minimum) {
+      return group(Alphabet.CAPITAL, minimum);
+    }
+
+    /**
+     * Includes the lowercase letters.
+     *
+     * @param minimum the minimum count of lowercase letters, 0 if there is no minimum
+     *
+     * @return this builder
+     */
+    public Builder lowercase(int minimum) {
+      return group(Alphabet.LOWERCASE, minimum);
+    }
+
+    /**
+     * Includes the special characters.
+     *
+     * @param minimum the minimum count of special characters, 0 if there is no minimum
+     *
+     * @return this builder
+     */
+    public Builder special(int minimum) {
+      return group(Alphabet.SPECIAL, minimum);
+    }
+
+    /**
+     * Includes a custom group of characters. The group must not share characters with the other groups.
+     *
+     * @param group the characters of the group
+     * @param minimum the minimum count of characters from the group, 0 if there is no minimum
+     *
+     * @return this builder
+     */
+    public Builder group(Alphabet group, int minimum) {
+
+      if (group == null) {
+        throw new IllegalArgumentException("Group must not be null");
+      }
+
+      if (minimum < 0) {
+        throw new IllegalArgumentException("Minimum must not be negative");
+      }
+
+      if (groups.size() == Byte.MAX_VALUE) {
+        throw new IllegalArgumentException("A composition must not contain more than " + Byte.MAX_VALUE + " groups");
+      }
+
+      for (Alphabet other : groups) {
+        for (int i = 0; i < group.size(); i++) {
+          if (other.contains(group.charAt(i))) {
+            throw new IllegalArgumentException("The groups must not share characters: " + group.charAt(i));
+          }
+        }
+      }
+
+      groups.add(group);
+      minimums.add(minimum);
+      return this;
+    }
+
+    /**
+     * Builds a new composition with the configured groups
+     *
+     * @return new instance of the Composition object
+     *
+     * @throws IllegalArgumentException if no group is included, or if the groups with a minimum allow more than
+     * {@value #MAX_DEFICITS} combinations of missing characters
+     */
+    public Composition create() {
+
+      if (groups.isEmpty()) {
+        throw new IllegalArgumentException("At least one group of characters must be included");
+      }
+
+      long deficits = 1;
+      for (int minimum : minimums) {
+        deficits *= minimum + 1;
+        if (deficits > MAX_DEFICITS) {
+          throw new IllegalArgumentException("The minimums of a composition must not allow more than " + MAX_DEFICITS
+                  + " combinations of missing characters");
+        }
+      }
+
+      return new Composition(this);
+    }
+  }
+
+  /**
+   * @return the shortest length which can satisfy all minimums
+   */
+  public int minimumLength() {
+    return minimumLength;
+  }
+
+  /**
+   * Fills the given characters with a random valid string.
+   *
+   * @param chars the characters to be filled, the whole array is used
+   * @param labels scratch array with at least the same length as the characters
+   * @param entropy the source of random bytes
+   */
+  void fill(char[] chars, byte[] labels, EntropyBuffer entropy) {
+    final int length = chars.length;
+
+    if (length < minimumLength) {
+      throw new IllegalArgumentException("Length must be at least " + minimumLength + " to satisfy the composition");
+    }
+
+    if (constrained < 0) {
+      fillSequentially(chars, entropy);
+      return;
+    }
+
+    int position = 0;
+    int count = length;
+    if (rest.length > 0) {
+      final double share = (double) groups[constrained].size() / size;
+      count = drawCount(length, minimums[constrained], share, entropy.nextDouble());
+    }
+    while (position < count) {
+      labels[position++] = (byte) constrained;
+    }
+    while (position < length) {
+      labels[position++] = REST;
+    }
+
+    // Fisher-Yates shuffle of the group positions
+    for (int i = length - 1; i > 0; i--) {
+      int j = entropy.nextInt(i + 1);
+      byte label = labels[i];
+      labels[i] = labels[j];
+      labels[j] = label;
+    }
+
+    for (int i = 0; i < length; i++) {
+      if (labels[i] == REST) {
+        chars[i] = rest[entropy.nextInt(rest.length)];
+      } else {
+        final Alphabet group = groups[labels[i]];
+        chars[i] = group.charAt(group.nextIndex(entropy));
+      }
+    }
+  }
+
+  /**
+   * Draws the positions one by one while some minimum is not met. A position holds a character of a group with
+   * missing characters, or any other character, with the probability that the rest of the string can still provide
+   * what is missing afterwards.
+   */
+  private void fillSequentially(char[] chars, EntropyBuffer entropy) {
+    final int length = chars.length;
+    int deficits = allDeficits;
+    int position = 0;
+
+    while (deficits != 0) {
+      final int remaining = length - position - 1;
+      double uniform = entropy.nextDouble() * completion(remaining + 1, deficits);
+
+      int chosen = -1;
+      double otherShare = 1;
+      for (int c = 0; c < required.length; c++) {
+        if (deficits / strides[c] % (minimums[required[c]] + 1) == 0) {
+          continue;
+        }
+        otherShare -= shares[c];
+        final double weight = shares[c] * completion(remaining, deficits - strides[c]);
+        if (weight > 0) {
+          // Rounding errors fall back to the last possible group
+          chosen = c;
+          uniform -= weight;
+          if (uniform < 0) {
+            break;
+          }
+        }
+      }
+
+      if (uniform >= 0 && otherShare > 0 && completion(remaining, deficits) > 0) {
+        chars[position++] = otherCharacter(deficits, entropy);
+        continue;
+      }
+
+      final Alphabet group = groups[required[chosen]];
+      chars[position++] = group.charAt(group.nextIndex(entropy));
+      deficits -= strides[chosen];
+    }
+
+    while (position < length) {
+      chars[position++] = rest[entropy.nextInt(rest.length)];
+    }
+  }
+
+  /**
+   * @return random character of the groups which have no missing characters
+   */
+  private char otherCharacter(int deficits, EntropyBuffer entropy) {
+    int available = size;
+    for (int c = 0; c < required.length; c++) {
+      if (deficits / strides[c] % (minimums[required[c]] + 1) != 0) {
+        available -= groups[required[c]].size();
+      }
+    }
+
+    int index = entropy.nextInt(available);
+    for (int i = 0, c = 0; i < groups.length; i++) {
+      final boolean missing = c < required.length && required[c] == i
+              && deficits / strides[c++] % (minimums[i] + 1) != 0;
+      if (missing) {
+        continue;
+      }
+      if (index < groups[i].size()) {
+        return groups[i].charAt(index);
+      }
+      index -= groups[i].size();
+    }
+    throw new IllegalStateException("No character is available");
+  }
+
+  /**
+   * @param positions the count of random positions
+   * @param deficits the combination of missing characters
+   *
+   * @return the probability that the given count of random characters of all groups provide the missing characters
+   */
+  private double completion(int positions, int deficits) {
+    double[][] rows = completions;
+    if (positions >= rows.length) {
+      rows = complete ? completions : extendCompletions(positions);
+    }
+    return positions < rows.length ? rows[positions][deficits] : 1;
+  }
+
+  private synchronized double[][] extendCompletions(int positions) {
+    double[][] rows = completions;
+    if (positions < rows.length || complete) {
+      return rows;
+    }
+
+    final double[][] extended = Arrays.copyOf(rows, Math.max(positions + 1, rows.length * 2));
+    int count = rows.length;
+    boolean certain = false;
+    while (count < extended.length && !certain) {
+      final double[] previous = extended[count - 1];
+      final double[] row = new double[previous.length];
+      for (int deficits = 0; deficits < row.length; deficits++) {
+        double probability = 0;
+        double otherShare = 1;
+        for (int c = 0; c < required.length; c++) {
+          if (deficits / strides[c] % (minimums[required[c]] + 1) != 0) {
+            otherShare -= shares[c];
+            probability += shares[c] * previous[deficits - strides[c]];
+          }
+        }
+        row[deficits] = probability + Math.max(0, otherShare) * previous[deficits];
+      }
+      extended[count++] = row;
+      certain = row[allDeficits] >= CERTAIN;
+    }
+
+    rows = Arrays.copyOf(extended, count);
+    completions = rows;
+    complete = certain;
+    return rows;
+  }
+
+  /**
+   * Draws the count of characters of a group from the binomial distribution, limited to the counts which meet the
+   * minimum. The weights of the counts are built from the most likely count outwards with the ratio of neighbouring
+   * probabilities, which stops once they become negligible.
+   *
+   * @param length the count of positions
+   * @param minimum the minimum count of characters of the group
+   * @param share the probability of a position to hold a character of the group, below 1
+   * @param uniform random number between 0 (inclusive) and 1 (exclusive)
+   *
+   * @return the count of characters of the group
+   */
+  private static int drawCount(int length, int minimum, double share, double uniform) {
+    final double odds = share / (1 - share);
+    final int mode = Math.max(minimum, Math.min(length, (int) ((length + 1) * share)));
+
+    double total = 1;
+    double weight = 1;
+    for (int count = mode; count < length && weight > total * NEGLIGIBLE; count++) {
+      weight *= (length - count) / (count + 1.0) * odds;
+      total += weight;
+    }
+    weight = 1;
+    for (int count = mode; count > minimum && weight > total * NEGLIGIBLE; count--) {
+      weight *= count / ((length - count + 1.0) * odds);
+      total += weight;
+    }
+
+    // Walks the counts in the same order until the uniform number is used up
+    double remaining = uniform * total - 1;
+    if (remaining < 0) {
+      return mode;
+    }
+    weight = 1;
+    for (int count = mode; count < length && weight > total * NEGLIGIBLE; count++) {
+      weight *= (length - count) / (count + 1.0) * odds;
+      remaining -= weight;
+      if (remaining < 0) {
+        return count + 1;
+      }
+    }
+    weight = 1;
+    for (int count = mode; count > minimum && weight > total * NEGLIGIBLE; count--) {
+      weight *= count / ((length - count + 1.0) * odds);
+      remaining -= weight;
+      if (remaining < 0) {
+        return count - 1;
+      }
+    }
+    // Rounding errors only
+    return mode;
+  }
+}
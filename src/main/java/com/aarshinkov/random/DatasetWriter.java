@@ -0,0 +1,316 @@
+package com.aarshinkov.random;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Writes large datasets of random records straight into files. The records of a {@link RecordSchema} have a fixed
+ * length, so the file is split into independent regions which are memory-mapped and filled in parallel. A generator
+ * which is not thread safe, such as the {@link RandomEngine#SPLITTABLE splittable} one, is split for every region,
+ * thread safe generators such as the secure one are shared by the regions. The records are generated as bytes into a
+ * reusable block and copied into the mapped region, without creating any String or other object per record.
+ * <br><br>
+ * With a {@link Randomy.Builder#seed(long) seeded} randomy object the records are generated in fixed blocks of up to
+ * 64 KB. Every block is generated from the seeded {@link Randomy#record(long) record} with the index of the block, so
+ * the same seed and record range give the same file whatever the parallelism and the order of the threads are.
+ * <br><br>
+ * The mapped regions are not unmapped when a write returns, since Java has no supported way to release a mapping.
+ * They are released when the garbage collector collects them, so until then the file stays mapped and, on Windows,
+ * cannot be deleted or truncated.
+ *
+ * @author Atanas Yordanov Arshinkov
+ * @since 1.4.0
+ */
+public final class DatasetWriter {
+
+  private static final int BLOCK_BYTES = 1 << 16;
+  private static final long MAX_REGION_BYTES = 1L << 28;
+
+  private final Randomy randomy;
+  private final RecordSchema schema;
+  private final int parallelism;
+
+  private DatasetWriter(Builder builder) {
+    this.randomy = builder.randomy;
+    this.schema = builder.schema;
+    this.parallelism = builder.parallelism;
+  }
+
+  /**
+   * Used as a generator for new DatasetWriter objects.
+   *
+   * @since 1.4.0
+   */
+  public static class Builder {
+
+    private final Randomy randomy;
+    private final RecordSchema schema;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    private Builder(Randomy randomy, RecordSchema schema) {
+      this.randomy = randomy;
+      this.schema = schema;
+    }
+
+    /**
+     * Starts the configuration of a new writer. The configured object is built with {@link #create()}. By default the
+     * writer uses a thread per available processor.
+     *
+     * @param randomy the randomy object which provides the random bits
+     * @param schema the layout of the records
+     *
+     * @return new builder with the default settings
+     */
+    public static Builder configure(Randomy randomy, RecordSchema schema) {
+
+      if (randomy == null) {
+        throw new IllegalArgumentException("Randomy must not be null");
+      }
+
+      if (schema == null) {
+        throw new IllegalArgumentException("Schema must not be null");
+      }
+
+      return new Builder(randomy, schema);
+    }
+
+    /**
+     * @param parallelism the maximum count of threads which write regions of a file at the same time
+     *
+     * @return this builder
+     */
+    public Builder parallelism(int parallelism) {
+
+      if (parallelism <= 0) {
+        throw new IllegalArgumentException("Parallelism must be positive");
+      }
+
+      this.parallelism = parallelism;
+      return this;
+    }
+
+    /**
+     * Builds a new writer with the configured settings
+     *
+     * @return new instance of the DatasetWriter object
+     */
+    public DatasetWriter create() {
+      return new DatasetWriter(this);
+    }
+  }
+
+  /**
+   * Creates or replaces the given file with the given count of random records.
+   *
+   * @param file the file to be written
+   * @param records the count of records
+   *
+   * @return the size of the file in bytes
+   *
+   * @throws IOException if the file cannot be written
+   */
+  public long write(Path file, long records) throws IOException {
+
+    if (file == null) {
+      throw new IllegalArgumentException("File must not be null");
+    }
+
+    checkRecords(0, records);
+
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      return write(channel, 0, 0, records);
+    }
+  }
+
+  /**
+   * Writes the records with the given indexes into the given channel, starting at the given position. The channel is
+   * extended if needed, the bytes around the written part are not changed.
+   *
+   * @param channel the channel to be written, opened for reading and writing
+   * @param position the position of the first record in the channel
+   * @param from the index of the first record, inclusive
+   * @param to the index of the last record, exclusive
+   *
+   * @return the count of written bytes
+   *
+   * @throws IOException if the channel cannot be written
+   */
+  public long write(FileChannel channel, long position, long from, long to) throws IOException {
+
+    if (channel == null) {
+      throw new IllegalArgumentException("Channel must not be null");
+    }
+
+    if (position < 0) {
+      throw new IllegalArgumentException("Position must not be negative");
+    }
+
+    checkRecords(from, to);
+
+    final int recordLength = schema.recordLength();
+    final long bytes = Math.multiplyExact(to - from, (long) recordLength);
+    if (bytes == 0) {
+      return 0;
+    }
+
+    // A region per thread, at most MAX_REGION_BYTES each. The regions are multiples of the blocks, so a block of a
+    // seeded writer is never split between two threads
+    final long blockRecords = blockRecords();
+    final long maxRegionRecords = Math.max(1, MAX_REGION_BYTES / recordLength / blockRecords) * blockRecords;
+    final long regionBlocks = ((to - from + parallelism - 1) / parallelism + blockRecords - 1) / blockRecords;
+    final long regionRecords = Math.min(maxRegionRecords, regionBlocks * blockRecords);
+
+    final List<Callable<Void>> regions = new ArrayList<>();
+    for (long start = from; start < to; start = (start / regionRecords + 1) * regionRecords) {
+      final long regionStart = start;
+      final long regionEnd = Math.min(to, (start / regionRecords + 1) * regionRecords);
+      final Random random = randomy.isSeeded() ? null : randomy.fork();
+      regions.add(() -> {
+        final MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_WRITE,
+                position + (regionStart - from) * recordLength, (regionEnd - regionStart) * recordLength);
+        write(region, regionStart, regionEnd, random);
+        return null;
+      });
+    }
+
+    if (regions.size() == 1 || parallelism == 1) {
+      for (Callable<Void> region : regions) {
+        call(region);
+      }
+      return bytes;
+    }
+
+    final ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, regions.size()), runnable -> {
+      final Thread thread = new Thread(runnable, "randomy-dataset-writer");
+      thread.setDaemon(true);
+      return thread;
+    });
+    try {
+      for (Future<Void> future : executor.invokeAll(regions)) {
+        await(future);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while writing the dataset", e);
+    } finally {
+      executor.shutdownNow();
+    }
+    return bytes;
+  }
+
+  /**
+   * Fills the remaining bytes of the given buffer, such as a region of a memory-mapped file, with as many whole
+   * records as fit, starting with the record with the given index. The position of the buffer is advanced past the
+   * written records.
+   *
+   * @param target the buffer to be filled
+   * @param from the index of the first record
+   *
+   * @return the count of written records
+   */
+  public int write(ByteBuffer target, long from) {
+
+    if (target == null) {
+      throw new IllegalArgumentException("Target buffer must not be null");
+    }
+
+    final long records = target.remaining() / schema.recordLength();
+    checkRecords(from, from + records);
+
+    write(target, from, from + records, randomy.isSeeded() ? null : randomy.fork());
+    return (int) records;
+  }
+
+  /**
+   * @return the layout of the written records
+   */
+  public RecordSchema schema() {
+    return schema;
+  }
+
+  /**
+   * Writes the records with the given indexes into the buffer, block by block.
+   *
+   * @param target the buffer to be written, with enough remaining bytes
+   * @param from the index of the first record, inclusive
+   * @param to the index of the last record, exclusive
+   * @param random the generator of the records, or null if every block uses the generator of its seeded record
+   */
+  private void write(ByteBuffer target, long from, long to, Random random) {
+    final int recordLength = schema.recordLength();
+    final long blockRecords = blockRecords();
+    final byte[] block = new byte[(int) blockRecords * recordLength];
+    EntropyBuffer entropy = random == null ? null : new EntropyBuffer(random, (to - from) * recordLength);
+
+    for (long blockStart = from - from % blockRecords; blockStart < to; blockStart += blockRecords) {
+      if (random == null) {
+        entropy = new EntropyBuffer(randomy.record(blockStart / blockRecords).random(), EntropyBuffer.BLOCK_SIZE);
+        // The records of the block before the range are generated and dropped, so the rest match a full block
+        for (long i = blockStart; i < from; i++) {
+          schema.write(block, 0, entropy);
+        }
+      }
+
+      final long start = Math.max(from, blockStart);
+      final int count = (int) (Math.min(to, blockStart + blockRecords) - start);
+      for (int i = 0; i < count; i++) {
+        schema.write(block, i * recordLength, entropy);
+      }
+      target.put(block, 0, count * recordLength);
+    }
+  }
+
+  /**
+   * @return the count of records in a block, which fills up to {@link #BLOCK_BYTES}
+   */
+  private long blockRecords() {
+    return Math.max(1, BLOCK_BYTES / schema.recordLength());
+  }
+
+  private static void call(Callable<Void> region) throws IOException {
+    try {
+      region.call();
+    } catch (IOException | RuntimeException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new IOException(e);
+    }
+  }
+
+  private static void await(Future<Void> future) throws IOException, InterruptedException {
+    try {
+      future.get();
+    } catch (ExecutionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      }
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new IOException(cause);
+    }
+  }
+
+  private static void checkRecords(long from, long to) {
+    if (from < 0 || from > to) {
+      throw new IllegalArgumentException("The record range must satisfy 0 <= from <= to");
+    }
+  }
+}
@@ -0,0 +1,182 @@
+package com.aarshinkov.random;
+
+import java.util.Random;
+
+/**
+ * Block of random bytes which is refilled from the random generator with one call when it is exhausted. Not thread
+ * safe, every generation call uses its own buffer.
+ * <br><br>
+ * The buffer is a {@link Random} itself, so the same sampling code serves both the direct and the buffered
+ * generation.
+ *
+ * @author Atanas Yordanov Arshinkov
+ * @since 1.4.0
+ */
+final class EntropyBuffer extends Random {
+
+  private static final long serialVersionUID = 1L;
+
+  static final int BLOCK_SIZE = 1024;
+
+  private final Random random;
+  private final transient RandomyMetrics metrics;
+  private final byte[] block;
+  private int position;
+
+  /**
+   * @param random the generator which fills the buffer
+   * @param expectedBytes the count of bytes the caller expects to consume, used to size the buffer
+   */
+  EntropyBuffer(Random random, long expectedBytes) {
+    // The seed is never used, a constant avoids the shared seed uniquifier of Random
+    super(0L);
+    this.random = random;
+    this.metrics = MeteredRandom.metricsOf(random);
+    this.block = new byte[(int) Math.max(8, Math.min(BLOCK_SIZE, expectedBytes + (expectedBytes >> 2)))];
+    this.position = block.length;
+  }
+
+  @Override
+  public synchronized void setSeed(long seed) {
+    // The bytes come from the underlying generator
+  }
+
+  /**
+   * @return the metrics of the generator which fills the buffer, or null if it is not measured
+   */
+  RandomyMetrics metrics() {
+    return metrics;
+  }
+
+  /**
+   * @return the next random byte as an unsigned value between 0 and 255
+   */
+  int nextByte() {
+    if (position == block.length) {
+      random.nextBytes(block);
+      position = 0;
+    }
+    return block[position++] & 0xFF;
+  }
+
+  /**
+   * Returns an unbiased random index. Bytes which fall into the incomplete last cycle of the bound are rejected.
+   *
+   * @param bound the upper bound (exclusive), must be between 1 and 256
+   *
+   * @return random number between 0 (inclusive) and bound (exclusive)
+   */
+  int nextIndex(int bound) {
+    return nextIndex(bound, 256 - (256 % bound));
+  }
+
+  /**
+   * Returns an unbiased random index using a precomputed rejection threshold.
+   *
+   * @param bound the upper bound (exclusive), must be between 1 and 256
+   * @param threshold the largest multiple of the bound which is not greater than 256
+   *
+   * @return random number between 0 (inclusive) and bound (exclusive)
+   */
+  int nextIndex(int bound, int threshold) {
+    int value = nextByte();
+    while (value >= threshold) {
+      if (metrics != null) {
+        metrics.recordRetry();
+      }
+      value = nextByte();
+    }
+    return value % bound;
+  }
+
+  @Override
+  protected int next(int bits) {
+    return nextInt() >>> (32 - bits);
+  }
+
+  /**
+   * @return random int built from the next four bytes
+   */
+  @Override
+  public int nextInt() {
+    if (block.length - position >= 4) {
+      final int value = (block[position] & 0xFF) << 24 | (block[position + 1] & 0xFF) << 16
+              | (block[position + 2] & 0xFF) << 8 | (block[position + 3] & 0xFF);
+      position += 4;
+      return value;
+    }
+    return nextByte() << 24 | nextByte() << 16 | nextByte() << 8 | nextByte();
+  }
+
+  /**
+   * @return random long built from the next eight bytes
+   */
+  @Override
+  public long nextLong() {
+    return (long) nextInt() << 32 | (nextInt() & 0xFFFFFFFFL);
+  }
+
+  /**
+   * @return random double between 0 (inclusive) and 1 (exclusive) with 53 random bits
+   */
+  @Override
+  public double nextDouble() {
+    return (nextLong() >>> 11) * 0x1.0p-53;
+  }
+
+  @Override
+  public boolean nextBoolean() {
+    return (nextByte() & 1) != 0;
+  }
+
+  /**
+   * Returns an unbiased random number for any positive bound. Bounds up to 256 use a single byte.
+   *
+   * @param bound the upper bound (exclusive), must be positive
+   *
+   * @return random number between 0 (inclusive) and bound (exclusive)
+   */
+  @Override
+  public int nextInt(int bound) {
+    if (bound <= 0) {
+      throw new IllegalArgumentException("Bound must be positive");
+    }
+    if (bound <= 256) {
+      return nextIndex(bound);
+    }
+    int bits = nextInt() >>> 1;
+    int value = bits % bound;
+    while (bits - value + (bound - 1) < 0) {
+      if (metrics != null) {
+        metrics.recordRetry();
+      }
+      bits = nextInt() >>> 1;
+      value = bits % bound;
+    }
+    return value;
+  }
+
+  @Override
+  public void nextBytes(byte[] bytes) {
+    nextBytes(bytes, 0, bytes.length);
+  }
+
+  /**
+   * @param bytes the array to be filled
+   * @param offset the index of the first byte to be filled
+   * @param length the count of bytes to be filled
+   */
+  void nextBytes(byte[] bytes, int offset, int length) {
+    final int end = offset + length;
+    while (offset < end) {
+      if (position == block.length) {
+        random.nextBytes(block);
+        position = 0;
+      }
+      final int count = Math.min(end - offset, block.length - position);
+      System.arraycopy(block, position, bytes, offset, count);
+      position += count;
+      offset += count;
+    }
+  }
+}
@@ -0,0 +1,96 @@
+package com.aarshinkov.random;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Java Flight Recorder events of the library. The events are recorded only while a recording enables them. On a
+ * runtime without the {@code jdk.jfr} module the calls do nothing, the event classes are never loaded.
+ *
+ * @author Atanas Yordanov Arshinkov
+ * @since 1.4.0
+ */
+final class FlightRecorderEvents {
+
+  private static final boolean AVAILABLE = isAvailable();
+
+  private FlightRecorderEvents() {
+
+  }
+
+  private static boolean isAvailable() {
+    try {
+      Class.forName("jdk.jfr.Event", false, FlightRecorderEvents.class.getClassLoader());
+      return true;
+    } catch (ClassNotFoundException | LinkageError e) {
+      return false;
+    }
+  }
+
+  /**
+   * @param operation the name of the slow method
+   * @param nanos the duration of the call
+   */
+  static void slowGeneration(String operation, long nanos) {
+    if (AVAILABLE) {
+      SlowGeneration.emit(operation, nanos);
+    }
+  }
+
+  /**
+   * @param algorithm the algorithm of the seeded generator
+   * @param nanos the duration of the seeding
+   */
+  static void seeding(String algorithm, long nanos) {
+    if (AVAILABLE) {
+      Seeding.emit(algorithm, nanos);
+    }
+  }
+
+  @Name("com.aarshinkov.random.SlowGeneration")
+  @Label("Slow Random Generation")
+  @Category("Randomy")
+  static final class SlowGeneration extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Generation Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long generationTime;
+
+    private static void emit(String operation, long nanos) {
+      final SlowGeneration event = new SlowGeneration();
+      if (event.isEnabled()) {
+        event.operation = operation;
+        event.generationTime = nanos;
+        event.commit();
+      }
+    }
+  }
+
+  @Name("com.aarshinkov.random.Seeding")
+  @Label("Random Generator Seeding")
+  @Category("Randomy")
+  static final class Seeding extends Event {
+
+    @Label("Algorithm")
+    String algorithm;
+
+    @Label("Seeding Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long seedingTime;
+
+    private static void emit(String algorithm, long nanos) {
+      final Seeding event = new Seeding();
+      if (event.isEnabled()) {
+        event.algorithm = algorithm;
+        event.seedingTime = nanos;
+        event.commit();
+      }
+    }
+  }
+}
@@ -0,0 +1,312 @@
+package com.aarshinkov.random;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.UUID;
+
+/**
+ * Generates standard unique IDs: random UUIDs (version 4), time-ordered UUIDs (version 7, RFC 9562) and ULIDs. Every
+ * thread draws the random bits from a block of random bytes of its own, so the generator of the randomy object is
+ * called once per many IDs and the threads do not compete for it. Generators which are not thread safe, such as the
+ * {@link RandomEngine#SPLITTABLE splittable} engine or a seeded randomy object, are split for every thread.
+ * <br><br>
+ * In monotonic mode the time-ordered IDs generated within the same millisecond are strictly increasing: the random bits
+ * of the previous ID are incremented instead of drawn again. When the clock goes backwards, the timestamp of the
+ * previous ID is kept and its random bits are incremented in the same way. The timestamp is advanced by one
+ * millisecond only when the random bits overflow, so it runs ahead of the clock until the clock catches up.
+ * <br><br>
+ * The IDs are available as objects and strings, or as pairs of longs (the most significant bits first) which are
+ * written into arrays, without creating any object.
+ *
+ * @author Atanas Yordanov Arshinkov
+ * @since 1.4.0
+ */
+public final class IdGenerator {
+
+  private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] CROCKFORD = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".getBytes(StandardCharsets.US_ASCII);
+
+  private static final long MAX_TIMESTAMP = (1L << 48) - 1;
+  private static final long RAND_B_MASK = (1L << 62) - 1;
+
+  private final Clock clock;
+  private final boolean monotonic;
+  private final ThreadLocal<EntropyBuffer> entropy;
+
+  // The state of the monotonic mode, guarded by this
+  private long lastV7Millis = -1;
+  private long lastV7High;
+  private long lastV7Low;
+  private long lastUlidMillis = -1;
+  private long lastUlidHigh;
+  private long lastUlidLow;
+
+  private IdGenerator(Builder builder) {
+    final Randomy randomy = builder.randomy;
+    this.clock = builder.clock;
+    this.monotonic = builder.monotonic;
+    // A generator which is not thread safe is split for every thread, so the blocks of two threads never overlap
+    this.entropy = ThreadLocal.withInitial(() -> new EntropyBuffer(randomy.fork(), EntropyBuffer.BLOCK_SIZE));
+  }
+
+  /**
+   * Used as a generator for new IdGenerator objects.
+   *
+   * @since 1.4.0
+   */
+  public static class Builder {
+
+    private final Randomy randomy;
+    private Clock clock = Clock.systemUTC();
+    private boolean monotonic;
+
+    private Builder(Randomy randomy) {
+      this.randomy = randomy;
+    }
+
+    /**
+     * Starts the configuration of a new generator. The configured object is built with {@link #create()}. By default
+     * the generator uses the system clock and is not monotonic.
+     *
+     * @param randomy the randomy object which provides the random bits
+     *
+     * @return new builder with the default settings
+     */
+    public static Builder configure(Randomy randomy) {
+
+      if (randomy == null) {
+        throw new IllegalArgumentException("Randomy must not be null");
+      }
+
+      return new Builder(randomy);
+    }
+
+    /**
+     * Makes the time-ordered IDs strictly increasing, also within the same millisecond.
+     *
+     * @return this builder
+     */
+    public Builder monotonic() {
+      this.monotonic = true;
+      return this;
+    }
+
+    /**
+     * @param clock the clock which gives the timestamps of the time-ordered IDs
+     *
+     * @return this builder
+     */
+    public Builder clock(Clock clock) {
+
+      if (clock == null) {
+        throw new IllegalArgumentException("Clock must not be null");
+      }
+
+      this.clock = clock;
+      return this;
+    }
+
+    /**
+     * Builds a new generator with the configured settings
+     *
+     * @return new instance of the IdGenerator object
+     */
+    public IdGenerator create() {
+      return new IdGenerator(this);
+    }
+  }
+
+  /**
+   * @return new random UUID (version 4)
+   */
+  public UUID randomUuid() {
+    final EntropyBuffer buffer = entropy.get();
+    return new UUID(v4High(buffer.nextLong()), v4Low(buffer.nextLong()));
+  }
+
+  /**
+   * @return new time-ordered UUID (version 7)
+   */
+  public UUID timeOrderedUuid() {
+    final long[] pair = new long[2];
+    timeOrderedUuids(pair);
+    return new UUID(pair[0], pair[1]);
+  }
+
+  /**
+   * @return new ULID as a string of 26 characters
+   */
+  public String ulid() {
+    final long[] pair = new long[2];
+    ulids(pair);
+    return formatUlid(pair[0], pair[1]);
+  }
+
+  /**
+   * Fills the given array with the bits of random UUIDs (version 4). Every UUID takes two elements: the most and the
+   * least significant bits.
+   *
+   * @param target the array to be filled, with an even length
+   */
+  public void randomUuids(long[] target) {
+    checkPairs(target);
+    final EntropyBuffer buffer = entropy.get();
+    for (int i = 0; i < target.length; i += 2) {
+      target[i] = v4High(buffer.nextLong());
+      target[i + 1] = v4Low(buffer.nextLong());
+    }
+  }
+
+  /**
+   * Fills the given array with the bits of time-ordered UUIDs (version 7). Every UUID takes two elements: the most and
+   * the least significant bits.
+   *
+   * @param target the array to be filled, with an even length
+   */
+  public void timeOrderedUuids(long[] target) {
+    checkPairs(target);
+    final EntropyBuffer buffer = entropy.get();
+    final long now = timestamp();
+
+    if (!monotonic) {
+      for (int i = 0; i < target.length; i += 2) {
+        target[i] = now << 16 | 0x7000L | (buffer.nextLong() & 0xFFFL);
+        target[i + 1] = (buffer.nextLong() & RAND_B_MASK) | Long.MIN_VALUE;
+      }
+      return;
+    }
+
+    synchronized (this) {
+      for (int i = 0; i < target.length; i += 2) {
+        if (now > lastV7Millis) {
+          lastV7Millis = now;
+          lastV7High = buffer.nextLong() & 0xFFFL;
+          lastV7Low = buffer.nextLong() & RAND_B_MASK;
+        } else {
+          // The 74 random bits are incremented as one counter
+          lastV7Low = (lastV7Low + 1) & RAND_B_MASK;
+          if (lastV7Low == 0) {
+            lastV7High = (lastV7High + 1) & 0xFFFL;
+            if (lastV7High == 0) {
+              lastV7Millis++;
+            }
+          }
+        }
+        target[i] = lastV7Millis << 16 | 0x7000L | lastV7High;
+        target[i + 1] = lastV7Low | Long.MIN_VALUE;
+      }
+    }
+  }
+
+  /**
+   * Fills the given array with the bits of ULIDs. Every ULID takes two elements: the most significant bits, which
+   * start with the 48 bits of the timestamp, and the least significant bits.
+   *
+   * @param target the array to be filled, with an even length
+   *
+   * @see #formatUlid(long, long)
+   */
+  public void ulids(long[] target) {
+    checkPairs(target);
+    final EntropyBuffer buffer = entropy.get();
+    final long now = timestamp();
+
+    if (!monotonic) {
+      for (int i = 0; i < target.length; i += 2) {
+        target[i] = now << 16 | (buffer.nextLong() & 0xFFFFL);
+        target[i + 1] = buffer.nextLong();
+      }
+      return;
+    }
+
+    synchronized (this) {
+      for (int i = 0; i < target.length; i += 2) {
+        if (now > lastUlidMillis) {
+          lastUlidMillis = now;
+          lastUlidHigh = buffer.nextLong() & 0xFFFFL;
+          lastUlidLow = buffer.nextLong();
+        } else {
+          // The 80 random bits are incremented as one counter
+          if (++lastUlidLow == 0) {
+            lastUlidHigh = (lastUlidHigh + 1) & 0xFFFFL;
+            if (lastUlidHigh == 0) {
+              lastUlidMillis++;
+            }
+          }
+        }
+        target[i] = lastUlidMillis << 16 | lastUlidHigh;
+        target[i + 1] = lastUlidLow;
+      }
+    }
+  }
+
+  /**
+   * Formats the bits of a UUID in the standard form of 36 characters, like {@link UUID#toString()}.
+   *
+   * @param mostSignificantBits the most significant bits of the UUID
+   * @param leastSignificantBits the least significant bits of the UUID
+   *
+   * @return the UUID as a string of lowercase hexadecimal digits and dashes
+   */
+  public static String formatUuid(long mostSignificantBits, long leastSignificantBits) {
+    final byte[] chars = new byte[36];
+    hex(chars, 0, mostSignificantBits >>> 32, 8);
+    chars[8] = '-';
+    hex(chars, 9, mostSignificantBits >>> 16, 4);
+    chars[13] = '-';
+    hex(chars, 14, mostSignificantBits, 4);
+    chars[18] = '-';
+    hex(chars, 19, leastSignificantBits >>> 48, 4);
+    chars[23] = '-';
+    hex(chars, 24, leastSignificantBits, 12);
+    return new String(chars, StandardCharsets.ISO_8859_1);
+  }
+
+  /**
+   * Formats the bits of a ULID as 26 characters of Crockford's base32.
+   *
+   * @param mostSignificantBits the most significant bits of the ULID
+   * @param leastSignificantBits the least significant bits of the ULID
+   *
+   * @return the ULID as a string
+   */
+  public static String formatUlid(long mostSignificantBits, long leastSignificantBits) {
+    final byte[] chars = new byte[26];
+    // 130 bits of characters for 128 bits, so the first character takes the top 3 bits
+    chars[0] = CROCKFORD[(int) (mostSignificantBits >>> 61)];
+    for (int i = 1; i < 13; i++) {
+      chars[i] = CROCKFORD[(int) (mostSignificantBits >>> (61 - 5 * i)) & 31];
+    }
+    // The 14th character takes the last bit of the high word and the first 4 bits of the low word
+    chars[13] = CROCKFORD[(int) ((mostSignificantBits & 1) << 4 | leastSignificantBits >>> 60)];
+    for (int i = 14; i < 26; i++) {
+      chars[i] = CROCKFORD[(int) (leastSignificantBits >>> (60 - 5 * (i - 13))) & 31];
+    }
+    return new String(chars, StandardCharsets.ISO_8859_1);
+  }
+
+  private long timestamp() {
+    return clock.millis() & MAX_TIMESTAMP;
+  }
+
+  private static long v4High(long bits) {
+    return bits & ~0xF000L | 0x4000L;
+  }
+
+  private static long v4Low(long bits) {
+    return bits & 0x3FFFFFFFFFFFFFFFL | Long.MIN_VALUE;
+  }
+
+  private static void hex(byte[] chars, int offset, long value, int digits) {
+    for (int i = offset + digits - 1; i >= offset; i--) {
+      chars[i] = HEX[(int) value & 15];
+      value >>>= 4;
+    }
+  }
+
+  private static void checkPairs(long[] target) {
+    if (target == null || (target.length & 1) != 0) {
+      throw new IllegalArgumentException("Target array must not be null and must have an even length");
+    }
+  }
+}
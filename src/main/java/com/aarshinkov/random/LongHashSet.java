@@ -0,0 +1,174 @@
+package com.aarshinkov.random;
+
+/**
+ * Thread-safe set of primitive longs with open addressing and linear probing. The set is split into segments by the
+ * high bits of the mixed key, every segment has its own table and lock, so threads adding different keys rarely wait
+ * for each other and no table grows beyond the size of a Java array.
+ *
+ * @author Atanas Yordanov Arshinkov
+ * @since 1.4.0
+ */
+final class LongHashSet {
+
+  private static final int SEGMENT_BITS = 6;
+  private static final int SEGMENTS = 1 << SEGMENT_BITS;
+  private static final float LOAD_FACTOR = 0.75f;
+  private static final int MIN_SEGMENT_CAPACITY = 16;
+  private static final int MAX_SEGMENT_CAPACITY = 1 << 30;
+
+  private final Segment[] segments = new Segment[SEGMENTS];
+
+  /**
+   * @param expectedSize the expected count of keys, used to size the tables up front
+   */
+  LongHashSet(long expectedSize) {
+    final long perSegment = (long) (expectedSize / (double) SEGMENTS / LOAD_FACTOR) + 1;
+    int capacity = MIN_SEGMENT_CAPACITY;
+    while (capacity < perSegment && capacity < MAX_SEGMENT_CAPACITY) {
+      capacity <<= 1;
+    }
+    for (int i = 0; i < SEGMENTS; i++) {
+      segments[i] = new Segment(capacity);
+    }
+  }
+
+  /**
+   * @param key the key to be added
+   *
+   * @return true - if the key was added; false - if it was already present
+   */
+  boolean add(long key) {
+    final long hash = mix(key);
+    final Segment segment = segments[(int) (hash >>> (64 - SEGMENT_BITS))];
+    synchronized (segment) {
+      return segment.add(key, hash);
+    }
+  }
+
+  /**
+   * @param key the key to be checked
+   *
+   * @return true - if the key is present; false - if not
+   */
+  boolean contains(long key) {
+    final long hash = mix(key);
+    final Segment segment = segments[(int) (hash >>> (64 - SEGMENT_BITS))];
+    synchronized (segment) {
+      return segment.contains(key, hash);
+    }
+  }
+
+  /**
+   * @return the count of keys in the set
+   */
+  long size() {
+    long size = 0;
+    for (Segment segment : segments) {
+      synchronized (segment) {
+        size += segment.size;
+      }
+    }
+    return size;
+  }
+
+  /**
+   * @return the count of bytes used by the tables
+   */
+  long memoryBytes() {
+    long bytes = 0;
+    for (Segment segment : segments) {
+      synchronized (segment) {
+        bytes += 8L * segment.keys.length;
+      }
+    }
+    return bytes;
+  }
+
+  /**
+   * Bijective mixing function (the finalizer of MurmurHash3), so distinct keys keep distinct hashes.
+   */
+  static long mix(long key) {
+    key ^= key >>> 33;
+    key *= 0xff51afd7ed558ccdL;
+    key ^= key >>> 33;
+    key *= 0xc4ceb9fe1a85ec53L;
+    key ^= key >>> 33;
+    return key;
+  }
+
+  private static final class Segment {
+
+    // Zero marks an empty slot, so the zero key is kept aside
+    private long[] keys;
+    private boolean hasZero;
+    private int size;
+    private int threshold;
+
+    private Segment(int capacity) {
+      this.keys = new long[capacity];
+      this.threshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private boolean contains(long key, long hash) {
+      if (key == 0) {
+        return hasZero;
+      }
+      final int mask = keys.length - 1;
+      for (int i = (int) hash & mask; ; i = (i + 1) & mask) {
+        final long current = keys[i];
+        if (current == 0) {
+          return false;
+        }
+        if (current == key) {
+          return true;
+        }
+      }
+    }
+
+    private boolean add(long key, long hash) {
+      if (key == 0) {
+        if (hasZero) {
+          return false;
+        }
+        hasZero = true;
+        size++;
+        return true;
+      }
+
+      final int mask = keys.length - 1;
+      int i = (int) hash & mask;
+      for (long current = keys[i]; current != 0; current = keys[i]) {
+        if (current == key) {
+          return false;
+        }
+        i = (i + 1) & mask;
+      }
+      keys[i] = key;
+
+      if (++size > threshold) {
+        grow();
+      }
+      return true;
+    }
+
+    private void grow() {
+      if (keys.length == MAX_SEGMENT_CAPACITY) {
+        threshold = Integer.MAX_VALUE;
+        return;
+      }
+      final long[] old = keys;
+      keys = new long[old.length << 1];
+      threshold = (int) (keys.length * LOAD_FACTOR);
+      final int mask = keys.length - 1;
+      for (long key : old) {
+        if (key != 0) {
+          int i = (int) mix(key) & mask;
+          while (keys[i] != 0) {
+            i = (i + 1) & mask;
+          }
+          keys[i] = key;
+        }
+      }
+    }
+  }
+}
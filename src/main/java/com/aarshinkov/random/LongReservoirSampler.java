@@ -0,0 +1,128 @@
+package com.aarshinkov.random;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+/**
+ * Uniform random sample of a fixed size from a stream of primitive numbers of unknown length, without boxing. Every
+ * number seen so far is in the sample with the same probability. The numbers which replace a sampled one are chosen
+ * with the Algorithm L of Li, so the random numbers are drawn only for the replaced numbers, and
+ * {@link #acceptAll(long[], int, int)} jumps over the skipped parts of an array without reading them.
+ * <br><br>
+ * The sampler is not thread-safe, but the samplers of one randomy object can be used on different threads: every
+ * sampler splits off a generator of its own from a generator which is not thread safe.
+ *
+ * @author Atanas Yordanov Arshinkov
+ * @since 1.4.0
+ */
+public final class LongReservoirSampler implements LongConsumer, IntConsumer {
+
+  private final ReservoirSkipper skipper;
+  private final long[] reservoir;
+
+  private LongReservoirSampler(Randomy randomy, int capacity) {
+    this.skipper = new ReservoirSkipper(new EntropyBuffer(randomy.fork(), EntropyBuffer.BLOCK_SIZE), capacity);
+    this.reservoir = new long[capacity];
+  }
+
+  /**
+   * @param randomy the randomy object which provides the random numbers
+   * @param capacity the size of the sample
+   *
+   * @return new empty sampler
+   */
+  public static LongReservoirSampler of(Randomy randomy, int capacity) {
+
+    if (randomy == null) {
+      throw new IllegalArgumentException("Randomy must not be null");
+    }
+
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Capacity must be positive");
+    }
+
+    return new LongReservoirSampler(randomy, capacity);
+  }
+
+  /**
+   * Offers the next number of the stream to the sample.
+   *
+   * @param value the number
+   */
+  @Override
+  public void accept(long value) {
+    final int slot = skipper.offer();
+    if (slot >= 0) {
+      reservoir[slot] = value;
+    }
+  }
+
+  /**
+   * Offers the next number of the stream to the sample.
+   *
+   * @param value the number
+   */
+  @Override
+  public void accept(int value) {
+    accept((long) value);
+  }
+
+  /**
+   * Offers a range of an array to the sample, as the next numbers of the stream. Only the numbers which enter the
+   * sample are read.
+   *
+   * @param values the array with the numbers
+   * @param offset the index of the first number
+   * @param length the count of numbers
+   */
+  public void acceptAll(long[] values, int offset, int length) {
+
+    if (values == null) {
+      throw new IllegalArgumentException("Values must not be null");
+    }
+
+    if (offset < 0 || length < 0 || length > values.length - offset) {
+      throw new IllegalArgumentException("Offset and length must not be negative and must fit in the array");
+    }
+
+    int i = offset;
+    final int end = offset + length;
+    while (i < end) {
+      final long skippable = skipper.skippable();
+      if (skippable > 0) {
+        final int skipped = (int) Math.min(skippable, end - i);
+        skipper.skip(skipped);
+        i += skipped;
+        continue;
+      }
+
+      final int slot = skipper.offer();
+      if (slot >= 0) {
+        reservoir[slot] = values[i];
+      }
+      i++;
+    }
+  }
+
+  /**
+   * @return new array with the sampled numbers, as many as the capacity or all numbers if the stream is shorter
+   */
+  public long[] sample() {
+    return Arrays.copyOf(reservoir, (int) Math.min(reservoir.length, skipper.count()));
+  }
+
+  /**
+   * @return the count of numbers seen so far
+   */
+  public long count() {
+    return skipper.count();
+  }
+
+  /**
+   * @return the size of the sample
+   */
+  public int capacity() {
+    return reservoir.length;
+  }
+}
@@ -0,0 +1,110 @@
+package com.aarshinkov.random;
+
+import java.util.Random;
+
+/**
+ * Generator which counts the calls to the underlying generator and the random bytes they draw. The calls are not timed,
+ * the randomy object times its methods as a whole.
+ *
+ * @author Atanas Yordanov Arshinkov
+ * @since 1.4.0
+ */
+final class MeteredRandom extends Random {
+
+  private static final long serialVersionUID = 1L;
+
+  private final Random random;
+  private final transient RandomyMetrics metrics;
+
+  /**
+   * @param random the generator to be measured
+   * @param metrics the metrics which record the calls
+   */
+  MeteredRandom(Random random, RandomyMetrics metrics) {
+    // The seed is never used, a constant avoids the shared seed uniquifier of Random
+    super(0L);
+    this.random = random;
+    this.metrics = metrics;
+  }
+
+  /**
+   * @param random the generator used by a randomy object
+   *
+   * @return the metrics of the generator, or null if it is not measured
+   */
+  static RandomyMetrics metricsOf(Random random) {
+    if (random instanceof MeteredRandom) {
+      return ((MeteredRandom) random).metrics;
+    }
+    if (random instanceof EntropyBuffer) {
+      return ((EntropyBuffer) random).metrics();
+    }
+    return null;
+  }
+
+  /**
+   * @return true - if the underlying generator is split for another part of a stream; false - if it is shared
+   */
+  boolean isSplittable() {
+    return RandomSpliterators.isSplittable(random);
+  }
+
+  /**
+   * @return generator for another part of a split stream, measured by the same metrics
+   */
+  Random fork() {
+    final Random forked = RandomSpliterators.fork(random);
+    return forked == random ? this : new MeteredRandom(forked, metrics);
+  }
+
+  @Override
+  public synchronized void setSeed(long seed) {
+    // The bytes come from the underlying generator
+  }
+
+  @Override
+  protected int next(int bits) {
+    return nextInt() >>> (32 - bits);
+  }
+
+  @Override
+  public int nextInt() {
+    final int value = random.nextInt();
+    metrics.recordDraw(4);
+    return value;
+  }
+
+  @Override
+  public int nextInt(int bound) {
+    final int value = random.nextInt(bound);
+    metrics.recordDraw(4);
+    return value;
+  }
+
+  @Override
+  public long nextLong() {
+    final long value = random.nextLong();
+    metrics.recordDraw(8);
+    return value;
+  }
+
+  @Override
+  public double nextDouble() {
+    final double value = random.nextDouble();
+    metrics.recordDraw(8);
+    return value;
+  }
+
+  @Override
+  public boolean nextBoolean() {
+    final boolean value = random.nextBoolean();
+    metrics.recordDraw(1);
+    return value;
+  }
+
+  @Override
+  public void nextBytes(byte[] bytes) {
+    random.nextBytes(bytes);
+    metrics.recordDraw(bytes.length);
+  }
+}
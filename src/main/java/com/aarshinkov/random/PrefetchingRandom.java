@@ -0,0 +1,234 @@
+package com.aarshinkov.random;
+
+import java.lang.ref.WeakReference;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Generator which serves random bytes prepared ahead of demand by a background thread, so the cost of the underlying
+ * generator is paid off the calling threads.
+ * <br><br>
+ * The background thread fills chunks of random bytes until the high watermark is reached and starts again when the
+ * buffered bytes drop below the low watermark. The calling threads take whole chunks from a lock-free queue and
+ * consume them through a cursor of their own. When no chunk is ready, the calling thread fills one directly from the
+ * underlying generator instead of waiting.
+ *
+ * @author Atanas Yordanov Arshinkov
+ * @since 1.4.0
+ */
+final class PrefetchingRandom extends Random {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * The count of bytes in every chunk
+   */
+  static final int CHUNK_SIZE = 256;
+
+  private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+  private final transient Buffer buffer;
+  private final transient ThreadLocal<Cursor> cursors = ThreadLocal.withInitial(Cursor::new);
+
+  /**
+   * @param source the generator which fills the chunks
+   * @param capacity the maximum count of bytes held by the buffer
+   * @param lowWatermark the count of buffered bytes below which the background thread starts filling
+   * @param highWatermark the count of buffered bytes at which the background thread stops filling
+   */
+  PrefetchingRandom(Random source, int capacity, int lowWatermark, int highWatermark) {
+    // The seed is never used, a constant avoids the shared seed uniquifier of Random
+    super(0L);
+    this.buffer = new Buffer(source, chunks(capacity), chunks(lowWatermark), chunks(highWatermark));
+
+    final Thread producer = new Thread(new Producer(this, buffer), "randomy-prefetch");
+    producer.setDaemon(true);
+    buffer.producer = producer;
+    producer.start();
+  }
+
+  private static int chunks(int bytes) {
+    return Math.max(1, (bytes + CHUNK_SIZE - 1) / CHUNK_SIZE);
+  }
+
+  /**
+   * @return the count of chunks ready to be consumed
+   */
+  int readyChunks() {
+    return buffer.readyCount.get();
+  }
+
+  @Override
+  public synchronized void setSeed(long seed) {
+    // The bytes come from the underlying generator
+  }
+
+  @Override
+  protected int next(int bits) {
+    return nextInt() >>> (32 - bits);
+  }
+
+  @Override
+  public int nextInt() {
+    final Cursor cursor = cursors.get();
+    if (CHUNK_SIZE - cursor.position < 4) {
+      cursor.advance(buffer);
+    }
+    final byte[] chunk = cursor.chunk;
+    final int p = cursor.position;
+    cursor.position = p + 4;
+    return (chunk[p] & 0xFF) << 24 | (chunk[p + 1] & 0xFF) << 16 | (chunk[p + 2] & 0xFF) << 8 | (chunk[p + 3] & 0xFF);
+  }
+
+  @Override
+  public long nextLong() {
+    return (long) nextInt() << 32 | (nextInt() & 0xFFFFFFFFL);
+  }
+
+  @Override
+  public double nextDouble() {
+    return (nextLong() >>> 11) * 0x1.0p-53;
+  }
+
+  @Override
+  public boolean nextBoolean() {
+    return nextInt() < 0;
+  }
+
+  @Override
+  public void nextBytes(byte[] bytes) {
+    final Cursor cursor = cursors.get();
+    int offset = 0;
+    while (offset < bytes.length) {
+      if (cursor.position == CHUNK_SIZE) {
+        cursor.advance(buffer);
+      }
+      final int count = Math.min(bytes.length - offset, CHUNK_SIZE - cursor.position);
+      System.arraycopy(cursor.chunk, cursor.position, bytes, offset, count);
+      cursor.position += count;
+      offset += count;
+    }
+  }
+
+  /**
+   * The chunks shared by the background thread and the calling threads.
+   */
+  private static final class Buffer {
+
+    private final Random source;
+    private final int capacity;
+    private final int lowWatermark;
+    private final int highWatermark;
+    private final ConcurrentLinkedQueue<byte[]> ready = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<byte[]> recycled = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger readyCount = new AtomicInteger();
+    private final AtomicInteger recycledCount = new AtomicInteger();
+    private volatile Thread producer;
+    private volatile boolean idle;
+
+    private Buffer(Random source, int capacity, int lowWatermark, int highWatermark) {
+      this.source = source;
+      this.capacity = capacity;
+      this.lowWatermark = lowWatermark;
+      this.highWatermark = highWatermark;
+    }
+
+    /**
+     * @return a chunk full of random bytes, taken from the queue or filled directly if the queue is empty
+     */
+    private byte[] take() {
+      byte[] chunk = ready.poll();
+      if (chunk != null) {
+        if (readyCount.decrementAndGet() < lowWatermark && idle) {
+          LockSupport.unpark(producer);
+        }
+        return chunk;
+      }
+
+      // The buffer is empty, so the calling thread does not wait for the background thread
+      if (idle) {
+        LockSupport.unpark(producer);
+      }
+      chunk = emptyChunk();
+      source.nextBytes(chunk);
+      return chunk;
+    }
+
+    private byte[] emptyChunk() {
+      final byte[] chunk = recycled.poll();
+      if (chunk == null) {
+        return new byte[CHUNK_SIZE];
+      }
+      recycledCount.decrementAndGet();
+      return chunk;
+    }
+
+    private void recycle(byte[] chunk) {
+      if (readyCount.get() + recycledCount.get() < capacity) {
+        recycledCount.incrementAndGet();
+        recycled.offer(chunk);
+      }
+    }
+  }
+
+  /**
+   * The position of a calling thread in its current chunk.
+   */
+  private static final class Cursor {
+
+    private byte[] chunk;
+    private int position = CHUNK_SIZE;
+
+    private void advance(Buffer buffer) {
+      if (chunk != null) {
+        buffer.recycle(chunk);
+      }
+      chunk = buffer.take();
+      position = 0;
+    }
+  }
+
+  /**
+   * The background task which keeps the buffer filled. It stops when the generator is no longer used.
+   */
+  private static final class Producer implements Runnable {
+
+    private final WeakReference<PrefetchingRandom> owner;
+    private final Buffer buffer;
+
+    private Producer(PrefetchingRandom owner, Buffer buffer) {
+      this.owner = new WeakReference<>(owner);
+      this.buffer = buffer;
+    }
+
+    @Override
+    public void run() {
+      boolean filling = true;
+      while (owner.get() != null) {
+        final int ready = buffer.readyCount.get();
+        if (ready >= buffer.highWatermark) {
+          filling = false;
+        } else if (ready < buffer.lowWatermark) {
+          filling = true;
+        }
+
+        if (filling) {
+          final byte[] chunk = buffer.emptyChunk();
+          buffer.source.nextBytes(chunk);
+          buffer.ready.offer(chunk);
+          buffer.readyCount.incrementAndGet();
+          continue;
+        }
+
+        buffer.idle = true;
+        if (buffer.readyCount.get() >= buffer.lowWatermark) {
+          LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+        }
+        buffer.idle = false;
+      }
+    }
+  }
+}
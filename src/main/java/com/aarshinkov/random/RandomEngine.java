@@ -0,0 +1,226 @@
+package com.aarshinkov.random;
+
+import java.security.SecureRandom;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The source of randomness used by a {@link Randomy} object.
+ * <br><br>
+ * Every engine is exposed as a {@link Random}, so the generator methods call it directly without any additional
+ * dispatching.
+ *
+ * @author Atanas Yordanov Arshinkov
+ * @since 1.4.0
+ */
+public enum RandomEngine {
+
+  /**
+   * Cryptographically strong generator backed by {@link SecureRandom}. This is the default engine and the only one
+   * which should be used for passwords, tokens and other secrets. Unless a dedicated generator is requested, all
+   * randomy objects share one generator, which is seeded in the background.
+   */
+  SECURE {
+    @Override
+    Random newRandom() {
+      return new SecureRandom();
+    }
+
+    @Override
+    Random sharedRandom() {
+      SharedSecureRandom.INSTANCE.warmUp();
+      return SharedSecureRandom.INSTANCE;
+    }
+  },
+
+  /**
+   * Fast non-cryptographic generator backed by {@link ThreadLocalRandom}. Safe to share between threads, because every
+   * thread uses its own generator.
+   */
+  THREAD_LOCAL {
+    @Override
+    Random newRandom() {
+      return new ThreadLocalRandomAdapter();
+    }
+
+    @Override
+    Random sharedRandom() {
+      return THREAD_LOCAL_ADAPTER;
+    }
+
+    @Override
+    boolean isContentionFree() {
+      return true;
+    }
+  },
+
+  /**
+   * Fast non-cryptographic generator backed by {@link SplittableRandom}. Must not be shared between threads, unless
+   * the randomy object is built as {@link Randomy.Builder#concurrent() concurrent}.
+   */
+  SPLITTABLE {
+    @Override
+    Random newRandom() {
+      return new SplittableRandomAdapter(new SplittableRandom());
+    }
+
+    @Override
+    boolean isThreadSafe() {
+      return false;
+    }
+  };
+
+  /**
+   * @return new generator for this engine
+   */
+  abstract Random newRandom();
+
+  /**
+   * Returns the generator shared by all randomy objects of this engine. Engines which cannot be shared return a new
+   * generator.
+   *
+   * @return the shared generator
+   */
+  Random sharedRandom() {
+    return newRandom();
+  }
+
+  /**
+   * @return true - if a generator of this engine can be used by many threads at once; false - if not
+   */
+  boolean isThreadSafe() {
+    return true;
+  }
+
+  /**
+   * @return true - if the threads do not compete for a generator of this engine, so it needs no striping
+   */
+  boolean isContentionFree() {
+    return false;
+  }
+
+  private static final Random THREAD_LOCAL_ADAPTER = new ThreadLocalRandomAdapter();
+
+  /**
+   * Delegates every call to the generator of the current thread.
+   */
+  static final class ThreadLocalRandomAdapter extends Random {
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public synchronized void setSeed(long seed) {
+      // ThreadLocalRandom cannot be seeded
+    }
+
+    @Override
+    protected int next(int bits) {
+      return ThreadLocalRandom.current().nextInt() >>> (32 - bits);
+    }
+
+    @Override
+    public int nextInt() {
+      return ThreadLocalRandom.current().nextInt();
+    }
+
+    @Override
+    public int nextInt(int bound) {
+      return ThreadLocalRandom.current().nextInt(bound);
+    }
+
+    @Override
+    public long nextLong() {
+      return ThreadLocalRandom.current().nextLong();
+    }
+
+    @Override
+    public double nextDouble() {
+      return ThreadLocalRandom.current().nextDouble();
+    }
+
+    @Override
+    public boolean nextBoolean() {
+      return ThreadLocalRandom.current().nextBoolean();
+    }
+
+    @Override
+    public void nextBytes(byte[] bytes) {
+      ThreadLocalRandom.current().nextBytes(bytes);
+    }
+  }
+
+  /**
+   * Exposes a {@link SplittableRandom} as a {@link Random}.
+   */
+  static final class SplittableRandomAdapter extends Random {
+
+    private static final long serialVersionUID = 1L;
+
+    private final SplittableRandom random;
+
+    SplittableRandomAdapter(SplittableRandom random) {
+      this.random = random;
+    }
+
+    @Override
+    public synchronized void setSeed(long seed) {
+      // SplittableRandom cannot be reseeded, the seed is given on construction
+    }
+
+    /**
+     * @return new independent generator, for the exclusive use of another thread
+     */
+    SplittableRandomAdapter split() {
+      return new SplittableRandomAdapter(random.split());
+    }
+
+    @Override
+    protected int next(int bits) {
+      return random.nextInt() >>> (32 - bits);
+    }
+
+    @Override
+    public int nextInt() {
+      return random.nextInt();
+    }
+
+    @Override
+    public int nextInt(int bound) {
+      return random.nextInt(bound);
+    }
+
+    @Override
+    public long nextLong() {
+      return random.nextLong();
+    }
+
+    @Override
+    public double nextDouble() {
+      return random.nextDouble();
+    }
+
+    @Override
+    public boolean nextBoolean() {
+      return random.nextBoolean();
+    }
+
+    @Override
+    public void nextBytes(byte[] bytes) {
+      int i = 0;
+      final int words = bytes.length >> 3;
+      for (int w = 0; w < words; w++) {
+        long rnd = random.nextLong();
+        for (int n = 0; n < 8; n++) {
+          bytes[i++] = (byte) rnd;
+          rnd >>>= 8;
+        }
+      }
+      if (i < bytes.length) {
+        for (long rnd = random.nextLong(); i < bytes.length; rnd >>>= 8) {
+          bytes[i++] = (byte) rnd;
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,337 @@
+package com.aarshinkov.random;
+
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Publisher of an infinite sequence of random values which honours backpressure. Nothing is generated before it is
+ * requested: the values are generated on the executor in batches of at most 256, sized by the outstanding demand of the
+ * subscriber. Every batch is generated as a whole into a buffer of the subscription before its values are delivered,
+ * the ints and longs into a primitive buffer, so they are boxed only when they are handed to the subscriber. Every
+ * subscriber receives its own independent sequence: a generator which is not thread safe is split for every
+ * subscription, so the subscriptions never share its state.
+ * <br><br>
+ * The publisher implements {@link Flow.Publisher}, so it requires Java 9 or later. The rest of the library still runs
+ * on Java 8, where the lazy streams of {@link Randomy} serve the same purpose.
+ *
+ * @param <T> the type of the published values
+ *
+ * @author Atanas Yordanov Arshinkov
+ * @since 1.4.0
+ */
+public final class RandomPublisher<T> implements Flow.Publisher<T> {
+
+  private static final int MAX_BATCH = 256;
+
+  private final Randomy randomy;
+  private final Function<Random, Batches<T>> values;
+  private final Executor executor;
+
+  private RandomPublisher(Randomy randomy, Function<Random, Batches<T>> values, Executor executor) {
+    this.randomy = randomy;
+    this.values = values;
+    this.executor = executor;
+  }
+
+  /**
+   * @param randomy the randomy object which generates the values
+   * @param length the length of each string as characters
+   * @param alphabet the characters to choose from
+   *
+   * @return new publisher of random strings
+   *
+   * @see Randomy#strings(int, Alphabet)
+   */
+  public static RandomPublisher<String> strings(Randomy randomy, int length, Alphabet alphabet) {
+    checkRandomy(randomy);
+    // Validates the arguments up front
+    randomy.strings(length, alphabet);
+    return new RandomPublisher<>(randomy,
+            random -> new StringBatches(
+                    new RandomSpliterators.AlphabetStrings(random, 0, RandomSpliterators.INFINITE, length, alphabet)),
+            ForkJoinPool.commonPool());
+  }
+
+  /**
+   * @param randomy the randomy object which generates the values
+   * @param length the length of each string as characters
+   * @param composition the groups of characters and the minimum count of each of them
+   *
+   * @return new publisher of random strings
+   *
+   * @see Randomy#strings(int, Composition)
+   */
+  public static RandomPublisher<String> strings(Randomy randomy, int length, Composition composition) {
+    checkRandomy(randomy);
+    // Validates the arguments up front
+    randomy.strings(length, composition);
+    return new RandomPublisher<>(randomy,
+            random -> new StringBatches(
+                    new RandomSpliterators.CompositionStrings(random, 0, RandomSpliterators.INFINITE, length, composition)),
+            ForkJoinPool.commonPool());
+  }
+
+  /**
+   * @param randomy the randomy object which generates the values
+   * @param start the start number, the results must not be lower than that
+   * @param end the end number, the results must not be greater than that
+   *
+   * @return new publisher of random ints
+   *
+   * @see Randomy#ints(int, int)
+   */
+  public static RandomPublisher<Integer> ints(Randomy randomy, int start, int end) {
+    checkRandomy(randomy);
+    // Validates the arguments up front
+    randomy.ints(start, end);
+    return new RandomPublisher<>(randomy, random -> new IntBatches(random, start, end), ForkJoinPool.commonPool());
+  }
+
+  /**
+   * @param randomy the randomy object which generates the values
+   * @param start the start number, the results must not be lower than that
+   * @param end the end number, the results must not be greater than that
+   *
+   * @return new publisher of random longs
+   *
+   * @see Randomy#longs(long, long)
+   */
+  public static RandomPublisher<Long> longs(Randomy randomy, long start, long end) {
+    checkRandomy(randomy);
+    // Validates the arguments up front
+    randomy.longs(start, end);
+    return new RandomPublisher<>(randomy, random -> new LongBatches(random, start, end), ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Returns a publisher of the same values which generates them on the given executor. By default the values are
+   * generated on the common fork join pool.
+   *
+   * @param executor the executor which generates and delivers the values
+   *
+   * @return new publisher which uses the given executor
+   */
+  public RandomPublisher<T> executor(Executor executor) {
+
+    if (executor == null) {
+      throw new IllegalArgumentException("Executor must not be null");
+    }
+
+    return new RandomPublisher<>(randomy, values, executor);
+  }
+
+  @Override
+  public void subscribe(Flow.Subscriber<? super T> subscriber) {
+
+    if (subscriber == null) {
+      throw new NullPointerException("Subscriber must not be null");
+    }
+
+    subscriber.onSubscribe(new Subscription<>(subscriber, values.apply(randomy.fork()), executor));
+  }
+
+  private static void checkRandomy(Randomy randomy) {
+    if (randomy == null) {
+      throw new IllegalArgumentException("Randomy must not be null");
+    }
+  }
+
+  /**
+   * The values of one subscription, generated batch by batch into a buffer.
+   */
+  private abstract static class Batches<T> {
+
+    /**
+     * Replaces the buffered values with the given count of new values.
+     *
+     * @param count the count of values, at most {@link #MAX_BATCH}
+     */
+    abstract void generate(int count);
+
+    /**
+     * @param index the index of the value in the current batch
+     *
+     * @return the value with the given index
+     */
+    abstract T get(int index);
+  }
+
+  private static final class IntBatches extends Batches<Integer> {
+
+    private final EntropyBuffer entropy;
+    private final int start;
+    private final int end;
+    private final int[] buffer = new int[MAX_BATCH];
+
+    private IntBatches(Random random, int start, int end) {
+      this.entropy = new EntropyBuffer(random, EntropyBuffer.BLOCK_SIZE);
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    void generate(int count) {
+      for (int i = 0; i < count; i++) {
+        buffer[i] = Bounded.nextInt(entropy, start, end);
+      }
+    }
+
+    @Override
+    Integer get(int index) {
+      return buffer[index];
+    }
+  }
+
+  private static final class LongBatches extends Batches<Long> {
+
+    private final EntropyBuffer entropy;
+    private final long start;
+    private final long end;
+    private final long[] buffer = new long[MAX_BATCH];
+
+    private LongBatches(Random random, long start, long end) {
+      this.entropy = new EntropyBuffer(random, EntropyBuffer.BLOCK_SIZE);
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    void generate(int count) {
+      for (int i = 0; i < count; i++) {
+        buffer[i] = Bounded.nextLong(entropy, start, end);
+      }
+    }
+
+    @Override
+    Long get(int index) {
+      return buffer[index];
+    }
+  }
+
+  private static final class StringBatches extends Batches<String> implements Consumer<String> {
+
+    private final Spliterator<String> strings;
+    private final String[] buffer = new String[MAX_BATCH];
+    private int position;
+
+    private StringBatches(Spliterator<String> strings) {
+      this.strings = strings;
+    }
+
+    @Override
+    void generate(int count) {
+      position = 0;
+      while (position < count) {
+        strings.tryAdvance(this);
+      }
+    }
+
+    @Override
+    public void accept(String value) {
+      buffer[position++] = value;
+    }
+
+    @Override
+    String get(int index) {
+      return buffer[index];
+    }
+  }
+
+  /**
+   * The demand of one subscriber. Only one drain task runs at a time, so the signals to the subscriber are serial.
+   */
+  private static final class Subscription<T> implements Flow.Subscription, Runnable {
+
+    private final Flow.Subscriber<? super T> subscriber;
+    private final Batches<T> values;
+    private final Executor executor;
+    private final AtomicLong demand = new AtomicLong();
+    private final AtomicInteger pending = new AtomicInteger();
+    private volatile boolean cancelled;
+    private volatile Throwable error;
+
+    private Subscription(Flow.Subscriber<? super T> subscriber, Batches<T> values, Executor executor) {
+      this.subscriber = subscriber;
+      this.values = values;
+      this.executor = executor;
+    }
+
+    @Override
+    public void request(long n) {
+      if (n <= 0) {
+        error = new IllegalArgumentException("Requested count must be positive, but was " + n);
+      } else {
+        // The demand is capped, Long.MAX_VALUE means an unbounded demand
+        demand.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+      }
+      schedule();
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+    }
+
+    private void schedule() {
+      if (pending.getAndIncrement() == 0) {
+        try {
+          executor.execute(this);
+        } catch (RejectedExecutionException e) {
+          cancelled = true;
+          subscriber.onError(e);
+        }
+      }
+    }
+
+    @Override
+    public void run() {
+      int missed = 1;
+      do {
+        drain();
+        missed = pending.addAndGet(-missed);
+      } while (missed != 0);
+    }
+
+    private void drain() {
+      while (!cancelled) {
+        final Throwable failure = error;
+        if (failure != null) {
+          cancelled = true;
+          subscriber.onError(failure);
+          return;
+        }
+
+        final long requested = demand.get();
+        if (requested == 0) {
+          return;
+        }
+
+        final int batch = (int) Math.min(requested, MAX_BATCH);
+        int emitted = 0;
+        try {
+          values.generate(batch);
+          while (emitted < batch && !cancelled) {
+            subscriber.onNext(values.get(emitted++));
+          }
+        } catch (RuntimeException | Error e) {
+          // A failing subscriber ends the subscription instead of leaving it half drained
+          cancelled = true;
+          subscriber.onError(e);
+          return;
+        }
+
+        if (requested != Long.MAX_VALUE) {
+          demand.addAndGet(-emitted);
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,319 @@
+package com.aarshinkov.random;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+/**
+ * Spliterators behind the random streams. Every spliterator covers a range of element indexes and splits it in
+ * halves, so parallel streams divide the work evenly. The values are drawn through a buffer of random bytes which is
+ * created by the thread consuming the spliterator.
+ * <br><br>
+ * A generator which is not thread safe is split together with the spliterator, so every part owns an independent
+ * generator. The parts of a seeded generator depend on how the stream is split, so only sequential streams of a seeded
+ * randomy object are reproducible.
+ *
+ * @author Atanas Yordanov Arshinkov
+ * @since 1.4.0
+ */
+final class RandomSpliterators {
+
+  /**
+   * The size of the infinite streams, which is also what the streams of {@link Random} use
+   */
+  static final long INFINITE = Long.MAX_VALUE;
+
+  private static final int CHARACTERISTICS = Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL
+          | Spliterator.IMMUTABLE;
+
+  private RandomSpliterators() {
+
+  }
+
+  /**
+   * @param random the generator to be checked
+   *
+   * @return true - if {@link #fork(Random)} splits the generator; false - if the generator is thread safe and shared
+   */
+  static boolean isSplittable(Random random) {
+    if (random instanceof MeteredRandom) {
+      return ((MeteredRandom) random).isSplittable();
+    }
+    return random instanceof RandomEngine.SplittableRandomAdapter || random instanceof SeededRandom;
+  }
+
+  /**
+   * @param random the generator of the spliterator which is split
+   *
+   * @return the generator for the new part
+   */
+  static Random fork(Random random) {
+    if (random instanceof RandomEngine.SplittableRandomAdapter) {
+      return ((RandomEngine.SplittableRandomAdapter) random).split();
+    }
+    if (random instanceof SeededRandom) {
+      return ((SeededRandom) random).split();
+    }
+    if (random instanceof MeteredRandom) {
+      return ((MeteredRandom) random).fork();
+    }
+    return random;
+  }
+
+  /**
+   * Common state of the spliterators: the range of indexes and the generator.
+   */
+  private abstract static class Base {
+
+    final Random random;
+    final int bytesPerElement;
+    long index;
+    final long fence;
+    private EntropyBuffer entropy;
+
+    Base(Random random, int bytesPerElement, long index, long fence) {
+      this.random = random;
+      this.bytesPerElement = bytesPerElement;
+      this.index = index;
+      this.fence = fence;
+    }
+
+    final EntropyBuffer entropy() {
+      if (entropy == null) {
+        entropy = new EntropyBuffer(random, Math.min(EntropyBuffer.BLOCK_SIZE, fence - index) * bytesPerElement);
+      }
+      return entropy;
+    }
+
+    /**
+     * @return the end of the prefix which is split off, or -1 if the range is too small to be split
+     */
+    final long splitPoint() {
+      final long middle = (index + fence) >>> 1;
+      return middle <= index ? -1 : middle;
+    }
+
+    public final long estimateSize() {
+      return fence - index;
+    }
+
+    public final int characteristics() {
+      return CHARACTERISTICS;
+    }
+  }
+
+  /**
+   * Random ints between start and end, both inclusive.
+   */
+  static final class Ints extends Base implements Spliterator.OfInt {
+
+    private final int start;
+    private final int end;
+
+    Ints(Random random, long index, long fence, int start, int end) {
+      super(random, 4, index, fence);
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    public Ints trySplit() {
+      final long middle = splitPoint();
+      if (middle < 0) {
+        return null;
+      }
+      final Ints prefix = new Ints(fork(random), index, middle, start, end);
+      index = middle;
+      return prefix;
+    }
+
+    @Override
+    public boolean tryAdvance(IntConsumer action) {
+      if (index >= fence) {
+        return false;
+      }
+      action.accept(Bounded.nextInt(entropy(), start, end));
+      index++;
+      return true;
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+      final EntropyBuffer buffer = entropy();
+      final long remaining = fence;
+      for (long i = index; i < remaining; i++) {
+        action.accept(Bounded.nextInt(buffer, start, end));
+      }
+      index = remaining;
+    }
+  }
+
+  /**
+   * Random longs between start and end, both inclusive.
+   */
+  static final class Longs extends Base implements Spliterator.OfLong {
+
+    private final long start;
+    private final long end;
+
+    Longs(Random random, long index, long fence, long start, long end) {
+      super(random, 8, index, fence);
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    public Longs trySplit() {
+      final long middle = splitPoint();
+      if (middle < 0) {
+        return null;
+      }
+      final Longs prefix = new Longs(fork(random), index, middle, start, end);
+      index = middle;
+      return prefix;
+    }
+
+    @Override
+    public boolean tryAdvance(LongConsumer action) {
+      if (index >= fence) {
+        return false;
+      }
+      action.accept(Bounded.nextLong(entropy(), start, end));
+      index++;
+      return true;
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+      final EntropyBuffer buffer = entropy();
+      final long remaining = fence;
+      for (long i = index; i < remaining; i++) {
+        action.accept(Bounded.nextLong(buffer, start, end));
+      }
+      index = remaining;
+    }
+  }
+
+  /**
+   * Random strings with characters of an alphabet.
+   */
+  static final class AlphabetStrings extends Base implements Spliterator<String> {
+
+    private final int length;
+    private final Alphabet alphabet;
+    private byte[] bytes;
+
+    AlphabetStrings(Random random, long index, long fence, int length, Alphabet alphabet) {
+      super(random, length + 1, index, fence);
+      this.length = length;
+      this.alphabet = alphabet;
+    }
+
+    @Override
+    public AlphabetStrings trySplit() {
+      final long middle = splitPoint();
+      if (middle < 0) {
+        return null;
+      }
+      final AlphabetStrings prefix = new AlphabetStrings(fork(random), index, middle, length, alphabet);
+      index = middle;
+      return prefix;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super String> action) {
+      if (index >= fence) {
+        return false;
+      }
+      action.accept(next(entropy()));
+      index++;
+      return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super String> action) {
+      final EntropyBuffer buffer = entropy();
+      final long remaining = fence;
+      for (long i = index; i < remaining; i++) {
+        action.accept(next(buffer));
+      }
+      index = remaining;
+    }
+
+    private String next(EntropyBuffer buffer) {
+      final BitSlicedEncoder encoder = alphabet.encoder();
+      if (encoder != null) {
+        if (bytes == null) {
+          bytes = new byte[length];
+        }
+        encoder.fill(bytes, 0, length, buffer);
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+      }
+
+      final char[] chars = new char[length];
+      for (int i = 0; i < length; i++) {
+        chars[i] = alphabet.charAt(alphabet.nextIndex(buffer));
+      }
+      return new String(chars);
+    }
+  }
+
+  /**
+   * Random strings which follow a composition.
+   */
+  static final class CompositionStrings extends Base implements Spliterator<String> {
+
+    private final int length;
+    private final Composition composition;
+    private byte[] labels;
+
+    CompositionStrings(Random random, long index, long fence, int length, Composition composition) {
+      super(random, 2 * length + 8, index, fence);
+      this.length = length;
+      this.composition = composition;
+    }
+
+    @Override
+    public CompositionStrings trySplit() {
+      final long middle = splitPoint();
+      if (middle < 0) {
+        return null;
+      }
+      final CompositionStrings prefix = new CompositionStrings(fork(random), index, middle, length, composition);
+      index = middle;
+      return prefix;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super String> action) {
+      if (index >= fence) {
+        return false;
+      }
+      action.accept(next(entropy()));
+      index++;
+      return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super String> action) {
+      final EntropyBuffer buffer = entropy();
+      final long remaining = fence;
+      for (long i = index; i < remaining; i++) {
+        action.accept(next(buffer));
+      }
+      index = remaining;
+    }
+
+    private String next(EntropyBuffer buffer) {
+      if (labels == null) {
+        labels = new byte[length];
+      }
+      final char[] chars = new char[length];
+      composition.fill(chars, labels, buffer);
+      return new String(chars);
+    }
+  }
+}
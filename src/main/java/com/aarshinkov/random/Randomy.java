@@ -1,7 +1,21 @@
 package com.aarshinkov.random;
 
-import java.security.SecureRandom;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Random;
+import java.util.RandomAccess;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Class for generating random strings with specified length.
@@ -14,15 +28,46 @@ import java.util.Random;
  */
 public class Randomy {
 
-  private final java.util.Random RANDOM = new SecureRandom();
-  private final String DIGITS = "0123456789";
-  private final String CAPITAL_ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
-  private final String LOWERCASE_ALPHABET = "abcdefghijklmnopqrstuvwxyz";
-  private final String ALPHABET = CAPITAL_ALPHABET + LOWERCASE_ALPHABET;
-  private final String SPECIAL_CHARACTERS = "~`'\"!@#$%^&*()-_+=,.;\\|{}[]";
+  private final java.util.Random RANDOM;
+  private final boolean seeded;
+  private final long seed;
+  private final RandomyMetrics metrics;
+  // The random bytes of the sampling and shuffling methods, kept between the calls of every thread
+  private final ThreadLocal<EntropyBuffer> entropy;
+  private static final int MAX_LONG_DIGITS = 18;
+  private static final long[] POWERS_OF_TEN = new long[MAX_LONG_DIGITS + 1];
+  // The samples up to this size are checked for duplicates without a set
+  private static final int SMALL_SAMPLE = 32;
+  // The larger samples use a bit per possible number, unless the bound exceeds the sample this many times
+  private static final int SPARSE_SAMPLE = 128;
+
+  static {
+    POWERS_OF_TEN[0] = 1;
+    for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+      POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+    }
+  }
+
+  private static final Composition DIGIT_COMPOSITION = Composition.of(true, true, true);
 
   private Randomy() {
+    this(new Builder());
+  }
+
+  private Randomy(Builder builder) {
+    this.RANDOM = builder.newRandom();
+    this.entropy = ThreadLocal.withInitial(() -> new EntropyBuffer(RANDOM, EntropyBuffer.BLOCK_SIZE));
+    this.seeded = builder.seeded;
+    this.seed = builder.seed;
+    this.metrics = builder.metrics;
+  }
 
+  private Randomy(long seed, RandomyMetrics metrics) {
+    this.RANDOM = metrics == null ? new SeededRandom(seed) : new MeteredRandom(new SeededRandom(seed), metrics);
+    this.entropy = ThreadLocal.withInitial(() -> new EntropyBuffer(RANDOM, EntropyBuffer.BLOCK_SIZE));
+    this.seeded = true;
+    this.seed = seed;
+    this.metrics = metrics;
   }
 
   /**
@@ -33,6 +78,24 @@ public class Randomy {
    */
   public static class Builder {
 
+    private RandomEngine engine = RandomEngine.SECURE;
+    private int stripes;
+    private boolean dedicated;
+    private int prefetchCapacity;
+    private int prefetchLowWatermark;
+    private int prefetchHighWatermark;
+    private boolean seeded;
+    private long seed;
+    private RandomyMetrics metrics;
+    private String secureAlgorithm;
+    private String secureProvider;
+    private long reseedBytes;
+    private long reseedNanos;
+
+    private Builder() {
+
+    }
+
     /**
      * Builds a new randomy object
      *
@@ -44,6 +107,307 @@ public class Randomy {
     public static Randomy build() {
       return new Randomy();
     }
+
+    /**
+     * Starts the configuration of a new randomy object. The configured object is built with {@link #create()}.
+     *
+     * @return new builder with the default settings
+     *
+     * @since 1.4.0
+     */
+    public static Builder configure() {
+      return new Builder();
+    }
+
+    /**
+     * Sets the source of randomness. Defaults to {@link RandomEngine#SECURE}.
+     *
+     * @param engine the engine to be used
+     *
+     * @return this builder
+     *
+     * @since 1.4.0
+     */
+    public Builder engine(RandomEngine engine) {
+
+      if (engine == null) {
+        throw new IllegalArgumentException("Engine must not be null");
+      }
+
+      this.engine = engine;
+      return this;
+    }
+
+    /**
+     * Gives the randomy object its own generator. By default the objects of an engine share one lazily seeded
+     * generator, so building them is nearly free. {@link RandomEngine#SPLITTABLE} always uses a dedicated generator.
+     *
+     * @return this builder
+     *
+     * @since 1.4.0
+     */
+    public Builder dedicated() {
+      this.dedicated = true;
+      return this;
+    }
+
+    /**
+     * Makes the randomy object safe for heavy use from many threads. The calls of the different threads are spread
+     * over independently seeded generators, twice as many as the available processors.
+     *
+     * @return this builder
+     *
+     * @see #concurrent(int)
+     * @since 1.4.0
+     */
+    public Builder concurrent() {
+      return concurrent(Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    /**
+     * Makes the randomy object safe for heavy use from many threads. The calls of the different threads are spread
+     * over the given count of independently seeded generators, so the threads rarely compete for the same one. Has no
+     * effect for {@link RandomEngine#THREAD_LOCAL}, which already uses a generator per thread. The generators of
+     * {@link RandomEngine#SECURE} use DRBG, or SHA1PRNG before Java 9, since the platform default generator of Linux
+     * serializes all instances on one lock.
+     *
+     * @param stripes the count of generators, rounded up to a power of two
+     *
+     * @return this builder
+     *
+     * @since 1.4.0
+     */
+    public Builder concurrent(int stripes) {
+
+      if (stripes <= 0) {
+        throw new IllegalArgumentException("The number of stripes must be positive");
+      }
+
+      this.stripes = stripes;
+      return this;
+    }
+
+    /**
+     * Prepares random bytes ahead of demand on a background thread, so the generation methods rarely call the
+     * underlying generator themselves. The buffer is refilled when it drops below a quarter of its capacity.
+     *
+     * @param capacity the count of bytes to keep ready
+     *
+     * @return this builder
+     *
+     * @see #prefetch(int, int, int)
+     * @since 1.4.0
+     */
+    public Builder prefetch(int capacity) {
+      return prefetch(capacity, capacity / 4, capacity);
+    }
+
+    /**
+     * Prepares random bytes ahead of demand on a background thread, so the generation methods rarely call the
+     * underlying generator themselves. The background thread fills the buffer up to the high watermark and starts
+     * again when it drops below the low watermark. When the buffer is empty the bytes are generated directly, so the
+     * callers never wait for the background thread. The values are rounded up to chunks of 256 bytes.
+     *
+     * @param capacity the maximum count of bytes held by the buffer
+     * @param lowWatermark the count of buffered bytes below which the refilling starts
+     * @param highWatermark the count of buffered bytes at which the refilling stops
+     *
+     * @return this builder
+     *
+     * @since 1.4.0
+     */
+    public Builder prefetch(int capacity, int lowWatermark, int highWatermark) {
+
+      if (lowWatermark < 0 || lowWatermark >= highWatermark || highWatermark > capacity) {
+        throw new IllegalArgumentException("The watermarks must satisfy 0 <= low < high <= capacity");
+      }
+
+      this.prefetchCapacity = capacity;
+      this.prefetchLowWatermark = lowWatermark;
+      this.prefetchHighWatermark = highWatermark;
+      return this;
+    }
+
+    /**
+     * Makes the randomy object deterministic: every result follows from the seed and the order of the calls, so the
+     * same data is generated again in every run and on every machine with the same version of the library. The engine
+     * is replaced by a SplitMix64 generator, which is fast but not cryptographically strong and must not be shared
+     * between threads.
+     * <br><br>
+     * Large datasets are generated in parallel through {@link Randomy#record(long)}, which gives every record a
+     * generator of its own.
+     *
+     * @param seed the seed which determines the generated data
+     *
+     * @return this builder
+     *
+     * @since 1.4.0
+     */
+    public Builder seed(long seed) {
+      this.seeded = true;
+      this.seed = seed;
+      return this;
+    }
+
+    /**
+     * Selects the algorithm of the {@link RandomEngine#SECURE secure} generator, for example {@code "DRBG"},
+     * {@code "SHA1PRNG"} or {@code "NativePRNGNonBlocking"}, instead of the platform default. Their throughput differs
+     * a lot: some read the system entropy under a global lock, others generate the bytes in memory. The randomy object
+     * gets generators of its own, they are not shared with other objects.
+     *
+     * @param algorithm the name of the {@link java.security.SecureRandom} algorithm
+     *
+     * @return this builder
+     *
+     * @see #secureAlgorithm(String, String)
+     * @since 1.4.0
+     */
+    public Builder secureAlgorithm(String algorithm) {
+
+      if (algorithm == null) {
+        throw new IllegalArgumentException("Algorithm must not be null");
+      }
+
+      this.secureAlgorithm = algorithm;
+      this.secureProvider = null;
+      return this;
+    }
+
+    /**
+     * Selects the algorithm and the provider of the {@link RandomEngine#SECURE secure} generator, instead of the
+     * platform default. The randomy object gets generators of its own, they are not shared with other objects.
+     *
+     * @param algorithm the name of the {@link java.security.SecureRandom} algorithm
+     * @param provider the name of the security provider, for example {@code "SUN"}
+     *
+     * @return this builder
+     *
+     * @since 1.4.0
+     */
+    public Builder secureAlgorithm(String algorithm, String provider) {
+
+      if (algorithm == null || provider == null) {
+        throw new IllegalArgumentException("Algorithm and provider must not be null");
+      }
+
+      this.secureAlgorithm = algorithm;
+      this.secureProvider = provider;
+      return this;
+    }
+
+    /**
+     * Replaces the {@link RandomEngine#SECURE secure} generator with a freshly seeded one after it has produced the
+     * given count of bytes. The new generator is seeded on a background thread, so the calling threads never wait for
+     * the seeding. The randomy object gets generators of its own, they are not shared with other objects.
+     *
+     * @param bytes the count of bytes after which the generator is reseeded
+     *
+     * @return this builder
+     *
+     * @since 1.4.0
+     */
+    public Builder reseedAfter(long bytes) {
+
+      if (bytes <= 0) {
+        throw new IllegalArgumentException("The number of bytes must be positive");
+      }
+
+      this.reseedBytes = bytes;
+      return this;
+    }
+
+    /**
+     * Replaces the {@link RandomEngine#SECURE secure} generator with a freshly seeded one after every period of time.
+     * The new generator is seeded on a background thread, so the calling threads never wait for the seeding. The
+     * randomy object gets generators of its own, they are not shared with other objects.
+     *
+     * @param period the time between two reseedings
+     * @param unit the unit of the period
+     *
+     * @return this builder
+     *
+     * @since 1.4.0
+     */
+    public Builder reseedEvery(long period, TimeUnit unit) {
+
+      if (period <= 0 || unit == null) {
+        throw new IllegalArgumentException("Period must be positive and unit must not be null");
+      }
+
+      this.reseedNanos = unit.toNanos(period);
+      return this;
+    }
+
+    /**
+     * Records the calls of the generation methods of the randomy object and the calls to its generator in the given
+     * metrics. Without metrics the calls are not measured at all.
+     *
+     * @param metrics the metrics which record the calls, may be shared by many randomy objects
+     *
+     * @return this builder
+     *
+     * @since 1.4.0
+     */
+    public Builder metrics(RandomyMetrics metrics) {
+
+      if (metrics == null) {
+        throw new IllegalArgumentException("Metrics must not be null");
+      }
+
+      this.metrics = metrics;
+      return this;
+    }
+
+    /**
+     * Builds a new randomy object with the configured settings
+     *
+     * @return new instance of the Randomy object
+     *
+     * @since 1.4.0
+     */
+    public Randomy create() {
+
+      if (seeded && (stripes > 0 || prefetchCapacity > 0)) {
+        throw new IllegalArgumentException("A seeded randomy object must not be concurrent or prefetching");
+      }
+
+      if (isSecureConfigured() && (seeded || engine != RandomEngine.SECURE)) {
+        throw new IllegalArgumentException("A secure algorithm and reseeding need the secure engine and no seed");
+      }
+
+      return new Randomy(this);
+    }
+
+    private boolean isSecureConfigured() {
+      return secureAlgorithm != null || reseedBytes > 0 || reseedNanos > 0;
+    }
+
+    private java.util.Random newRandom() {
+      if (seeded) {
+        return metered(new SeededRandom(seed));
+      }
+
+      final java.util.Random random;
+      if (isSecureConfigured()) {
+        final SecureRandomSpec spec = new SecureRandomSpec(secureAlgorithm, secureProvider, reseedBytes, reseedNanos);
+        random = stripes == 0 ? spec.newRandom() : new StripedRandom(spec::newRandom, true, stripes);
+      } else if (stripes == 0 || engine.isContentionFree()) {
+        random = dedicated ? engine.newRandom() : engine.sharedRandom();
+      } else if (engine == RandomEngine.SECURE) {
+        random = new StripedRandom(SecureRandomSpec.forStripes()::newRandom, true, stripes);
+      } else {
+        random = new StripedRandom(engine, stripes);
+      }
+
+      final java.util.Random prefetching = prefetchCapacity > 0
+              ? new PrefetchingRandom(random, prefetchCapacity, prefetchLowWatermark, prefetchHighWatermark)
+              : random;
+      return metered(prefetching);
+    }
+
+    private java.util.Random metered(java.util.Random random) {
+      return metrics == null ? random : new MeteredRandom(random, metrics);
+    }
   }
 
   /**
@@ -58,12 +422,16 @@ public class Randomy {
    * @since 1.0.0
    */
   public String generateRandomString(int length) {
+    final long begin = beginCall();
+    try {
+      if (length < 0) {
+        throw new IllegalArgumentException("Length must not be negative");
+      }
 
-    if (length < 0) {
-      throw new IllegalArgumentException("Length must not be negative");
+      return generateRandomString(length, false);
+    } finally {
+      endCall("generateRandomString", begin);
     }
-
-    return generateRandomString(length, false);
   }
 
   /**
@@ -78,21 +446,28 @@ public class Randomy {
    * @since 1.0.0
    */
   public String generateRandomString(int length, boolean includeDigits) {
+    final long begin = beginCall();
+    try {
+      if (length < 0) {
+        throw new IllegalArgumentException("Length must not be negative");
+      }
 
-    if (length < 0) {
-      throw new IllegalArgumentException("Length must not be negative");
+      return generateRandomString(length, includeDigits, true, true);
+    } finally {
+      endCall("generateRandomString", begin);
     }
-
-    return generateRandomString(length, includeDigits, true, true);
   }
 
   /**
-   * Takes length as a parameter and returns a random string with the english alphabet
+   * Takes length as a parameter and returns a random string with the english alphabet. The string always contains
+   * capital and lowercase letters, the letter flags are kept for compatibility with 1.0.0 and have no effect. Use
+   * {@link #generateRandomString(int, Composition)} with {@link Composition#of(boolean, boolean, boolean)} to choose
+   * the groups of letters.
    *
    * @param length the length of the string as characters
    * @param includeDigits if is true it will include digits in the string
-   * @param includeCapital marks if the generated string should include capital letters
-   * @param includeLowercase marks if the generated string should include lowercase letters
+   * @param includeCapital ignored, capital letters are always included
+   * @param includeLowercase ignored, lowercase letters are always included
    *
    * @return the randomly generated string
    *
@@ -100,185 +475,1693 @@ public class Randomy {
    * @since 1.0.0
    */
   public String generateRandomString(int length, boolean includeDigits, boolean includeCapital, boolean includeLowercase) {
-    if (length < 0) {
-      throw new IllegalArgumentException("Length must not be negative");
-    }
-
-    if (length == 0) {
-      return "";
-    }
+    final long begin = beginCall();
+    try {
+      if (length < 0) {
+        throw new IllegalArgumentException("Length must not be negative");
+      }
 
-    StringBuilder builder = new StringBuilder(length);
+      if (length == 0) {
+        return "";
+      }
 
-    String currAlphabet = CAPITAL_ALPHABET + LOWERCASE_ALPHABET;
-    boolean hasDigit = false;
+      final char[] chars = new char[length];
 
-    if (includeDigits) {
-      currAlphabet = DIGITS + CAPITAL_ALPHABET + LOWERCASE_ALPHABET;
+      if (includeDigits) {
+        // At least one digit is placed in a single pass instead of regenerating the string until it contains one
+        final EntropyBuffer entropy = new EntropyBuffer(RANDOM, 2L * length + 8);
+        DIGIT_COMPOSITION.fill(chars, new byte[length], entropy);
+        return new String(chars);
+      }
 
-      while (!hasDigit) {
-        builder = new StringBuilder();
-        for (int i = 0; i < length; i++) {
-          builder.append(currAlphabet.charAt(RANDOM.nextInt(currAlphabet.length())));
-        }
-        hasDigit = hasDigitInString(String.valueOf(builder));
+      for (int i = 0; i < length; i++) {
+        chars[i] = Alphabet.LETTERS.nextChar(RANDOM);
       }
-      return String.valueOf(builder);
-    }
 
-    for (int i = 0; i < length; i++) {
-      builder.append(currAlphabet.charAt(RANDOM.nextInt(currAlphabet.length())));
+      return new String(chars);
+    } finally {
+      endCall("generateRandomString", begin);
     }
-
-    return String.valueOf(builder);
   }
 
   /**
-   * Checks if the given string sequence contains at least one digit.
+   * Returns a random string with characters of the given alphabet.
    *
-   * @param sequence the sequence to be checked
+   * @param length the length of the string as characters
+   * @param alphabet the characters to choose from
    *
-   * @return true - if the sequence contains at least one digit; false - if not
+   * @return the randomly generated string
+   *
+   * @since 1.4.0
    */
-  public boolean hasDigitInString(String sequence) {
-
-    if (sequence == null) {
-      return false;
-    }
+  public String generateRandomString(int length, Alphabet alphabet) {
+    final long begin = beginCall();
+    try {
+      if (length < 0) {
+        throw new IllegalArgumentException("Length must not be negative");
+      }
 
-    if (sequence.trim().isEmpty()) {
-      return false;
-    }
+      if (alphabet == null) {
+        throw new IllegalArgumentException("Alphabet must not be null");
+      }
 
-    String[] split = sequence.split("");
+      final BitSlicedEncoder encoder = alphabet.encoder();
+      if (encoder != null) {
+        return encoder.nextString(RANDOM, length);
+      }
 
-    for (String character : split) {
-      if (Character.isDigit(character.charAt(0))) {
-        return true;
+      final char[] chars = new char[length];
+      for (int i = 0; i < length; i++) {
+        chars[i] = alphabet.nextChar(RANDOM);
       }
-    }
 
-    return false;
+      return new String(chars);
+    } finally {
+      endCall("generateRandomString", begin);
+    }
   }
 
   /**
-   * Checks if a given string sequence consists only of lowercase symbols.
+   * Generates the given count of random strings with the english alphabet and no digits.
    *
-   * @param sequence the sequence to be checked
+   * @param count the count of strings to be generated
+   * @param length the length of each string as characters
    *
-   * @return true - if the sequence contains only lowercase symbols; false - if it does not
+   * @return array with the randomly generated strings
    *
-   * @since 1.1.0
+   * @see #generateRandomStrings(int, int, boolean, boolean, boolean)
+   * @since 1.4.0
    */
-  public boolean hasOnlyLowercase(String sequence) {
-
-    return hasOnlyOneCase(sequence, false);
+  public String[] generateRandomStrings(int count, int length) {
+    final long begin = beginCall();
+    try {
+      return generateRandomStrings(count, length, false);
+    } finally {
+      endCall("generateRandomStrings", begin);
+    }
   }
 
   /**
-   * Checks if a given string sequence consists only of uppercase symbols.
+   * Generates the given count of random strings with the english alphabet.
    *
-   * @param sequence the sequence to be checked
+   * @param count the count of strings to be generated
+   * @param length the length of each string as characters
+   * @param includeDigits if is true it will include digits in every string
    *
-   * @return true - if the sequence contains only uppercase symbols; false - if it does not
+   * @return array with the randomly generated strings
    *
-   * @since 1.1.0
+   * @see #generateRandomStrings(int, int, boolean, boolean, boolean)
+   * @since 1.4.0
    */
-  public boolean hasOnlyUppercase(String sequence) {
-    return hasOnlyOneCase(sequence, true);
+  public String[] generateRandomStrings(int count, int length, boolean includeDigits) {
+    final long begin = beginCall();
+    try {
+      return generateRandomStrings(count, length, includeDigits, true, true);
+    } finally {
+      endCall("generateRandomStrings", begin);
+    }
   }
 
   /**
-   * Generates a random number between the start and end parameter. The selection is inclusive - the result could be
-   * either of that numbers.
+   * Generates the given count of random strings. Every string follows the same rules as
+   * {@link #generateRandomString(int, boolean, boolean, boolean)}, but the random bytes for the whole batch are pulled
+   * in large blocks and mapped to the alphabet with unbiased rejection sampling, so a string costs a fraction of a
+   * call to the random generator instead of one call per character.
    *
-   * @param digitsCount the count of digits
+   * @param count the count of strings to be generated
+   * @param length the length of each string as characters
+   * @param includeDigits if is true it will include digits in every string
+   * @param includeCapital ignored, capital letters are always included
+   * @param includeLowercase ignored, lowercase letters are always included
    *
-   * @return the generated whole number
+   * @return array with the randomly generated strings
+   *
+   * @since 1.4.0
    */
-  public String generateRandomNumber(Integer digitsCount) {
-
-    if (digitsCount <= 0) {
-      throw new IllegalArgumentException("The number of digits cannot be 0 (zero) or negative");
-    }
-
-    StringBuilder builder = new StringBuilder();
-
-    for (int i = 0; i < digitsCount; i++) {
-      char generatedDigit = DIGITS.charAt(RANDOM.nextInt(DIGITS.length()));
-      if (i == 0) {
-        while (generatedDigit == '0') {
-          generatedDigit = DIGITS.charAt(RANDOM.nextInt(DIGITS.length()));
-        }
+  public String[] generateRandomStrings(int count, int length, boolean includeDigits, boolean includeCapital, boolean includeLowercase) {
+    final long begin = beginCall();
+    try {
+      if (count < 0) {
+        throw new IllegalArgumentException("Count must not be negative");
       }
-      builder.append(generatedDigit);
-    }
 
-    return String.valueOf(builder);
+      String[] result = new String[count];
+      generateRandomStrings(result, length, includeDigits, includeCapital, includeLowercase);
+      return result;
+    } finally {
+      endCall("generateRandomStrings", begin);
+    }
   }
 
   /**
-   * Generates a random number between the start and end parameter. The selection is inclusive - the result could be
-   * either of that numbers.
+   * Fills the given array with random strings. Works like
+   * {@link #generateRandomStrings(int, int, boolean, boolean, boolean)} but reuses an array supplied by the caller.
    *
-   * @param start the start number, the result must not be lower than that
-   * @param end the end number, the result must not be greater than that
+   * @param target the array to be filled, every element is overwritten
+   * @param length the length of each string as characters
+   * @param includeDigits if is true it will include digits in every string
+   * @param includeCapital ignored, capital letters are always included
+   * @param includeLowercase ignored, lowercase letters are always included
    *
-   * @return the generated whole number
+   * @since 1.4.0
    */
-  public Integer generateRandomNumber(Integer start, Integer end) {
-    return generateRandomNumber(start, end, true);
-  }
+  public void generateRandomStrings(String[] target, int length, boolean includeDigits, boolean includeCapital, boolean includeLowercase) {
+    final long begin = beginCall();
+    try {
+      if (target == null) {
+        throw new IllegalArgumentException("Target array must not be null");
+      }
 
-  public Integer generateRandomNumber(Integer start, Integer end, Boolean isInclusive) {
+      if (length < 0) {
+        throw new IllegalArgumentException("Length must not be negative");
+      }
 
-    if (start == null || end == null) {
-      throw new IllegalArgumentException("Start or end number must not be null");
-    }
+      if (length == 0) {
+        Arrays.fill(target, "");
+        return;
+      }
 
-    if (start > end) {
-      throw new IllegalArgumentException("The start number must be smaller than end number");
-    }
+      if (includeDigits) {
+        generateRandomStrings(target, length, DIGIT_COMPOSITION);
+        return;
+      }
 
-    if (isInclusive) {
-      return RANDOM.nextInt((end - start) + 1) + start;
-    } else {
-      return RANDOM.nextInt((end - start)) + start;
+      generateRandomStrings(target, length, Alphabet.LETTERS);
+    } finally {
+      endCall("generateRandomStrings", begin);
     }
   }
 
-  // Private methods
   /**
-   * @param sequence the sequence to be checked
-   * @param isUppercase marks if the sequence should contain only uppercase (if it is true) or only lowercase (if it is
-   * false)
+   * Generates the given count of random strings with characters of the given alphabet.
    *
-   * @return true - if the sequence contains only one type of case (upper or lower)
+   * @param count the count of strings to be generated
+   * @param length the length of each string as characters
+   * @param alphabet the characters to choose from
    *
-   * @since 1.1.0
+   * @return array with the randomly generated strings
+   *
+   * @see #generateRandomStrings(int, int, boolean, boolean, boolean)
+   * @since 1.4.0
    */
-  private boolean hasOnlyOneCase(String sequence, boolean isUppercase) {
-    if (sequence == null || sequence.trim().isEmpty()) {
-      return false;
+  public String[] generateRandomStrings(int count, int length, Alphabet alphabet) {
+    final long begin = beginCall();
+    try {
+      if (count < 0) {
+        throw new IllegalArgumentException("Count must not be negative");
+      }
+
+      String[] result = new String[count];
+      generateRandomStrings(result, length, alphabet);
+      return result;
+    } finally {
+      endCall("generateRandomStrings", begin);
     }
+  }
+
+  /**
+   * Fills the given array with random strings with characters of the given alphabet.
+   *
+   * @param target the array to be filled, every element is overwritten
+   * @param length the length of each string as characters
+   * @param alphabet the characters to choose from
+   *
+   * @since 1.4.0
+   */
+  public void generateRandomStrings(String[] target, int length, Alphabet alphabet) {
+    final long begin = beginCall();
+    try {
+      if (target == null) {
+        throw new IllegalArgumentException("Target array must not be null");
+      }
 
-    final String[] split = sequence.split("");
+      if (length < 0) {
+        throw new IllegalArgumentException("Length must not be negative");
+      }
+
+      if (alphabet == null) {
+        throw new IllegalArgumentException("Alphabet must not be null");
+      }
+
+      final BitSlicedEncoder encoder = alphabet.encoder();
+      if (encoder != null) {
+        final EntropyBuffer entropy = new EntropyBuffer(RANDOM, (long) target.length * encoder.randomBytes(length));
+        final byte[] bytes = new byte[length];
+        for (int i = 0; i < target.length; i++) {
+          encoder.fill(bytes, 0, length, entropy);
+          target[i] = new String(bytes, StandardCharsets.ISO_8859_1);
+        }
+        return;
+      }
 
-    for (String s : split) {
+      final EntropyBuffer entropy = new EntropyBuffer(RANDOM, (long) target.length * length);
+      final char[] chars = new char[length];
 
-      if (!SPECIAL_CHARACTERS.contains(s)) {
-        if (isUppercase) {
-          if (s.equals(s.toLowerCase())) {
-            return false;
-          }
-        } else {
-          if (s.equals(s.toUpperCase())) {
-            return false;
-          }
+      for (int i = 0; i < target.length; i++) {
+        for (int j = 0; j < length; j++) {
+          chars[j] = alphabet.charAt(alphabet.nextIndex(entropy));
         }
+        target[i] = new String(chars);
       }
+    } finally {
+      endCall("generateRandomStrings", begin);
     }
+  }
 
-    return true;
+  /**
+   * Returns a random string which follows the given composition. The string is generated in a single pass, see
+   * {@link Composition}.
+   *
+   * @param length the length of the string as characters
+   * @param composition the groups of characters and the minimum count of each of them
+   *
+   * @return the randomly generated string
+   *
+   * @since 1.4.0
+   */
+  public String generateRandomString(int length, Composition composition) {
+    final long begin = beginCall();
+    try {
+      if (length < 0) {
+        throw new IllegalArgumentException("Length must not be negative");
+      }
+
+      if (composition == null) {
+        throw new IllegalArgumentException("Composition must not be null");
+      }
+
+      final char[] chars = new char[length];
+      composition.fill(chars, new byte[length], new EntropyBuffer(RANDOM, 2L * length + 8));
+      return new String(chars);
+    } finally {
+      endCall("generateRandomString", begin);
+    }
+  }
+
+  /**
+   * Generates the given count of random strings which follow the given composition.
+   *
+   * @param count the count of strings to be generated
+   * @param length the length of each string as characters
+   * @param composition the groups of characters and the minimum count of each of them
+   *
+   * @return array with the randomly generated strings
+   *
+   * @since 1.4.0
+   */
+  public String[] generateRandomStrings(int count, int length, Composition composition) {
+    final long begin = beginCall();
+    try {
+      if (count < 0) {
+        throw new IllegalArgumentException("Count must not be negative");
+      }
+
+      String[] result = new String[count];
+      generateRandomStrings(result, length, composition);
+      return result;
+    } finally {
+      endCall("generateRandomStrings", begin);
+    }
+  }
+
+  /**
+   * Fills the given array with random strings which follow the given composition.
+   *
+   * @param target the array to be filled, every element is overwritten
+   * @param length the length of each string as characters
+   * @param composition the groups of characters and the minimum count of each of them
+   *
+   * @since 1.4.0
+   */
+  public void generateRandomStrings(String[] target, int length, Composition composition) {
+    final long begin = beginCall();
+    try {
+      if (target == null) {
+        throw new IllegalArgumentException("Target array must not be null");
+      }
+
+      if (length < 0) {
+        throw new IllegalArgumentException("Length must not be negative");
+      }
+
+      if (composition == null) {
+        throw new IllegalArgumentException("Composition must not be null");
+      }
+
+      final EntropyBuffer entropy = new EntropyBuffer(RANDOM, (long) target.length * (2L * length + 8));
+      final char[] chars = new char[length];
+      final byte[] labels = new byte[length];
+
+      for (int i = 0; i < target.length; i++) {
+        composition.fill(chars, labels, entropy);
+        target[i] = new String(chars);
+      }
+    } finally {
+      endCall("generateRandomStrings", begin);
+    }
+  }
+
+  /**
+   * Returns a random string whose characters are chosen independently with the weights of the given sampler, for
+   * example with the frequencies of the letters of a language.
+   *
+   * @param length the length of the string as characters
+   * @param sampler the characters and their weights, created with {@link WeightedSampler#ofCharacters(String,
+   * double...)}
+   *
+   * @return the randomly generated string
+   *
+   * @since 1.4.0
+   */
+  public String generateRandomString(int length, WeightedSampler sampler) {
+    final long begin = beginCall();
+    try {
+      if (length < 0) {
+        throw new IllegalArgumentException("Length must not be negative");
+      }
+
+      if (sampler == null || !sampler.isCharacters()) {
+        throw new IllegalArgumentException("Sampler must be a sampler of characters");
+      }
+
+      final EntropyBuffer entropy = new EntropyBuffer(RANDOM, 12L * length);
+      final char[] chars = new char[length];
+      for (int i = 0; i < length; i++) {
+        chars[i] = (char) sampler.next(entropy);
+      }
+      return new String(chars);
+    } finally {
+      endCall("generateRandomString", begin);
+    }
+  }
+
+  /**
+   * Generates a random code which follows the given pattern, for example a license key or a voucher code.
+   *
+   * @param pattern the compiled template of the code
+   *
+   * @return the randomly generated code
+   *
+   * @since 1.4.0
+   */
+  public String generateCode(CodePattern pattern) {
+    final long begin = beginCall();
+    try {
+      if (pattern == null) {
+        throw new IllegalArgumentException("Pattern must not be null");
+      }
+
+      final char[] chars = new char[pattern.length()];
+      pattern.fill(chars, new EntropyBuffer(RANDOM, 2L * pattern.randomPositions()));
+      return new String(chars);
+    } finally {
+      endCall("generateCode", begin);
+    }
+  }
+
+  /**
+   * Generates the given count of random codes which follow the given pattern.
+   *
+   * @param count the count of codes to be generated
+   * @param pattern the compiled template of the codes
+   *
+   * @return array with the randomly generated codes
+   *
+   * @since 1.4.0
+   */
+  public String[] generateCodes(int count, CodePattern pattern) {
+    final long begin = beginCall();
+    try {
+      if (count < 0) {
+        throw new IllegalArgumentException("Count must not be negative");
+      }
+
+      String[] result = new String[count];
+      generateCodes(result, pattern);
+      return result;
+    } finally {
+      endCall("generateCodes", begin);
+    }
+  }
+
+  /**
+   * Fills the given array with random codes which follow the given pattern. All codes are written through the same
+   * buffer and the random bytes are drawn in blocks.
+   *
+   * @param target the array to be filled, every element is overwritten
+   * @param pattern the compiled template of the codes
+   *
+   * @since 1.4.0
+   */
+  public void generateCodes(String[] target, CodePattern pattern) {
+    final long begin = beginCall();
+    try {
+      if (target == null) {
+        throw new IllegalArgumentException("Target array must not be null");
+      }
+
+      if (pattern == null) {
+        throw new IllegalArgumentException("Pattern must not be null");
+      }
+
+      final EntropyBuffer entropy = new EntropyBuffer(RANDOM, (long) target.length * 2L * pattern.randomPositions());
+      final char[] chars = new char[pattern.length()];
+      for (int i = 0; i < target.length; i++) {
+        pattern.fill(chars, entropy);
+        target[i] = new String(chars);
+      }
+    } finally {
+      endCall("generateCodes", begin);
+    }
+  }
+
+  /**
+   * Writes random characters of the given alphabet directly into a part of the given array, without creating a string.
+   *
+   * @param target the array to be written to
+   * @param offset the index of the first character to be written
+   * @param length the count of characters to be written
+   * @param alphabet the characters to choose from
+   *
+   * @since 1.4.0
+   */
+  public void generateRandomChars(char[] target, int offset, int length, Alphabet alphabet) {
+    final long begin = beginCall();
+    try {
+      if (target == null) {
+        throw new IllegalArgumentException("Target array must not be null");
+      }
+
+      checkRange(target.length, offset, length);
+
+      if (alphabet == null) {
+        throw new IllegalArgumentException("Alphabet must not be null");
+      }
+
+      final EntropyBuffer entropy = new EntropyBuffer(RANDOM, length);
+      final int end = offset + length;
+      for (int i = offset; i < end; i++) {
+        target[i] = alphabet.charAt(alphabet.nextIndex(entropy));
+      }
+    } finally {
+      endCall("generateRandomChars", begin);
+    }
+  }
+
+  /**
+   * Writes random characters of the given alphabet as ASCII bytes directly into a part of the given array, without
+   * creating a string.
+   *
+   * @param target the array to be written to
+   * @param offset the index of the first byte to be written
+   * @param length the count of characters to be written
+   * @param alphabet the characters to choose from, must contain only ASCII characters
+   *
+   * @since 1.4.0
+   */
+  public void generateRandomChars(byte[] target, int offset, int length, Alphabet alphabet) {
+    final long begin = beginCall();
+    try {
+      if (target == null) {
+        throw new IllegalArgumentException("Target array must not be null");
+      }
+
+      checkRange(target.length, offset, length);
+      checkAscii(alphabet);
+
+      alphabet.fill(target, offset, length, new EntropyBuffer(RANDOM, length));
+    } finally {
+      endCall("generateRandomChars", begin);
+    }
+  }
+
+  /**
+   * Writes random characters of the given alphabet as ASCII bytes into the given buffer, starting at its current
+   * position. Heap buffers are written directly, direct buffers are written in blocks. The position of the buffer is
+   * advanced by the length.
+   *
+   * @param target the buffer to be written to, must have at least length bytes remaining
+   * @param length the count of characters to be written
+   * @param alphabet the characters to choose from, must contain only ASCII characters
+   *
+   * @since 1.4.0
+   */
+  public void generateRandomChars(ByteBuffer target, int length, Alphabet alphabet) {
+    final long begin = beginCall();
+    try {
+      if (target == null) {
+        throw new IllegalArgumentException("Target buffer must not be null");
+      }
+
+      if (length < 0 || length > target.remaining()) {
+        throw new IllegalArgumentException("Length must not be negative or greater than the remaining bytes");
+      }
+
+      checkAscii(alphabet);
+
+      final EntropyBuffer entropy = new EntropyBuffer(RANDOM, length);
+
+      if (target.hasArray()) {
+        alphabet.fill(target.array(), target.arrayOffset() + target.position(), length, entropy);
+        // Buffer.position(int), ByteBuffer.position(int) only exists since Java 9
+        ((Buffer) target).position(target.position() + length);
+        return;
+      }
+
+      final byte[] block = new byte[Math.min(length, EntropyBuffer.BLOCK_SIZE)];
+      int remaining = length;
+      while (remaining > 0) {
+        final int count = Math.min(remaining, block.length);
+        alphabet.fill(block, 0, count, entropy);
+        target.put(block, 0, count);
+        remaining -= count;
+      }
+    } finally {
+      endCall("generateRandomChars", begin);
+    }
+  }
+
+  /**
+   * Appends random characters of the given alphabet to the given target, without creating a string.
+   *
+   * @param target the target to be appended to, for example a {@link StringBuilder} or a {@link java.io.Writer}
+   * @param length the count of characters to be appended
+   * @param alphabet the characters to choose from
+   *
+   * @throws UncheckedIOException if the target fails to append
+   * @since 1.4.0
+   */
+  public void generateRandomChars(Appendable target, int length, Alphabet alphabet) {
+    final long begin = beginCall();
+    try {
+      if (target == null) {
+        throw new IllegalArgumentException("Target must not be null");
+      }
+
+      if (length < 0) {
+        throw new IllegalArgumentException("Length must not be negative");
+      }
+
+      if (alphabet == null) {
+        throw new IllegalArgumentException("Alphabet must not be null");
+      }
+
+      final EntropyBuffer entropy = new EntropyBuffer(RANDOM, length);
+      try {
+        for (int i = 0; i < length; i++) {
+          target.append(alphabet.charAt(alphabet.nextIndex(entropy)));
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    } finally {
+      endCall("generateRandomChars", begin);
+    }
+  }
+
+  /**
+   * Checks if the given string sequence contains at least one digit.
+   *
+   * @param sequence the sequence to be checked
+   *
+   * @return true - if the sequence contains at least one digit; false - if not
+   */
+  public boolean hasDigitInString(String sequence) {
+    return hasDigitInString((CharSequence) sequence);
+  }
+
+  /**
+   * Checks if the given character sequence contains at least one digit. The characters are scanned in place without
+   * any allocation.
+   *
+   * @param sequence the sequence to be checked
+   *
+   * @return true - if the sequence contains at least one digit; false - if not
+   *
+   * @since 1.4.0
+   */
+  public boolean hasDigitInString(CharSequence sequence) {
+
+    if (sequence == null) {
+      return false;
+    }
+
+    final int length = sequence.length();
+
+    for (int i = 0; i < length; i++) {
+      if (Character.isDigit(sequence.charAt(i))) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Checks if a given string sequence consists only of lowercase symbols.
+   *
+   * @param sequence the sequence to be checked
+   *
+   * @return true - if the sequence contains only lowercase symbols; false - if it does not
+   *
+   * @since 1.1.0
+   */
+  public boolean hasOnlyLowercase(String sequence) {
+
+    return hasOnlyOneCase(sequence, false);
+  }
+
+  /**
+   * Checks if a given character sequence consists only of lowercase symbols. The characters are scanned in place
+   * without any allocation.
+   *
+   * @param sequence the sequence to be checked
+   *
+   * @return true - if the sequence contains only lowercase symbols; false - if it does not
+   *
+   * @since 1.4.0
+   */
+  public boolean hasOnlyLowercase(CharSequence sequence) {
+    return hasOnlyOneCase(sequence, false);
+  }
+
+  /**
+   * Checks if a given string sequence consists only of uppercase symbols.
+   *
+   * @param sequence the sequence to be checked
+   *
+   * @return true - if the sequence contains only uppercase symbols; false - if it does not
+   *
+   * @since 1.1.0
+   */
+  public boolean hasOnlyUppercase(String sequence) {
+    return hasOnlyOneCase(sequence, true);
+  }
+
+  /**
+   * Checks if a given character sequence consists only of uppercase symbols. The characters are scanned in place
+   * without any allocation.
+   *
+   * @param sequence the sequence to be checked
+   *
+   * @return true - if the sequence contains only uppercase symbols; false - if it does not
+   *
+   * @since 1.4.0
+   */
+  public boolean hasOnlyUppercase(CharSequence sequence) {
+    return hasOnlyOneCase(sequence, true);
+  }
+
+  /**
+   * Generates a random number with the given count of digits. The first digit is never zero. Every block of up to 18
+   * digits is drawn with a single call to the random generator.
+   *
+   * @param digitsCount the count of digits
+   *
+   * @return the generated whole number
+   */
+  public String generateRandomNumber(Integer digitsCount) {
+    final long begin = beginCall();
+    try {
+      if (digitsCount <= 0) {
+        throw new IllegalArgumentException("The number of digits cannot be 0 (zero) or negative");
+      }
+
+      final char[] chars = new char[digitsCount];
+      fillDigits(chars, false);
+      return new String(chars);
+    } finally {
+      endCall("generateRandomNumber", begin);
+    }
+  }
+
+  /**
+   * Generates a random number with exactly the given count of digits. The number is drawn with a single call to the
+   * random generator.
+   *
+   * @param digitsCount the count of digits, between 1 and 18
+   *
+   * @return the generated whole number
+   *
+   * @since 1.4.0
+   */
+  public long generateFixedLengthNumber(int digitsCount) {
+    final long begin = beginCall();
+    try {
+      if (digitsCount <= 0 || digitsCount > MAX_LONG_DIGITS) {
+        throw new IllegalArgumentException("The number of digits must be between 1 and " + MAX_LONG_DIGITS);
+      }
+
+      return Bounded.nextLong(RANDOM, POWERS_OF_TEN[digitsCount - 1], POWERS_OF_TEN[digitsCount] - 1);
+    } finally {
+      endCall("generateFixedLengthNumber", begin);
+    }
+  }
+
+  /**
+   * Generates a string of random digits, where leading zeros are allowed, for example one time passwords like
+   * "004721".
+   *
+   * @param digitsCount the count of digits
+   *
+   * @return the generated digits
+   *
+   * @since 1.4.0
+   */
+  public String generateRandomDigits(int digitsCount) {
+    final long begin = beginCall();
+    try {
+      if (digitsCount <= 0) {
+        throw new IllegalArgumentException("The number of digits cannot be 0 (zero) or negative");
+      }
+
+      final char[] chars = new char[digitsCount];
+      fillDigits(chars, true);
+      return new String(chars);
+    } finally {
+      endCall("generateRandomDigits", begin);
+    }
+  }
+
+  /**
+   * Generates a random number between the start and end parameter. The selection is inclusive - the result could be
+   * either of that numbers.
+   *
+   * @param start the start number, the result must not be lower than that
+   * @param end the end number, the result must not be greater than that
+   *
+   * @return the generated whole number
+   */
+  public Integer generateRandomNumber(Integer start, Integer end) {
+    final long begin = beginCall();
+    try {
+      return generateRandomNumber(start, end, true);
+    } finally {
+      endCall("generateRandomNumber", begin);
+    }
+  }
+
+  public Integer generateRandomNumber(Integer start, Integer end, Boolean isInclusive) {
+    final long begin = beginCall();
+    try {
+      if (start == null || end == null) {
+        throw new IllegalArgumentException("Start or end number must not be null");
+      }
+
+      if (start > end) {
+        throw new IllegalArgumentException("The start number must be smaller than end number");
+      }
+
+      if (isInclusive) {
+        return Bounded.nextInt(RANDOM, start, end);
+      } else {
+        if (start.equals(end)) {
+          throw new IllegalArgumentException("The start number must be smaller than end number");
+        }
+        return Bounded.nextInt(RANDOM, start, end - 1);
+      }
+    } finally {
+      endCall("generateRandomNumber", begin);
+    }
+  }
+
+  /**
+   * Generates a random int between the start and end parameter without boxing. The selection is inclusive - the
+   * result could be either of that numbers. The range may span every int.
+   *
+   * @param start the start number, the result must not be lower than that
+   * @param end the end number, the result must not be greater than that
+   *
+   * @return the generated whole number
+   *
+   * @since 1.4.0
+   */
+  public int generateRandomInt(int start, int end) {
+    final long begin = beginCall();
+    try {
+      if (start > end) {
+        throw new IllegalArgumentException("The start number must not be greater than end number");
+      }
+
+      return Bounded.nextInt(RANDOM, start, end);
+    } finally {
+      endCall("generateRandomInt", begin);
+    }
+  }
+
+  /**
+   * Generates a random long between the start and end parameter without boxing. The selection is inclusive - the
+   * result could be either of that numbers. The range may span every long.
+   *
+   * @param start the start number, the result must not be lower than that
+   * @param end the end number, the result must not be greater than that
+   *
+   * @return the generated whole number
+   *
+   * @since 1.4.0
+   */
+  public long generateRandomLong(long start, long end) {
+    final long begin = beginCall();
+    try {
+      if (start > end) {
+        throw new IllegalArgumentException("The start number must not be greater than end number");
+      }
+
+      return Bounded.nextLong(RANDOM, start, end);
+    } finally {
+      endCall("generateRandomLong", begin);
+    }
+  }
+
+  /**
+   * Generates a random double between the start and end parameter without boxing. The start is inclusive and the end
+   * is exclusive.
+   *
+   * @param start the start number, the result must not be lower than that
+   * @param end the end number, the result must be lower than that
+   *
+   * @return the generated number
+   *
+   * @since 1.4.0
+   */
+  public double generateRandomDouble(double start, double end) {
+    final long begin = beginCall();
+    try {
+      checkDoubleRange(start, end);
+
+      return Bounded.nextDouble(RANDOM, start, end);
+    } finally {
+      endCall("generateRandomDouble", begin);
+    }
+  }
+
+  /**
+   * Fills the given array with random ints between the start and end parameter, both inclusive. The random bytes for
+   * the whole array are pulled in large blocks.
+   *
+   * @param target the array to be filled, every element is overwritten
+   * @param start the start number, the results must not be lower than that
+   * @param end the end number, the results must not be greater than that
+   *
+   * @since 1.4.0
+   */
+  public void generateRandomInts(int[] target, int start, int end) {
+    final long begin = beginCall();
+    try {
+      if (target == null) {
+        throw new IllegalArgumentException("Target array must not be null");
+      }
+
+      if (start > end) {
+        throw new IllegalArgumentException("The start number must not be greater than end number");
+      }
+
+      final EntropyBuffer entropy = new EntropyBuffer(RANDOM, 4L * target.length);
+      for (int i = 0; i < target.length; i++) {
+        target[i] = Bounded.nextInt(entropy, start, end);
+      }
+    } finally {
+      endCall("generateRandomInts", begin);
+    }
+  }
+
+  /**
+   * Fills the given array with random longs between the start and end parameter, both inclusive. The random bytes for
+   * the whole array are pulled in large blocks.
+   *
+   * @param target the array to be filled, every element is overwritten
+   * @param start the start number, the results must not be lower than that
+   * @param end the end number, the results must not be greater than that
+   *
+   * @since 1.4.0
+   */
+  public void generateRandomLongs(long[] target, long start, long end) {
+    final long begin = beginCall();
+    try {
+      if (target == null) {
+        throw new IllegalArgumentException("Target array must not be null");
+      }
+
+      if (start > end) {
+        throw new IllegalArgumentException("The start number must not be greater than end number");
+      }
+
+      final EntropyBuffer entropy = new EntropyBuffer(RANDOM, 8L * target.length);
+      for (int i = 0; i < target.length; i++) {
+        target[i] = Bounded.nextLong(entropy, start, end);
+      }
+    } finally {
+      endCall("generateRandomLongs", begin);
+    }
+  }
+
+  /**
+   * Fills the given array with random doubles between the start (inclusive) and end (exclusive) parameter.
+   *
+   * @param target the array to be filled, every element is overwritten
+   * @param start the start number, the results must not be lower than that
+   * @param end the end number, the results must be lower than that
+   *
+   * @since 1.4.0
+   */
+  public void generateRandomDoubles(double[] target, double start, double end) {
+    final long begin = beginCall();
+    try {
+      if (target == null) {
+        throw new IllegalArgumentException("Target array must not be null");
+      }
+
+      checkDoubleRange(start, end);
+
+      final EntropyBuffer entropy = new EntropyBuffer(RANDOM, 8L * target.length);
+      for (int i = 0; i < target.length; i++) {
+        target[i] = Bounded.nextDouble(entropy, start, end);
+      }
+    } finally {
+      endCall("generateRandomDoubles", begin);
+    }
+  }
+
+  /**
+   * Returns a random outcome of the given sampler, with the probability of its weight. The cost does not depend on the
+   * count of outcomes.
+   *
+   * @param sampler the outcomes and their weights
+   *
+   * @return the random outcome
+   *
+   * @since 1.4.0
+   */
+  public int generateWeighted(WeightedSampler sampler) {
+    final long begin = beginCall();
+    try {
+      if (sampler == null) {
+        throw new IllegalArgumentException("Sampler must not be null");
+      }
+
+      return sampler.next(RANDOM);
+    } finally {
+      endCall("generateWeighted", begin);
+    }
+  }
+
+  /**
+   * Fills the given array with random outcomes of the given sampler. The random bytes for all outcomes are drawn in
+   * blocks.
+   *
+   * @param target the array to be filled, every element is overwritten
+   * @param sampler the outcomes and their weights
+   *
+   * @since 1.4.0
+   */
+  public void generateWeighted(int[] target, WeightedSampler sampler) {
+    final long begin = beginCall();
+    try {
+      if (target == null) {
+        throw new IllegalArgumentException("Target array must not be null");
+      }
+
+      if (sampler == null) {
+        throw new IllegalArgumentException("Sampler must not be null");
+      }
+
+      final EntropyBuffer entropy = new EntropyBuffer(RANDOM, 12L * target.length);
+      for (int i = 0; i < target.length; i++) {
+        target[i] = sampler.next(entropy);
+      }
+    } finally {
+      endCall("generateWeighted", begin);
+    }
+  }
+
+  /**
+   * Selects the given count of distinct random numbers between 0 (inclusive) and the bound (exclusive) with the
+   * algorithm of Floyd: one random number per selected number, however large the bound is. Every subset is equally
+   * likely, the order of the numbers is not random, {@link #shuffle(int[])} them for a random order.
+   *
+   * @param count the count of numbers to be selected, not greater than the bound
+   * @param bound the upper bound (exclusive) of the numbers
+   *
+   * @return array with the selected numbers
+   *
+   * @since 1.4.0
+   */
+  public int[] generateSample(int count, int bound) {
+    final long begin = beginCall();
+    try {
+      if (count < 0) {
+        throw new IllegalArgumentException("Count must not be negative");
+      }
+
+      final int[] target = new int[count];
+      generateSample(target, bound);
+      return target;
+    } finally {
+      endCall("generateSample", begin);
+    }
+  }
+
+  /**
+   * Fills the given array with distinct random numbers between 0 (inclusive) and the bound (exclusive) with the
+   * algorithm of Floyd: one random number per selected number, however large the bound is. Every subset is equally
+   * likely, the order of the numbers is not random.
+   *
+   * @param target the array to be filled, not longer than the bound
+   * @param bound the upper bound (exclusive) of the numbers
+   *
+   * @since 1.4.0
+   */
+  public void generateSample(int[] target, int bound) {
+    final long begin = beginCall();
+    try {
+      if (target == null) {
+        throw new IllegalArgumentException("Target array must not be null");
+      }
+
+      if (bound < 0) {
+        throw new IllegalArgumentException("Bound must not be negative");
+      }
+
+      if (target.length > bound) {
+        throw new IllegalArgumentException("The count of numbers must not be greater than the bound");
+      }
+
+      final int count = target.length;
+      final EntropyBuffer entropy = this.entropy.get();
+      // Small samples are searched directly, larger ones through a set of their own, a bit set when the numbers are
+      // dense and an open addressing table when they are sparse
+      final boolean sparse = count > SMALL_SAMPLE && count < bound / SPARSE_SAMPLE;
+      final int[] table = sparse ? new int[Integer.highestOneBit(count) << 2] : null;
+      final long[] bits = count > SMALL_SAMPLE && !sparse ? new long[(int) ((bound + 63L) >>> 6)] : null;
+
+      for (int i = 0, j = bound - count; i < count; i++, j++) {
+        int value = entropy.nextInt(j + 1);
+        if (!select(target, i, table, bits, value)) {
+          // Every selected number is lower than j, so j is always new
+          value = j;
+          select(target, i, table, bits, value);
+        }
+        target[i] = value;
+      }
+    } finally {
+      endCall("generateSample", begin);
+    }
+  }
+
+  /**
+   * Selects the given count of distinct random elements of the given list, every subset of positions being equally
+   * likely. The order of the elements is not random.
+   *
+   * @param <T> the type of the elements
+   * @param population the list to select from
+   * @param count the count of elements to be selected, not greater than the size of the list
+   *
+   * @return new list with the selected elements
+   *
+   * @since 1.4.0
+   */
+  public <T> List<T> generateSample(List<? extends T> population, int count) {
+    final long begin = beginCall();
+    try {
+      if (population == null) {
+        throw new IllegalArgumentException("Population must not be null");
+      }
+
+      final List<? extends T> indexed = population instanceof RandomAccess ? population : new ArrayList<>(population);
+      final int[] indexes = generateSample(count, indexed.size());
+      final List<T> sample = new ArrayList<>(count);
+      for (int index : indexes) {
+        sample.add(indexed.get(index));
+      }
+      return sample;
+    } finally {
+      endCall("generateSample", begin);
+    }
+  }
+
+  /**
+   * Shuffles the given array in place with the algorithm of Fisher and Yates, every permutation being equally likely.
+   *
+   * @param array the array to be shuffled
+   *
+   * @since 1.4.0
+   */
+  public void shuffle(int[] array) {
+    final long begin = beginCall();
+    try {
+      if (array == null) {
+        throw new IllegalArgumentException("Array must not be null");
+      }
+
+      shuffle(array, 0, array.length);
+    } finally {
+      endCall("shuffle", begin);
+    }
+  }
+
+  /**
+   * Shuffles a range of the given array in place with the algorithm of Fisher and Yates, every permutation being
+   * equally likely.
+   *
+   * @param array the array to be shuffled
+   * @param offset the index of the first element of the range
+   * @param length the count of elements in the range
+   *
+   * @since 1.4.0
+   */
+  public void shuffle(int[] array, int offset, int length) {
+    final long begin = beginCall();
+    try {
+      if (array == null) {
+        throw new IllegalArgumentException("Array must not be null");
+      }
+
+      checkRange(array.length, offset, length);
+
+      final EntropyBuffer entropy = this.entropy.get();
+      for (int i = length - 1; i > 0; i--) {
+        final int j = offset + entropy.nextInt(i + 1);
+        final int value = array[offset + i];
+        array[offset + i] = array[j];
+        array[j] = value;
+      }
+    } finally {
+      endCall("shuffle", begin);
+    }
+  }
+
+  /**
+   * Shuffles the given array in place with the algorithm of Fisher and Yates, every permutation being equally likely.
+   *
+   * @param array the array to be shuffled
+   *
+   * @since 1.4.0
+   */
+  public void shuffle(long[] array) {
+    final long begin = beginCall();
+    try {
+      if (array == null) {
+        throw new IllegalArgumentException("Array must not be null");
+      }
+
+      shuffle(array, 0, array.length);
+    } finally {
+      endCall("shuffle", begin);
+    }
+  }
+
+  /**
+   * Shuffles a range of the given array in place with the algorithm of Fisher and Yates, every permutation being
+   * equally likely.
+   *
+   * @param array the array to be shuffled
+   * @param offset the index of the first element of the range
+   * @param length the count of elements in the range
+   *
+   * @since 1.4.0
+   */
+  public void shuffle(long[] array, int offset, int length) {
+    final long begin = beginCall();
+    try {
+      if (array == null) {
+        throw new IllegalArgumentException("Array must not be null");
+      }
+
+      checkRange(array.length, offset, length);
+
+      final EntropyBuffer entropy = this.entropy.get();
+      for (int i = length - 1; i > 0; i--) {
+        final int j = offset + entropy.nextInt(i + 1);
+        final long value = array[offset + i];
+        array[offset + i] = array[j];
+        array[j] = value;
+      }
+    } finally {
+      endCall("shuffle", begin);
+    }
+  }
+
+  /**
+   * Shuffles the given list in place, every permutation being equally likely. The random numbers are drawn in blocks.
+   *
+   * @param list the list to be shuffled
+   *
+   * @since 1.4.0
+   */
+  public void shuffle(List<?> list) {
+    final long begin = beginCall();
+    try {
+      if (list == null) {
+        throw new IllegalArgumentException("List must not be null");
+      }
+
+      Collections.shuffle(list, entropy.get());
+    } finally {
+      endCall("shuffle", begin);
+    }
+  }
+
+  /**
+   * Returns a stream with the given count of random ints between the start and end parameter, both inclusive.
+   *
+   * @param count the count of numbers in the stream
+   * @param start the start number, the results must not be lower than that
+   * @param end the end number, the results must not be greater than that
+   *
+   * @return stream of random ints
+   *
+   * @since 1.4.0
+   */
+  public IntStream ints(long count, int start, int end) {
+
+    if (count < 0) {
+      throw new IllegalArgumentException("Count must not be negative");
+    }
+
+    if (start > end) {
+      throw new IllegalArgumentException("The start number must not be greater than end number");
+    }
+
+    return StreamSupport.intStream(new RandomSpliterators.Ints(RANDOM, 0, count, start, end), false);
+  }
+
+  /**
+   * Returns an infinite lazy stream of random ints between the start and end parameter, both inclusive. The stream
+   * splits evenly when it is parallel.
+   *
+   * @param start the start number, the results must not be lower than that
+   * @param end the end number, the results must not be greater than that
+   *
+   * @return infinite stream of random ints
+   *
+   * @see #ints(long, int, int)
+   * @since 1.4.0
+   */
+  public IntStream ints(int start, int end) {
+    return ints(RandomSpliterators.INFINITE, start, end);
+  }
+
+  /**
+   * Returns a stream with the given count of random longs between the start and end parameter, both inclusive.
+   *
+   * @param count the count of numbers in the stream
+   * @param start the start number, the results must not be lower than that
+   * @param end the end number, the results must not be greater than that
+   *
+   * @return stream of random longs
+   *
+   * @since 1.4.0
+   */
+  public LongStream longs(long count, long start, long end) {
+
+    if (count < 0) {
+      throw new IllegalArgumentException("Count must not be negative");
+    }
+
+    if (start > end) {
+      throw new IllegalArgumentException("The start number must not be greater than end number");
+    }
+
+    return StreamSupport.longStream(new RandomSpliterators.Longs(RANDOM, 0, count, start, end), false);
+  }
+
+  /**
+   * Returns an infinite lazy stream of random longs between the start and end parameter, both inclusive. The stream
+   * splits evenly when it is parallel.
+   *
+   * @param start the start number, the results must not be lower than that
+   * @param end the end number, the results must not be greater than that
+   *
+   * @return infinite stream of random longs
+   *
+   * @see #longs(long, long, long)
+   * @since 1.4.0
+   */
+  public LongStream longs(long start, long end) {
+    return longs(RandomSpliterators.INFINITE, start, end);
+  }
+
+  /**
+   * Returns a stream with the given count of random strings with characters of the given alphabet.
+   *
+   * @param count the count of strings in the stream
+   * @param length the length of each string as characters
+   * @param alphabet the characters to choose from
+   *
+   * @return stream of random strings
+   *
+   * @since 1.4.0
+   */
+  public Stream<String> strings(long count, int length, Alphabet alphabet) {
+
+    if (count < 0) {
+      throw new IllegalArgumentException("Count must not be negative");
+    }
+
+    if (length < 0) {
+      throw new IllegalArgumentException("Length must not be negative");
+    }
+
+    if (alphabet == null) {
+      throw new IllegalArgumentException("Alphabet must not be null");
+    }
+
+    return StreamSupport.stream(new RandomSpliterators.AlphabetStrings(RANDOM, 0, count, length, alphabet), false);
+  }
+
+  /**
+   * Returns an infinite lazy stream of random strings with characters of the given alphabet. The stream splits evenly
+   * when it is parallel.
+   *
+   * @param length the length of each string as characters
+   * @param alphabet the characters to choose from
+   *
+   * @return infinite stream of random strings
+   *
+   * @see #strings(long, int, Alphabet)
+   * @since 1.4.0
+   */
+  public Stream<String> strings(int length, Alphabet alphabet) {
+    return strings(RandomSpliterators.INFINITE, length, alphabet);
+  }
+
+  /**
+   * Returns a stream with the given count of random strings which follow the given composition.
+   *
+   * @param count the count of strings in the stream
+   * @param length the length of each string as characters
+   * @param composition the groups of characters and the minimum count of each of them
+   *
+   * @return stream of random strings
+   *
+   * @since 1.4.0
+   */
+  public Stream<String> strings(long count, int length, Composition composition) {
+
+    if (count < 0) {
+      throw new IllegalArgumentException("Count must not be negative");
+    }
+
+    if (composition == null) {
+      throw new IllegalArgumentException("Composition must not be null");
+    }
+
+    if (length < composition.minimumLength()) {
+      throw new IllegalArgumentException("Length must be at least " + composition.minimumLength()
+              + " to satisfy the composition");
+    }
+
+    return StreamSupport.stream(new RandomSpliterators.CompositionStrings(RANDOM, 0, count, length, composition), false);
+  }
+
+  /**
+   * Returns an infinite lazy stream of random strings which follow the given composition. The stream splits evenly
+   * when it is parallel.
+   *
+   * @param length the length of each string as characters
+   * @param composition the groups of characters and the minimum count of each of them
+   *
+   * @return infinite stream of random strings
+   *
+   * @see #strings(long, int, Composition)
+   * @since 1.4.0
+   */
+  public Stream<String> strings(int length, Composition composition) {
+    return strings(RandomSpliterators.INFINITE, length, composition);
+  }
+
+  /**
+   * Returns a randomy object for one record of a reproducible dataset. Its results depend only on the seed of this
+   * object and the index, so every thread or machine can generate its own range of records independently and gets
+   * exactly the same data as a single thread generating them all. The returned object must not be shared between
+   * threads. The record shares the metrics of this object.
+   *
+   * @param index the index of the record
+   *
+   * @return seeded randomy object for the record
+   *
+   * @throws IllegalStateException if this object is not {@link Builder#seed(long) seeded}
+   * @see #records(long, long)
+   * @since 1.4.0
+   */
+  public Randomy record(long index) {
+
+    if (!seeded) {
+      throw new IllegalStateException("Records are only available for seeded randomy objects");
+    }
+
+    return new Randomy(SeededRandom.recordSeed(seed, index), metrics);
+  }
+
+  /**
+   * Returns the randomy objects of the records with indexes between the from and to parameter. The stream can be
+   * parallel, the records are the same however the range is split.
+   *
+   * @param from the index of the first record (inclusive)
+   * @param to the index after the last record (exclusive)
+   *
+   * @return stream of seeded randomy objects, one for each record
+   *
+   * @throws IllegalStateException if this object is not {@link Builder#seed(long) seeded}
+   * @see #record(long)
+   * @since 1.4.0
+   */
+  public Stream<Randomy> records(long from, long to) {
+
+    if (!seeded) {
+      throw new IllegalStateException("Records are only available for seeded randomy objects");
+    }
+
+    if (from < 0 || from > to) {
+      throw new IllegalArgumentException("The record range must satisfy 0 <= from <= to");
+    }
+
+    return LongStream.range(from, to).mapToObj(this::record);
+  }
+
+  /**
+   * @return true - if the object was built with a seed
+   */
+  boolean isSeeded() {
+    return seeded;
+  }
+
+  /**
+   * Starts measuring a call of a generation method, if this object has metrics.
+   *
+   * @return the start time of the call, or -1 if the call is not measured
+   */
+  private long beginCall() {
+    return metrics == null ? -1 : metrics.begin();
+  }
+
+  /**
+   * @param operation the name of the called method
+   * @param begin the value returned by {@link #beginCall()}
+   */
+  private void endCall(String operation, long begin) {
+    if (metrics != null) {
+      metrics.end(operation, begin);
+    }
+  }
+
+  /**
+   * @return the generator used by this object
+   */
+  java.util.Random random() {
+    return RANDOM;
+  }
+
+  /**
+   * Returns a generator for use by another thread. A generator which is not thread safe is split under its lock, so
+   * the returned generator is independent of it. A thread safe generator is returned as it is.
+   *
+   * @return the generator for another thread
+   */
+  java.util.Random fork() {
+    if (!RandomSpliterators.isSplittable(RANDOM)) {
+      return RANDOM;
+    }
+    synchronized (RANDOM) {
+      return RandomSpliterators.fork(RANDOM);
+    }
+  }
+
+  // Private methods
+  /**
+   * @param arrayLength the length of the array
+   * @param offset the index of the first element of the range
+   * @param length the count of elements in the range
+   *
+   * @since 1.4.0
+   */
+  private static void checkRange(int arrayLength, int offset, int length) {
+    if (offset < 0 || length < 0 || length > arrayLength - offset) {
+      throw new IllegalArgumentException("Offset and length must not be negative and must fit in the target");
+    }
+  }
+
+  /**
+   * Adds a number to the selected numbers of a sample, kept in the table or the bit set, or else in the first elements
+   * of the sample.
+   *
+   * @param selected the numbers of the sample
+   * @param count the count of numbers selected so far
+   * @param table the open addressing table of the sample, or null
+   * @param bits the bit set of the sample, or null
+   * @param value the number to be selected
+   *
+   * @return true - if the number was not selected before
+   *
+   * @since 1.4.0
+   */
+  private static boolean select(int[] selected, int count, int[] table, long[] bits, int value) {
+    if (table != null) {
+      // The numbers are stored plus one, 0 marks a free slot
+      final int mask = table.length - 1;
+      final int hash = value * 0x9E3779B9;
+      int slot = (hash ^ hash >>> 16) & mask;
+      while (table[slot] != 0) {
+        if (table[slot] == value + 1) {
+          return false;
+        }
+        slot = (slot + 1) & mask;
+      }
+      table[slot] = value + 1;
+      return true;
+    }
+
+    if (bits != null) {
+      final long bit = 1L << value;
+      if ((bits[value >>> 6] & bit) != 0) {
+        return false;
+      }
+      bits[value >>> 6] |= bit;
+      return true;
+    }
+
+    return !contains(selected, count, value);
+  }
+
+  /**
+   * @param array the array to be searched
+   * @param length the count of elements to be searched from the start
+   * @param value the value to be found
+   *
+   * @return true - if the value is among the first elements of the array
+   *
+   * @since 1.4.0
+   */
+  private static boolean contains(int[] array, int length, int value) {
+    for (int i = 0; i < length; i++) {
+      if (array[i] == value) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @param alphabet the alphabet to be checked
+   *
+   * @since 1.4.0
+   */
+  private static void checkAscii(Alphabet alphabet) {
+    if (alphabet == null) {
+      throw new IllegalArgumentException("Alphabet must not be null");
+    }
+
+    if (!alphabet.isAscii()) {
+      throw new IllegalArgumentException("Alphabet must contain only ASCII characters to be written as bytes");
+    }
+  }
+
+  /**
+   * Fills the given characters with random digits. Every block of up to 18 digits is drawn as a single number and
+   * written out arithmetically.
+   *
+   * @param chars the characters to be filled
+   * @param leadingZeros marks if the first digit may be zero
+   *
+   * @since 1.4.0
+   */
+  private void fillDigits(char[] chars, boolean leadingZeros) {
+    int position = 0;
+    // The first block takes the digits which do not fill a whole block
+    int blockLength = chars.length % MAX_LONG_DIGITS == 0 ? MAX_LONG_DIGITS : chars.length % MAX_LONG_DIGITS;
+    long lowest = leadingZeros ? 0 : POWERS_OF_TEN[blockLength - 1];
+
+    while (position < chars.length) {
+      long value = Bounded.nextLong(RANDOM, lowest, POWERS_OF_TEN[blockLength] - 1);
+      for (int i = position + blockLength - 1; i >= position; i--) {
+        chars[i] = (char) ('0' + value % 10);
+        value /= 10;
+      }
+      position += blockLength;
+      blockLength = MAX_LONG_DIGITS;
+      lowest = 0;
+    }
+  }
+
+  /**
+   * @param start the start of the range, inclusive
+   * @param end the end of the range, exclusive
+   *
+   * @since 1.4.0
+   */
+  private static void checkDoubleRange(double start, double end) {
+    if (!(start < end) || Double.isInfinite(start) || Double.isInfinite(end)) {
+      throw new IllegalArgumentException("The start number must be smaller than end number and both must be finite");
+    }
+  }
+
+  /**
+   * @param sequence the sequence to be checked
+   * @param isUppercase marks if the sequence should contain only uppercase (if it is true) or only lowercase (if it is
+   * false)
+   *
+   * @return true - if the sequence contains only one type of case (upper or lower)
+   *
+   * @since 1.1.0
+   */
+  private boolean hasOnlyOneCase(CharSequence sequence, boolean isUppercase) {
+    if (sequence == null) {
+      return false;
+    }
+
+    final int length = sequence.length();
+
+    if (length == 0) {
+      return false;
+    }
+
+    // A sequence of whitespace only is rejected as well, because whitespace has no case
+    for (int i = 0; i < length; i++) {
+      final char c = sequence.charAt(i);
+
+      if (!Alphabet.SPECIAL.contains(c) && !hasCase(c, isUppercase)) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * @param c the character to be checked
+   * @param isUppercase marks if the character should be uppercase (if it is true) or lowercase (if it is false)
+   *
+   * @return true - if the character changes when converted to the opposite case
+   *
+   * @since 1.4.0
+   */
+  private static boolean hasCase(char c, boolean isUppercase) {
+    if (c < 128) {
+      return isUppercase ? c >= 'A' && c <= 'Z' : c >= 'a' && c <= 'z';
+    }
+
+    // Some characters, like the german sharp s, change only when converted as a string
+    final String s = String.valueOf(c);
+    return isUppercase ? !s.equals(s.toLowerCase()) : !s.equals(s.toUpperCase());
   }
 }
@@ -0,0 +1,248 @@
+package com.aarshinkov.random;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and latency histogram of the calls to a randomy object. The metrics are collected only by the randomy
+ * objects built with {@link Randomy.Builder#metrics(RandomyMetrics)}, the other objects do not pay anything for them.
+ * One metrics object may be shared by many randomy objects.
+ * <br><br>
+ * Every call of a generation method, such as {@link Randomy#generateRandomString(int, boolean)} or
+ * {@link Randomy#generateRandomNumber(Integer)}, is counted and timed once, including the other methods it delegates
+ * to. Calls slower than the threshold are also reported as {@code com.aarshinkov.random.SlowGeneration} events to the
+ * Java Flight Recorder, when it is available. The streams are not timed, their values are generated by the consumer.
+ * <br><br>
+ * The generator calls and the random bytes show the load on the generator. The strings with a digit and the numbers
+ * without a leading zero are generated in a single pass, instead of the retries of the whole string and the re-rolls
+ * of the first digit of 1.3.0. The draws which still repeat are the rejected samples of the unbiased sampling, counted
+ * as retries for the characters and indexes and as re-rolls for the bounded numbers.
+ *
+ * @author Atanas Yordanov Arshinkov
+ * @since 1.4.0
+ */
+public final class RandomyMetrics {
+
+  private static final int BUCKETS = 64;
+
+  private final long slowCallNanos;
+  private final LongAdder calls = new LongAdder();
+  private final LongAdder generatorCalls = new LongAdder();
+  private final LongAdder bytes = new LongAdder();
+  private final LongAdder slowCalls = new LongAdder();
+  private final LongAdder retries = new LongAdder();
+  private final LongAdder rerolls = new LongAdder();
+  private final LongAdder[] latencies = new LongAdder[BUCKETS];
+
+  // The depth of the measured calls of every thread, so the delegating calls are not measured twice
+  private final ThreadLocal<int[]> depth = ThreadLocal.withInitial(() -> new int[1]);
+
+  private RandomyMetrics(Builder builder) {
+    this.slowCallNanos = builder.slowCallNanos;
+    for (int i = 0; i < BUCKETS; i++) {
+      latencies[i] = new LongAdder();
+    }
+  }
+
+  /**
+   * Used as a generator for new RandomyMetrics objects.
+   *
+   * @since 1.4.0
+   */
+  public static class Builder {
+
+    private long slowCallNanos = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private Builder() {
+
+    }
+
+    /**
+     * Starts the configuration of new metrics. The configured object is built with {@link #create()}. By default a
+     * call is slow when it takes at least one millisecond.
+     *
+     * @return new builder with the default settings
+     */
+    public static Builder configure() {
+      return new Builder();
+    }
+
+    /**
+     * @param threshold the duration from which a call is counted and reported as slow
+     * @param unit the unit of the threshold
+     *
+     * @return this builder
+     */
+    public Builder slowCallThreshold(long threshold, TimeUnit unit) {
+
+      if (threshold < 0 || unit == null) {
+        throw new IllegalArgumentException("Threshold must not be negative");
+      }
+
+      this.slowCallNanos = unit.toNanos(threshold);
+      return this;
+    }
+
+    /**
+     * Builds new metrics with the configured settings
+     *
+     * @return new instance of the RandomyMetrics object
+     */
+    public RandomyMetrics create() {
+      return new RandomyMetrics(this);
+    }
+  }
+
+  /**
+   * @return the count of calls to the generation methods
+   */
+  public long calls() {
+    return calls.sum();
+  }
+
+  /**
+   * @return the count of calls to the generator
+   */
+  public long generatorCalls() {
+    return generatorCalls.sum();
+  }
+
+  /**
+   * @return the count of random bytes drawn from the generator
+   */
+  public long entropyBytes() {
+    return bytes.sum();
+  }
+
+  /**
+   * @return the count of calls which took at least the slow call threshold
+   */
+  public long slowCalls() {
+    return slowCalls.sum();
+  }
+
+  /**
+   * @return the count of random bytes and ints which were rejected while drawing unbiased characters and indexes
+   */
+  public long retries() {
+    return retries.sum();
+  }
+
+  /**
+   * @return the count of random numbers which were rejected while drawing unbiased numbers from a range, for example
+   * the first digits of a number, which must not be zero
+   */
+  public long rerolls() {
+    return rerolls.sum();
+  }
+
+  /**
+   * Returns the latency histogram of the calls. The element at index i is the count of calls which took at
+   * least 2<sup>i</sup> and less than 2<sup>i+1</sup> nanoseconds, the first element also counts the calls measured as
+   * zero nanoseconds.
+   *
+   * @return new array with the counts of the 64 buckets
+   */
+  public long[] latencyHistogram() {
+    final long[] histogram = new long[BUCKETS];
+    for (int i = 0; i < BUCKETS; i++) {
+      histogram[i] = latencies[i].sum();
+    }
+    return histogram;
+  }
+
+  /**
+   * Returns an upper bound of the given percentile of the call latency, with the precision of the histogram
+   * buckets.
+   *
+   * @param percentile the percentile, between 0 and 100
+   *
+   * @return the latency in nanoseconds under which the given percent of the calls fall, or 0 if no call was made
+   */
+  public long latencyPercentile(double percentile) {
+
+    if (!(percentile >= 0 && percentile <= 100)) {
+      throw new IllegalArgumentException("Percentile must be between 0 and 100");
+    }
+
+    final long[] histogram = latencyHistogram();
+    long total = 0;
+    for (long count : histogram) {
+      total += count;
+    }
+    if (total == 0) {
+      return 0;
+    }
+
+    final long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+    long seen = 0;
+    for (int i = 0; i < BUCKETS - 1; i++) {
+      seen += histogram[i];
+      if (seen >= rank) {
+        return (1L << (i + 1)) - 1;
+      }
+    }
+    return Long.MAX_VALUE;
+  }
+
+  /**
+   * Starts measuring a call.
+   *
+   * @return the start time of the call, or -1 if the call is made by another measured call
+   */
+  long begin() {
+    return depth.get()[0]++ == 0 ? System.nanoTime() : -1;
+  }
+
+  /**
+   * Ends measuring a call.
+   *
+   * @param operation the name of the called method
+   * @param begin the value returned by {@link #begin()}
+   */
+  void end(String operation, long begin) {
+    depth.get()[0]--;
+    if (begin < 0) {
+      return;
+    }
+
+    final long nanos = System.nanoTime() - begin;
+    calls.increment();
+    latencies[63 - Long.numberOfLeadingZeros(nanos | 1)].increment();
+    if (nanos >= slowCallNanos) {
+      slowCalls.increment();
+      FlightRecorderEvents.slowGeneration(operation, nanos);
+    }
+  }
+
+  /**
+   * Records one generator call.
+   *
+   * @param byteCount the count of random bytes drawn by the call
+   */
+  void recordDraw(int byteCount) {
+    generatorCalls.increment();
+    bytes.add(byteCount);
+  }
+
+  /**
+   * Records a rejected byte or int of a character or index draw.
+   */
+  void recordRetry() {
+    retries.increment();
+  }
+
+  /**
+   * Records a rejected number of a draw from a range.
+   */
+  void recordReroll() {
+    rerolls.increment();
+  }
+
+  @Override
+  public String toString() {
+    return "RandomyMetrics{calls=" + calls() + ", generatorCalls=" + generatorCalls() + ", entropyBytes="
+            + entropyBytes() + ", slowCalls=" + slowCalls() + ", retries=" + retries() + ", rerolls=" + rerolls()
+            + ", p50=" + latencyPercentile(50) + "ns, p99=" + latencyPercentile(99) + "ns}";
+  }
+}
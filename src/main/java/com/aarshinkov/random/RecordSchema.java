@@ -0,0 +1,257 @@
+package com.aarshinkov.random;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable layout of the random records of a dataset, such as a CSV or a fixed-width file. Every record consists of
+ * fixed-length fields of ASCII characters, separated by a delimiter and ended by a line feed, so all records have the
+ * same length in bytes and every record can be written directly at its position in a file.
+ * <br><br>
+ * Schemas are built with {@link Builder}, for example
+ * {@code RecordSchema.Builder.configure().number(9).string(12, Alphabet.LETTERS).code(pattern).create()}, and written
+ * with a {@link DatasetWriter}.
+ *
+ * @author Atanas Yordanov Arshinkov
+ * @since 1.4.0
+ */
+public final class RecordSchema {
+
+  private static final Alphabet NON_ZERO_DIGITS = Alphabet.of("123456789");
+
+  private final Field[] fields;
+  private final byte delimiter;
+  private final boolean delimited;
+  private final int recordLength;
+
+  private RecordSchema(Builder builder) {
+    this.fields = builder.fields.toArray(new Field[0]);
+    this.delimiter = (byte) builder.delimiter;
+    this.delimited = builder.delimited;
+
+    int length = 1;
+    for (Field field : fields) {
+      length += field.length;
+    }
+    if (delimited) {
+      length += fields.length - 1;
+    }
+    this.recordLength = length;
+  }
+
+  /**
+   * Used as a generator for new RecordSchema objects.
+   *
+   * @since 1.4.0
+   */
+  public static class Builder {
+
+    private final List<Field> fields = new ArrayList<>();
+    private char delimiter = ',';
+    private boolean delimited = true;
+    private long recordLength = 1;
+
+    private Builder() {
+
+    }
+
+    /**
+     * Starts the configuration of a new schema. The configured object is built with {@link #create()}. By default the
+     * fields are separated by commas.
+     *
+     * @return new builder without fields
+     */
+    public static Builder configure() {
+      return new Builder();
+    }
+
+    /**
+     * Appends a field of random characters.
+     *
+     * @param length the count of characters
+     * @param alphabet the ASCII characters to choose from
+     *
+     * @return this builder
+     */
+    public Builder string(int length, Alphabet alphabet) {
+
+      if (alphabet == null) {
+        throw new IllegalArgumentException("Alphabet must not be null");
+      }
+
+      if (!alphabet.isAscii()) {
+        throw new IllegalArgumentException("Alphabet must contain only ASCII characters to be written as bytes");
+      }
+
+      return add(new Field(length, null, alphabet, null));
+    }
+
+    /**
+     * Appends a field of random digits, which may start with zeros.
+     *
+     * @param count the count of digits
+     *
+     * @return this builder
+     */
+    public Builder digits(int count) {
+      return add(new Field(count, null, Alphabet.DIGITS, null));
+    }
+
+    /**
+     * Appends a field of random numbers with the given count of digits, without leading zeros.
+     *
+     * @param digits the count of digits
+     *
+     * @return this builder
+     */
+    public Builder number(int digits) {
+      return add(new Field(digits, NON_ZERO_DIGITS, Alphabet.DIGITS, null));
+    }
+
+    /**
+     * Appends a field of random codes.
+     *
+     * @param pattern the ASCII pattern of the codes
+     *
+     * @return this builder
+     */
+    public Builder code(CodePattern pattern) {
+
+      if (pattern == null) {
+        throw new IllegalArgumentException("Pattern must not be null");
+      }
+
+      if (!pattern.isAscii()) {
+        throw new IllegalArgumentException("Pattern must contain only ASCII characters to be written as bytes");
+      }
+
+      return add(new Field(pattern.length(), null, null, pattern));
+    }
+
+    /**
+     * @param delimiter the ASCII character between the fields
+     *
+     * @return this builder
+     */
+    public Builder delimiter(char delimiter) {
+
+      if (delimiter >= 128 || delimiter == '\n') {
+        throw new IllegalArgumentException("Delimiter must be an ASCII character other than a line feed");
+      }
+
+      this.delimiter = delimiter;
+      this.delimited = true;
+      return this;
+    }
+
+    /**
+     * Writes the fields next to each other, without delimiters.
+     *
+     * @return this builder
+     */
+    public Builder fixedWidth() {
+      this.delimited = false;
+      return this;
+    }
+
+    /**
+     * Builds a new schema with the configured fields
+     *
+     * @return new instance of the RecordSchema object
+     */
+    public RecordSchema create() {
+
+      if (fields.isEmpty()) {
+        throw new IllegalArgumentException("There must be at least one field");
+      }
+
+      if (recordLength + (delimited ? fields.size() - 1 : 0) > Integer.MAX_VALUE) {
+        throw new IllegalArgumentException("Records must not be longer than " + Integer.MAX_VALUE + " bytes");
+      }
+
+      return new RecordSchema(this);
+    }
+
+    private Builder add(Field field) {
+
+      if (field.length <= 0) {
+        throw new IllegalArgumentException("Field length must be positive");
+      }
+
+      fields.add(field);
+      recordLength += field.length;
+      return this;
+    }
+  }
+
+  /**
+   * @return the length of every record in bytes, including the delimiters and the line feed
+   */
+  public int recordLength() {
+    return recordLength;
+  }
+
+  /**
+   * @return the count of fields in every record
+   */
+  public int fieldCount() {
+    return fields.length;
+  }
+
+  /**
+   * Writes a random record, with the line feed at its end.
+   *
+   * @param target the array to be written to, with at least {@link #recordLength()} bytes from the offset
+   * @param offset the index of the first byte of the record
+   * @param entropy the source of random bytes
+   */
+  void write(byte[] target, int offset, EntropyBuffer entropy) {
+    int position = offset;
+    for (int i = 0; i < fields.length; i++) {
+      if (delimited && i > 0) {
+        target[position++] = delimiter;
+      }
+      fields[i].write(target, position, entropy);
+      position += fields[i].length;
+    }
+    target[position] = '\n';
+  }
+
+  @Override
+  public String toString() {
+    return "RecordSchema{fields=" + fields.length + ", recordLength=" + recordLength + "}";
+  }
+
+  /**
+   * A field of characters from an alphabet, optionally with a different first character, or a field of codes.
+   */
+  private static final class Field {
+
+    private final int length;
+    private final Alphabet first;
+    private final Alphabet alphabet;
+    private final CodePattern pattern;
+
+    private Field(int length, Alphabet first, Alphabet alphabet, CodePattern pattern) {
+      this.length = length;
+      this.first = first;
+      this.alphabet = alphabet;
+      this.pattern = pattern;
+    }
+
+    private void write(byte[] target, int offset, EntropyBuffer entropy) {
+      if (pattern != null) {
+        pattern.fill(target, offset, entropy);
+        return;
+      }
+
+      if (first == null) {
+        alphabet.fill(target, offset, length, entropy);
+        return;
+      }
+
+      first.fill(target, offset, 1, entropy);
+      alphabet.fill(target, offset + 1, length - 1, entropy);
+    }
+  }
+}
@@ -0,0 +1,172 @@
+package com.aarshinkov.random;
+
+import java.lang.ref.WeakReference;
+import java.security.SecureRandom;
+import java.util.Random;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Secure generator which is replaced by a freshly seeded one after a count of produced bytes or a period of time. The
+ * new generator is created and seeded on a background thread and swapped in when it is ready, so the calling threads
+ * never wait for the seeding: they keep using the previous generator until then.
+ * <br><br>
+ * All reseeding generators share one background thread. A periodic reseeding holds the generator only weakly, so it
+ * stops when the generator is no longer used.
+ *
+ * @author Atanas Yordanov Arshinkov
+ * @since 1.4.0
+ */
+final class ReseedingSecureRandom extends Random {
+
+  private static final long serialVersionUID = 1L;
+
+  private final transient SecureRandomSpec spec;
+  private final transient AtomicLong produced = new AtomicLong();
+  private final transient AtomicBoolean reseeding = new AtomicBoolean();
+  private final transient AtomicLong reseeds = new AtomicLong();
+  private volatile SecureRandom current;
+
+  /**
+   * @param spec the algorithm and the reseeding policy
+   */
+  ReseedingSecureRandom(SecureRandomSpec spec) {
+    // The seed is never used, a constant avoids the shared seed uniquifier of Random
+    super(0L);
+    this.spec = spec;
+    this.current = spec.newSecureRandom(false);
+
+    if (spec.reseedNanos() > 0) {
+      Reseeder.SCHEDULER.schedule(new PeriodicReseed(this), spec.reseedNanos(), TimeUnit.NANOSECONDS);
+    }
+  }
+
+  /**
+   * @return the count of completed reseedings
+   */
+  long reseeds() {
+    return reseeds.get();
+  }
+
+  /**
+   * @return the generator in use
+   */
+  SecureRandom current() {
+    return current;
+  }
+
+  /**
+   * @param bytes the count of bytes about to be produced
+   *
+   * @return the generator in use, after triggering a reseeding if the count of produced bytes reached the limit
+   */
+  private SecureRandom produce(int bytes) {
+    final long limit = spec.reseedBytes();
+    if (limit > 0 && produced.addAndGet(bytes) >= limit && reseeding.compareAndSet(false, true)) {
+      Reseeder.SCHEDULER.execute(this::reseed);
+    }
+    return current;
+  }
+
+  /**
+   * Replaces the generator with a freshly seeded one. Runs on the background thread.
+   */
+  private void reseed() {
+    try {
+      current = spec.newSecureRandom(true);
+      produced.set(0);
+      reseeds.incrementAndGet();
+    } catch (RuntimeException e) {
+      // Keeps the current generator, the next trigger tries again
+    } finally {
+      reseeding.set(false);
+    }
+  }
+
+  @Override
+  public synchronized void setSeed(long seed) {
+    // The generator seeds itself
+  }
+
+  @Override
+  protected int next(int bits) {
+    return produce(4).nextInt() >>> (32 - bits);
+  }
+
+  @Override
+  public int nextInt() {
+    return produce(4).nextInt();
+  }
+
+  @Override
+  public int nextInt(int bound) {
+    return produce(4).nextInt(bound);
+  }
+
+  @Override
+  public long nextLong() {
+    return produce(8).nextLong();
+  }
+
+  @Override
+  public double nextDouble() {
+    return produce(8).nextDouble();
+  }
+
+  @Override
+  public boolean nextBoolean() {
+    return produce(1).nextBoolean();
+  }
+
+  @Override
+  public void nextBytes(byte[] bytes) {
+    produce(bytes.length).nextBytes(bytes);
+  }
+
+  /**
+   * Reseeds a generator after every period for as long as the generator is used.
+   */
+  private static final class PeriodicReseed implements Runnable {
+
+    private final WeakReference<ReseedingSecureRandom> random;
+    private final long periodNanos;
+
+    private PeriodicReseed(ReseedingSecureRandom random) {
+      this.random = new WeakReference<>(random);
+      this.periodNanos = random.spec.reseedNanos();
+    }
+
+    @Override
+    public void run() {
+      final ReseedingSecureRandom target = random.get();
+      if (target == null) {
+        return;
+      }
+      if (target.reseeding.compareAndSet(false, true)) {
+        target.reseed();
+      }
+      Reseeder.SCHEDULER.schedule(this, periodNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  /**
+   * Holds the background thread, which is started with the first reseeding generator.
+   */
+  private static final class Reseeder {
+
+    private static final ScheduledExecutorService SCHEDULER = newScheduler();
+
+    private static ScheduledExecutorService newScheduler() {
+      final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+        final Thread thread = new Thread(runnable, "randomy-reseeding");
+        thread.setDaemon(true);
+        return thread;
+      });
+      scheduler.setRemoveOnCancelPolicy(true);
+      return scheduler;
+    }
+  }
+}
@@ -0,0 +1,88 @@
+package com.aarshinkov.random;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Uniform random sample of a fixed size from a stream of elements of unknown length, such as the lines of a file or
+ * the events of a queue. Every element seen so far is in the sample with the same probability. The elements which
+ * replace a sampled one are chosen with the Algorithm L of Li, so the random numbers are drawn only for the replaced
+ * elements, which become rarer as the stream grows.
+ * <br><br>
+ * The sampler is not thread-safe, but the samplers of one randomy object can be used on different threads: every
+ * sampler splits off a generator of its own from a generator which is not thread safe. For streams of primitive
+ * numbers use {@link LongReservoirSampler}, which also skips whole ranges of an array.
+ *
+ * @param <T> the type of the elements
+ *
+ * @author Atanas Yordanov Arshinkov
+ * @since 1.4.0
+ */
+public final class ReservoirSampler<T> implements Consumer<T> {
+
+  private final ReservoirSkipper skipper;
+  private final Object[] reservoir;
+
+  private ReservoirSampler(Randomy randomy, int capacity) {
+    this.skipper = new ReservoirSkipper(new EntropyBuffer(randomy.fork(), EntropyBuffer.BLOCK_SIZE), capacity);
+    this.reservoir = new Object[capacity];
+  }
+
+  /**
+   * @param <T> the type of the elements
+   * @param randomy the randomy object which provides the random numbers
+   * @param capacity the size of the sample
+   *
+   * @return new empty sampler
+   */
+  public static <T> ReservoirSampler<T> of(Randomy randomy, int capacity) {
+
+    if (randomy == null) {
+      throw new IllegalArgumentException("Randomy must not be null");
+    }
+
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Capacity must be positive");
+    }
+
+    return new ReservoirSampler<>(randomy, capacity);
+  }
+
+  /**
+   * Offers the next element of the stream to the sample.
+   *
+   * @param element the element, may be null
+   */
+  @Override
+  public void accept(T element) {
+    final int slot = skipper.offer();
+    if (slot >= 0) {
+      reservoir[slot] = element;
+    }
+  }
+
+  /**
+   * @return new list with the sampled elements, as many as the capacity or all elements if the stream is shorter
+   */
+  @SuppressWarnings("unchecked")
+  public List<T> sample() {
+    final int size = (int) Math.min(reservoir.length, skipper.count());
+    return new ArrayList<>((List<T>) Arrays.asList(Arrays.copyOf(reservoir, size)));
+  }
+
+  /**
+   * @return the count of elements seen so far
+   */
+  public long count() {
+    return skipper.count();
+  }
+
+  /**
+   * @return the size of the sample
+   */
+  public int capacity() {
+    return reservoir.length;
+  }
+}
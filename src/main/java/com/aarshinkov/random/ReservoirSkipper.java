@@ -0,0 +1,95 @@
+package com.aarshinkov.random;
+
+import java.util.Random;
+
+/**
+ * The selection of the elements of a stream which enter a reservoir sample, by the Algorithm L of Li. While the
+ * reservoir is not full every element enters it. After that the count of elements skipped before the next one which
+ * enters is drawn directly from its distribution, so the random numbers are drawn per replaced element, not per seen
+ * element, and runs of skipped elements need not be looked at at all.
+ *
+ * @author Atanas Yordanov Arshinkov
+ * @since 1.4.0
+ */
+final class ReservoirSkipper {
+
+  private final Random random;
+  private final int capacity;
+
+  private long count;
+  private long next;
+  private double weight;
+
+  /**
+   * @param random the generator to be used
+   * @param capacity the size of the reservoir, positive
+   */
+  ReservoirSkipper(Random random, int capacity) {
+    this.random = random;
+    this.capacity = capacity;
+  }
+
+  /**
+   * Counts the next element of the stream.
+   *
+   * @return the slot of the reservoir which the element takes, or -1 if the element is skipped
+   */
+  int offer() {
+    final long index = ++count;
+
+    if (index <= capacity) {
+      if (index == capacity) {
+        weight = Math.exp(Math.log(uniform()) / capacity);
+        advance();
+      }
+      return (int) (index - 1);
+    }
+
+    if (index < next) {
+      return -1;
+    }
+
+    final int slot = random.nextInt(capacity);
+    weight *= Math.exp(Math.log(uniform()) / capacity);
+    advance();
+    return slot;
+  }
+
+  /**
+   * @return the count of the following elements which are skipped anyway
+   */
+  long skippable() {
+    return count < capacity ? 0 : next - count - 1;
+  }
+
+  /**
+   * Counts the given number of elements as skipped, not more than {@link #skippable()}.
+   *
+   * @param elements the count of skipped elements
+   */
+  void skip(long elements) {
+    count += elements;
+  }
+
+  /**
+   * @return the count of seen elements
+   */
+  long count() {
+    return count;
+  }
+
+  /**
+   * Draws the index of the next element which enters the reservoir.
+   */
+  private void advance() {
+    final double skipped = Math.floor(Math.log(uniform()) / Math.log1p(-weight));
+    next = skipped < Long.MAX_VALUE - count - 1 ? count + (long) skipped + 1 : Long.MAX_VALUE;
+  }
+
+  /**
+   * @return random double between 0 (exclusive) and 1 (inclusive), so its logarithm is finite
+   */
+  private double uniform() {
+    return 1.0 - random.nextDouble();
+  }
+}
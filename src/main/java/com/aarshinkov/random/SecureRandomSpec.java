@@ -0,0 +1,100 @@
+package com.aarshinkov.random;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.NoSuchProviderException;
+import java.security.SecureRandom;
+import java.security.Security;
+import java.util.Random;
+
+/**
+ * The configured algorithm, provider and reseeding policy of the secure generators of a randomy object.
+ *
+ * @author Atanas Yordanov Arshinkov
+ * @since 1.4.0
+ */
+final class SecureRandomSpec {
+
+  private final String algorithm;
+  private final String provider;
+  private final long reseedBytes;
+  private final long reseedNanos;
+
+  /**
+   * @param algorithm the name of the algorithm, or null for the platform default
+   * @param provider the name of the provider, or null for the preferred provider of the algorithm
+   * @param reseedBytes the count of bytes after which the generator is reseeded, or 0 to not count the bytes
+   * @param reseedNanos the time after which the generator is reseeded, or 0 to not reseed periodically
+   *
+   * @throws IllegalArgumentException if the algorithm or the provider are not available
+   */
+  SecureRandomSpec(String algorithm, String provider, long reseedBytes, long reseedNanos) {
+    this.algorithm = algorithm;
+    this.provider = provider;
+    this.reseedBytes = reseedBytes;
+    this.reseedNanos = reseedNanos;
+    // Fails on the building thread rather than on the first call
+    newSecureRandom(false);
+  }
+
+  /**
+   * The platform default generator of Linux is NativePRNG, whose instances share one static lock for reading the
+   * operating system source. The stripes of a concurrent secure object use an algorithm which keeps its whole state in
+   * the instance instead, DRBG when it is available and SHA1PRNG otherwise, and every instance seeds itself on its own.
+   *
+   * @return the specification of the generators of the stripes of the secure engine
+   */
+  static SecureRandomSpec forStripes() {
+    final String algorithm = Security.getAlgorithms("SecureRandom").contains("DRBG") ? "DRBG" : "SHA1PRNG";
+    return new SecureRandomSpec(algorithm, null, 0, 0);
+  }
+
+  /**
+   * @return the count of bytes after which the generator is reseeded, or 0 if the bytes are not counted
+   */
+  long reseedBytes() {
+    return reseedBytes;
+  }
+
+  /**
+   * @return the time after which the generator is reseeded, or 0 if it is not reseeded periodically
+   */
+  long reseedNanos() {
+    return reseedNanos;
+  }
+
+  /**
+   * @return new generator of the configured algorithm, which is reseeded in the background if a policy is configured
+   */
+  Random newRandom() {
+    return reseedBytes > 0 || reseedNanos > 0 ? new ReseedingSecureRandom(this) : newSecureRandom(false);
+  }
+
+  /**
+   * @param seed marks if the generator is seeded before it is returned, otherwise it seeds itself on its first call
+   *
+   * @return new generator of the configured algorithm
+   */
+  SecureRandom newSecureRandom(boolean seed) {
+    final long begin = System.nanoTime();
+    final SecureRandom random;
+    try {
+      if (algorithm == null) {
+        random = new SecureRandom();
+      } else if (provider == null) {
+        random = SecureRandom.getInstance(algorithm);
+      } else {
+        random = SecureRandom.getInstance(algorithm, provider);
+      }
+    } catch (NoSuchAlgorithmException | NoSuchProviderException e) {
+      throw new IllegalArgumentException("The secure random algorithm " + algorithm
+              + (provider == null ? "" : " of provider " + provider) + " is not available", e);
+    }
+
+    if (seed) {
+      // Forces the seeding, which may block while the system gathers entropy
+      random.nextBytes(new byte[1]);
+      FlightRecorderEvents.seeding(random.getAlgorithm(), System.nanoTime() - begin);
+    }
+    return random;
+  }
+}
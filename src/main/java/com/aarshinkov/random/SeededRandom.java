@@ -0,0 +1,102 @@
+package com.aarshinkov.random;
+
+import java.util.Random;
+
+/**
+ * Deterministic generator with the SplitMix64 algorithm. The whole sequence follows from the seed and is defined by
+ * this class alone, so it is the same on every JVM and platform. Not thread safe.
+ * <br><br>
+ * The generator of a record is derived from the seed and the index of the record without generating the preceding
+ * records, so any part of a dataset can be generated independently.
+ *
+ * @author Atanas Yordanov Arshinkov
+ * @since 1.4.0
+ */
+final class SeededRandom extends Random {
+
+  private static final long serialVersionUID = 1L;
+
+  private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+  private long state;
+
+  /**
+   * @param seed the seed which determines the sequence
+   */
+  SeededRandom(long seed) {
+    super(0L);
+    this.state = seed;
+  }
+
+  /**
+   * @param seed the seed of the dataset
+   * @param index the index of the record
+   *
+   * @return the seed of the generator for the record with the given index
+   */
+  static long recordSeed(long seed, long index) {
+    // Bijective in the index, so every record of a dataset starts from a different state
+    return mix(mix(seed) + index * GOLDEN_GAMMA);
+  }
+
+  /**
+   * @return new generator with a state derived from this one, for the exclusive use of another thread
+   */
+  SeededRandom split() {
+    return new SeededRandom(mix(nextLong()));
+  }
+
+  @Override
+  public synchronized void setSeed(long seed) {
+    this.state = seed;
+  }
+
+  @Override
+  protected int next(int bits) {
+    return (int) (nextLong() >>> (64 - bits));
+  }
+
+  @Override
+  public int nextInt() {
+    return (int) (nextLong() >>> 32);
+  }
+
+  @Override
+  public long nextLong() {
+    return mix(state += GOLDEN_GAMMA);
+  }
+
+  @Override
+  public double nextDouble() {
+    return (nextLong() >>> 11) * 0x1.0p-53;
+  }
+
+  @Override
+  public boolean nextBoolean() {
+    return nextLong() < 0;
+  }
+
+  @Override
+  public void nextBytes(byte[] bytes) {
+    int i = 0;
+    final int words = bytes.length >> 3;
+    for (int w = 0; w < words; w++) {
+      long rnd = nextLong();
+      for (int n = 0; n < 8; n++) {
+        bytes[i++] = (byte) rnd;
+        rnd >>>= 8;
+      }
+    }
+    if (i < bytes.length) {
+      for (long rnd = nextLong(); i < bytes.length; rnd >>>= 8) {
+        bytes[i++] = (byte) rnd;
+      }
+    }
+  }
+
+  private static long mix(long z) {
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+}
@@ -0,0 +1,106 @@
+package com.aarshinkov.random;
+
+import java.security.SecureRandom;
+import java.util.Random;
+
+/**
+ * The {@link SecureRandom} shared by all randomy objects which do not ask for a dedicated generator. The generator is
+ * created and seeded on a background thread when the first randomy object is built, so neither building the objects
+ * nor, in most cases, their first call waits for the seeding.
+ *
+ * @author Atanas Yordanov Arshinkov
+ * @since 1.4.0
+ */
+final class SharedSecureRandom extends Random {
+
+  private static final long serialVersionUID = 1L;
+
+  static final SharedSecureRandom INSTANCE = new SharedSecureRandom();
+
+  private volatile SecureRandom delegate;
+  private volatile boolean warmingUp;
+
+  private SharedSecureRandom() {
+    // The seed is never used, a constant avoids the shared seed uniquifier of Random
+    super(0L);
+  }
+
+  /**
+   * Starts creating and seeding the generator on a background thread, unless it is already started.
+   */
+  void warmUp() {
+    if (delegate != null || warmingUp) {
+      return;
+    }
+    synchronized (this) {
+      if (warmingUp) {
+        return;
+      }
+      warmingUp = true;
+    }
+    final Thread thread = new Thread(this::delegate, "randomy-seeding");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  /**
+   * @return the seeded generator, creating it on the calling thread if the background seeding has not finished yet
+   */
+  private SecureRandom delegate() {
+    SecureRandom random = delegate;
+    if (random == null) {
+      synchronized (this) {
+        random = delegate;
+        if (random == null) {
+          final long begin = System.nanoTime();
+          random = new SecureRandom();
+          // Forces the seeding, which may block while the system gathers entropy
+          random.nextBytes(new byte[1]);
+          FlightRecorderEvents.seeding(random.getAlgorithm(), System.nanoTime() - begin);
+          delegate = random;
+        }
+      }
+    }
+    return random;
+  }
+
+  @Override
+  public synchronized void setSeed(long seed) {
+    // The shared generator seeds itself
+  }
+
+  @Override
+  protected int next(int bits) {
+    return delegate().nextInt() >>> (32 - bits);
+  }
+
+  @Override
+  public int nextInt() {
+    return delegate().nextInt();
+  }
+
+  @Override
+  public int nextInt(int bound) {
+    return delegate().nextInt(bound);
+  }
+
+  @Override
+  public long nextLong() {
+    return delegate().nextLong();
+  }
+
+  @Override
+  public double nextDouble() {
+    return delegate().nextDouble();
+  }
+
+  @Override
+  public boolean nextBoolean() {
+    return delegate().nextBoolean();
+  }
+
+  @Override
+  public void nextBytes(byte[] bytes) {
+    delegate().nextBytes(bytes);
+  }
+}
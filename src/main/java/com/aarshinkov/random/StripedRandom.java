@@ -0,0 +1,139 @@
+package com.aarshinkov.random;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * Thread-safe generator which spreads the calls of the different threads over a set of independently seeded
+ * generators, so the threads do not compete for the lock of a single generator. Every stripe is created on its first
+ * use, so building the generator is cheap.
+ *
+ * @author Atanas Yordanov Arshinkov
+ * @since 1.4.0
+ */
+final class StripedRandom extends Random {
+
+  private static final long serialVersionUID = 1L;
+
+  private final transient Supplier<Random> factory;
+  private final AtomicReferenceArray<Random> stripes;
+  private final int mask;
+  private final boolean guarded;
+
+  /**
+   * @param engine the engine which creates the generator of every stripe
+   * @param stripes the count of stripes, rounded up to a power of two
+   */
+  StripedRandom(RandomEngine engine, int stripes) {
+    this(engine::newRandom, engine.isThreadSafe(), stripes);
+  }
+
+  /**
+   * @param factory the factory of the generator of every stripe
+   * @param threadSafe marks if the generators can be used by many threads at once
+   * @param stripes the count of stripes, rounded up to a power of two
+   */
+  StripedRandom(Supplier<Random> factory, boolean threadSafe, int stripes) {
+    final int count = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+    this.factory = factory;
+    this.stripes = new AtomicReferenceArray<>(count);
+    this.mask = count - 1;
+    this.guarded = !threadSafe;
+  }
+
+  /**
+   * @return the count of stripes
+   */
+  int stripes() {
+    return stripes.length();
+  }
+
+  /**
+   * @return the generator assigned to the current thread
+   */
+  private Random stripe() {
+    long id = Thread.currentThread().getId();
+    // Mixes the sequential thread ids, so neighbouring threads land on different stripes
+    id *= 0x9E3779B97F4A7C15L;
+    final int index = (int) (id ^ (id >>> 32)) & mask;
+    final Random random = stripes.get(index);
+    return random != null ? random : createStripe(index);
+  }
+
+  private Random createStripe(int index) {
+    final Random random = factory.get();
+    return stripes.compareAndSet(index, null, random) ? random : stripes.get(index);
+  }
+
+  @Override
+  public synchronized void setSeed(long seed) {
+    // Every stripe is seeded on its own
+  }
+
+  @Override
+  protected int next(int bits) {
+    return nextInt() >>> (32 - bits);
+  }
+
+  @Override
+  public int nextInt() {
+    final Random random = stripe();
+    if (guarded) {
+      synchronized (random) {
+        return random.nextInt();
+      }
+    }
+    return random.nextInt();
+  }
+
+  @Override
+  public int nextInt(int bound) {
+    final Random random = stripe();
+    if (guarded) {
+      synchronized (random) {
+        return random.nextInt(bound);
+      }
+    }
+    return random.nextInt(bound);
+  }
+
+  @Override
+  public long nextLong() {
+    final Random random = stripe();
+    if (guarded) {
+      synchronized (random) {
+        return random.nextLong();
+      }
+    }
+    return random.nextLong();
+  }
+
+  @Override
+  public double nextDouble() {
+    final Random random = stripe();
+    if (guarded) {
+      synchronized (random) {
+        return random.nextDouble();
+      }
+    }
+    return random.nextDouble();
+  }
+
+  @Override
+  public boolean nextBoolean() {
+    return nextInt() < 0;
+  }
+
+  @Override
+  public void nextBytes(byte[] bytes) {
+    final Random random = stripe();
+    if (guarded) {
+      synchronized (random) {
+        random.nextBytes(bytes);
+      }
+      return;
+    }
+    random.nextBytes(bytes);
+  }
+}
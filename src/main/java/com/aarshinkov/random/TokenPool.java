@@ -0,0 +1,302 @@
+package com.aarshinkov.random;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded pool of pre-generated random strings with the same length and character groups. Taking a token is a poll
+ * from a lock-free queue, the pool is refilled in bulk on a background thread when it drops below the low watermark.
+ * <br><br>
+ * Tokens older than the configured time to live are evicted, so pre-generated secrets do not stay in memory for long.
+ * When the pool is empty, the token is generated on the calling thread.
+ *
+ * @author Atanas Yordanov Arshinkov
+ * @since 1.4.0
+ */
+public final class TokenPool implements AutoCloseable {
+
+  private final Randomy randomy;
+  private final int length;
+  private final Composition composition;
+  private final int capacity;
+  private final int lowWatermark;
+  private final long ttlNanos;
+
+  private final ConcurrentLinkedQueue<Token> tokens = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger size = new AtomicInteger();
+  private final AtomicBoolean refilling = new AtomicBoolean();
+  private final AtomicLong evictions = new AtomicLong();
+  private final ScheduledExecutorService executor;
+
+  private TokenPool(Builder builder) {
+    this.randomy = builder.randomy;
+    this.length = builder.length;
+    this.composition = builder.composition;
+    this.capacity = builder.capacity;
+    this.lowWatermark = builder.lowWatermark;
+    this.ttlNanos = builder.ttlNanos;
+
+    final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+      final Thread thread = new Thread(runnable, "randomy-token-pool");
+      thread.setDaemon(true);
+      return thread;
+    });
+    scheduler.setRemoveOnCancelPolicy(true);
+    this.executor = scheduler;
+
+    if (ttlNanos > 0) {
+      final long period = Math.max(1, ttlNanos / 2);
+      executor.scheduleWithFixedDelay(this::evictExpired, period, period, TimeUnit.NANOSECONDS);
+    }
+    triggerRefill();
+  }
+
+  /**
+   * Used as a generator for new TokenPool objects.
+   *
+   * @since 1.4.0
+   */
+  public static class Builder {
+
+    private final Randomy randomy;
+    private int length = 16;
+    private Composition composition = Composition.of(true, true, true);
+    private int capacity = 1024;
+    private int lowWatermark = -1;
+    private long ttlNanos;
+
+    private Builder(Randomy randomy) {
+      this.randomy = randomy;
+    }
+
+    /**
+     * Starts the configuration of a new token pool. The configured object is built with {@link #create()}. By default
+     * the pool keeps 1024 tokens of 16 characters with digits, capital and lowercase letters, which never expire.
+     *
+     * @param randomy the randomy object which generates the tokens
+     *
+     * @return new builder with the default settings
+     */
+    public static Builder configure(Randomy randomy) {
+
+      if (randomy == null) {
+        throw new IllegalArgumentException("Randomy must not be null");
+      }
+
+      return new Builder(randomy);
+    }
+
+    /**
+     * @param length the length of every token as characters
+     *
+     * @return this builder
+     */
+    public Builder length(int length) {
+
+      if (length < 0) {
+        throw new IllegalArgumentException("Length must not be negative");
+      }
+
+      this.length = length;
+      return this;
+    }
+
+    /**
+     * Sets the groups of characters, with the same meaning as in {@link Composition#of(boolean, boolean, boolean)}.
+     *
+     * @param includeDigits if is true every token will include at least one digit
+     * @param includeCapital marks if the tokens should include capital letters
+     * @param includeLowercase marks if the tokens should include lowercase letters
+     *
+     * @return this builder
+     */
+    public Builder groups(boolean includeDigits, boolean includeCapital, boolean includeLowercase) {
+      this.composition = Composition.of(includeDigits, includeCapital, includeLowercase);
+      return this;
+    }
+
+    /**
+     * @param capacity the maximum count of tokens in the pool
+     *
+     * @return this builder
+     */
+    public Builder capacity(int capacity) {
+
+      if (capacity <= 0) {
+        throw new IllegalArgumentException("Capacity must be positive");
+      }
+
+      this.capacity = capacity;
+      return this;
+    }
+
+    /**
+     * Sets the count of tokens below which the pool is refilled. Defaults to a quarter of the capacity.
+     *
+     * @param lowWatermark the count of tokens which triggers the refilling
+     *
+     * @return this builder
+     */
+    public Builder lowWatermark(int lowWatermark) {
+
+      if (lowWatermark < 0) {
+        throw new IllegalArgumentException("Low watermark must not be negative");
+      }
+
+      this.lowWatermark = lowWatermark;
+      return this;
+    }
+
+    /**
+     * Sets the time after which a token which is not taken is evicted and replaced. By default the tokens never
+     * expire.
+     *
+     * @param ttl the time to live
+     * @param unit the unit of the time to live
+     *
+     * @return this builder
+     */
+    public Builder timeToLive(long ttl, TimeUnit unit) {
+
+      if (ttl <= 0 || unit == null) {
+        throw new IllegalArgumentException("Time to live must be positive");
+      }
+
+      this.ttlNanos = unit.toNanos(ttl);
+      return this;
+    }
+
+    /**
+     * Builds a new token pool with the configured settings and starts filling it
+     *
+     * @return new instance of the TokenPool object
+     */
+    public TokenPool create() {
+
+      if (length < composition.minimumLength()) {
+        throw new IllegalArgumentException("Length must be at least " + composition.minimumLength()
+                + " to include every group");
+      }
+
+      if (lowWatermark < 0) {
+        lowWatermark = capacity / 4;
+      }
+
+      if (lowWatermark >= capacity) {
+        throw new IllegalArgumentException("Low watermark must be smaller than capacity");
+      }
+
+      return new TokenPool(this);
+    }
+  }
+
+  /**
+   * Takes a token from the pool. If the pool is empty, the token is generated on the calling thread.
+   *
+   * @return random token which is handed out only once
+   */
+  public String take() {
+    Token token;
+    while ((token = tokens.poll()) != null) {
+      final int remaining = size.decrementAndGet();
+      if (remaining < lowWatermark) {
+        triggerRefill();
+      }
+      if (!isExpired(token, System.nanoTime())) {
+        return token.value;
+      }
+    }
+
+    triggerRefill();
+    return randomy.generateRandomString(length, composition);
+  }
+
+  /**
+   * @return the count of tokens in the pool
+   */
+  public int size() {
+    return size.get();
+  }
+
+  /**
+   * @return the count of tokens evicted because they expired
+   */
+  long evictions() {
+    return evictions.get();
+  }
+
+  /**
+   * Stops the background refilling and evicts all tokens.
+   */
+  @Override
+  public void close() {
+    executor.shutdownNow();
+    tokens.clear();
+    size.set(0);
+  }
+
+  private boolean isExpired(Token token, long now) {
+    return ttlNanos > 0 && now - token.created >= ttlNanos;
+  }
+
+  private void triggerRefill() {
+    if (refilling.compareAndSet(false, true)) {
+      try {
+        executor.execute(this::refill);
+      } catch (RuntimeException e) {
+        // The pool is closed
+        refilling.set(false);
+      }
+    }
+  }
+
+  private void refill() {
+    try {
+      int missing;
+      while ((missing = capacity - size.get()) > 0 && !executor.isShutdown()) {
+        final String[] batch = randomy.generateRandomStrings(Math.min(missing, 256), length, composition);
+        final long now = System.nanoTime();
+        for (String value : batch) {
+          tokens.offer(new Token(value, now));
+        }
+        size.addAndGet(batch.length);
+      }
+    } finally {
+      refilling.set(false);
+    }
+
+    // A trigger which arrived while this refill was finishing was rejected, so the size is checked once more
+    if (size.get() < lowWatermark && !executor.isShutdown()) {
+      triggerRefill();
+    }
+  }
+
+  private void evictExpired() {
+    // The tokens are queued in the order of their creation, so the expired ones are at the head
+    final long now = System.nanoTime();
+    Token token;
+    while ((token = tokens.peek()) != null && isExpired(token, now)) {
+      if (tokens.remove(token)) {
+        size.decrementAndGet();
+        evictions.incrementAndGet();
+      }
+    }
+    triggerRefill();
+  }
+
+  private static final class Token {
+
+    private final String value;
+    private final long created;
+
+    private Token(String value, long created) {
+      this.value = value;
+      this.created = created;
+    }
+  }
+}
@@ -0,0 +1,484 @@
+package com.aarshinkov.random;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Validates batches of fixed-length ASCII tokens packed in a byte array or a buffer, for example the tokens of a
+ * request, one after another or separated by a delimiter. The result is a bitmap with a bit per token, so a whole batch
+ * is checked in one pass without creating a String per token.
+ * <br><br>
+ * The tokens are read eight bytes at a time into a long and every rule is checked on the eight bytes at once with
+ * arithmetic on the long (SWAR, SIMD within a register): a byte range test is two additions and a mask, without a
+ * branch per character. Tokens shorter than eight bytes, and alphabets with more than a few ranges of characters, are
+ * checked character by character with a lookup table.
+ * <br><br>
+ * A token is valid if all of its bytes are ASCII characters and it satisfies every configured rule:
+ * <ul>
+ * <li>{@link Builder#alphabet(Alphabet)} - every character is part of the alphabet</li>
+ * <li>{@link Builder#requireDigit()}, {@link Builder#requireUppercase()}, {@link Builder#requireLowercase()} - there
+ * is at least one digit, uppercase or lowercase letter</li>
+ * <li>{@link Builder#forbidUppercase()}, {@link Builder#forbidLowercase()} - there is no uppercase or lowercase
+ * letter</li>
+ * </ul>
+ *
+ * @author Atanas Yordanov Arshinkov
+ * @since 1.4.0
+ */
+public final class TokenValidator {
+
+  private static final long ONES = 0x0101010101010101L;
+  private static final long HIGH_BITS = 0x8080808080808080L;
+
+  /**
+   * The most ranges of an alphabet which are checked on whole words, more are checked character by character.
+   */
+  private static final int MAX_RANGES = 4;
+
+  private static final int ALLOWED = 1;
+  private static final int DIGIT = 2;
+  private static final int UPPERCASE = 4;
+  private static final int LOWERCASE = 8;
+
+  private static final long DIGIT_LOW = (0x80 - '0') * ONES;
+  private static final long DIGIT_HIGH = (0x7F - '9') * ONES;
+  private static final long UPPERCASE_LOW = (0x80 - 'A') * ONES;
+  private static final long UPPERCASE_HIGH = (0x7F - 'Z') * ONES;
+  private static final long LOWERCASE_LOW = (0x80 - 'a') * ONES;
+  private static final long LOWERCASE_HIGH = (0x7F - 'z') * ONES;
+
+  private final int tokenLength;
+  private final int stride;
+  private final int required;
+  private final int forbidden;
+  private final int checked;
+
+  /**
+   * The class bits of every ASCII character, for the character by character check.
+   */
+  private final byte[] classes = new byte[128];
+
+  /**
+   * The additions which test the ranges of the alphabet, or null if the alphabet is checked with the classes.
+   */
+  private final long[] rangeLows;
+  private final long[] rangeHighs;
+
+  /**
+   * The offsets of the words of a token. The last word ends with the token, so it may overlap the previous one.
+   */
+  private final int[] wordOffsets;
+
+  private TokenValidator(Builder builder) {
+    this.tokenLength = builder.tokenLength;
+    this.stride = builder.stride;
+    this.required = builder.required;
+    this.forbidden = builder.forbidden;
+    this.checked = required | forbidden;
+
+    final Alphabet alphabet = builder.alphabet;
+    int ranges = 0;
+    final long[] lows = new long[MAX_RANGES];
+    final long[] highs = new long[MAX_RANGES];
+    for (char c = 0; c < 128; c++) {
+      final boolean allowed = alphabet == null || alphabet.contains(c);
+      if (alphabet != null && allowed && (c == 0 || !alphabet.contains((char) (c - 1)))) {
+        // The start of a range, which ends before the next character which is not allowed
+        char end = c;
+        while (end < 127 && alphabet.contains((char) (end + 1))) {
+          end++;
+        }
+        if (ranges < MAX_RANGES) {
+          lows[ranges] = (0x80 - c) * ONES;
+          highs[ranges] = (0x7F - end) * ONES;
+        }
+        ranges++;
+      }
+      classes[c] = (byte) ((allowed ? ALLOWED : 0) | (c >= '0' && c <= '9' ? DIGIT : 0)
+              | (c >= 'A' && c <= 'Z' ? UPPERCASE : 0) | (c >= 'a' && c <= 'z' ? LOWERCASE : 0));
+    }
+
+    if (alphabet == null) {
+      this.rangeLows = new long[0];
+      this.rangeHighs = new long[0];
+    } else if (ranges <= MAX_RANGES) {
+      this.rangeLows = Arrays.copyOf(lows, ranges);
+      this.rangeHighs = Arrays.copyOf(highs, ranges);
+    } else {
+      this.rangeLows = null;
+      this.rangeHighs = null;
+    }
+
+    if (tokenLength < Long.BYTES) {
+      this.wordOffsets = null;
+    } else {
+      this.wordOffsets = new int[(tokenLength + Long.BYTES - 1) / Long.BYTES];
+      for (int i = 0; i < wordOffsets.length - 1; i++) {
+        wordOffsets[i] = i * Long.BYTES;
+      }
+      wordOffsets[wordOffsets.length - 1] = tokenLength - Long.BYTES;
+    }
+  }
+
+  /**
+   * Used as a generator for new TokenValidator objects.
+   *
+   * @since 1.4.0
+   */
+  public static class Builder {
+
+    private final int tokenLength;
+    private int stride;
+    private Alphabet alphabet;
+    private int required;
+    private int forbidden;
+
+    private Builder(int tokenLength) {
+      this.tokenLength = tokenLength;
+      this.stride = tokenLength;
+    }
+
+    /**
+     * Starts the configuration of a new validator. The configured object is built with {@link #create()}. By default
+     * the tokens follow each other without delimiters and every ASCII token is valid.
+     *
+     * @param tokenLength the length of every token in bytes
+     *
+     * @return new builder without rules
+     */
+    public static Builder configure(int tokenLength) {
+
+      if (tokenLength <= 0) {
+        throw new IllegalArgumentException("Token length must be positive");
+      }
+
+      return new Builder(tokenLength);
+    }
+
+    /**
+     * @param stride the distance in bytes between the starts of two tokens, for example the token length plus one for
+     * tokens separated by a delimiter
+     *
+     * @return this builder
+     */
+    public Builder stride(int stride) {
+
+      if (stride < tokenLength) {
+        throw new IllegalArgumentException("Stride must not be smaller than the token length");
+      }
+
+      this.stride = stride;
+      return this;
+    }
+
+    /**
+     * @param alphabet the ASCII characters which the tokens may contain
+     *
+     * @return this builder
+     */
+    public Builder alphabet(Alphabet alphabet) {
+
+      if (alphabet == null) {
+        throw new IllegalArgumentException("Alphabet must not be null");
+      }
+
+      if (!alphabet.isAscii()) {
+        throw new IllegalArgumentException("Alphabet must contain only ASCII characters to be checked as bytes");
+      }
+
+      this.alphabet = alphabet;
+      return this;
+    }
+
+    /**
+     * Requires at least one digit in every token.
+     *
+     * @return this builder
+     */
+    public Builder requireDigit() {
+      return require(DIGIT);
+    }
+
+    /**
+     * Requires at least one uppercase letter in every token.
+     *
+     * @return this builder
+     */
+    public Builder requireUppercase() {
+      return require(UPPERCASE);
+    }
+
+    /**
+     * Requires at least one lowercase letter in every token.
+     *
+     * @return this builder
+     */
+    public Builder requireLowercase() {
+      return require(LOWERCASE);
+    }
+
+    /**
+     * Rejects the tokens with an uppercase letter.
+     *
+     * @return this builder
+     */
+    public Builder forbidUppercase() {
+      return forbid(UPPERCASE);
+    }
+
+    /**
+     * Rejects the tokens with a lowercase letter.
+     *
+     * @return this builder
+     */
+    public Builder forbidLowercase() {
+      return forbid(LOWERCASE);
+    }
+
+    /**
+     * Builds a new validator with the configured rules
+     *
+     * @return new instance of the TokenValidator object
+     */
+    public TokenValidator create() {
+      return new TokenValidator(this);
+    }
+
+    private Builder require(int characterClass) {
+
+      if ((forbidden & characterClass) != 0) {
+        throw new IllegalArgumentException("A character class must not be both required and forbidden");
+      }
+
+      this.required |= characterClass;
+      return this;
+    }
+
+    private Builder forbid(int characterClass) {
+
+      if ((required & characterClass) != 0) {
+        throw new IllegalArgumentException("A character class must not be both required and forbidden");
+      }
+
+      this.forbidden |= characterClass;
+      return this;
+    }
+  }
+
+  /**
+   * @return the length of every token in bytes
+   */
+  public int tokenLength() {
+    return tokenLength;
+  }
+
+  /**
+   * @return the distance in bytes between the starts of two tokens
+   */
+  public int stride() {
+    return stride;
+  }
+
+  /**
+   * @param bytes the count of bytes in a batch
+   *
+   * @return the count of whole tokens in the given count of bytes
+   */
+  public int tokenCount(int bytes) {
+    return bytes < tokenLength ? 0 : (bytes - tokenLength) / stride + 1;
+  }
+
+  /**
+   * Validates every whole token of the given array.
+   *
+   * @param data the packed tokens
+   *
+   * @return bitmap with a set bit for every valid token: token i is valid if bit {@code i % 64} of element
+   * {@code i / 64} is set
+   */
+  public long[] validate(byte[] data) {
+
+    if (data == null) {
+      throw new IllegalArgumentException("Data must not be null");
+    }
+
+    final int count = tokenCount(data.length);
+    final long[] result = new long[bitmapLength(count)];
+    validate(ByteBuffer.wrap(data), 0, count, result);
+    return result;
+  }
+
+  /**
+   * Validates the given count of tokens of the given array and writes the result into the given bitmap.
+   *
+   * @param data the packed tokens
+   * @param offset the index of the first byte of the first token
+   * @param count the count of tokens
+   * @param result the bitmap of at least {@code (count + 63) / 64} elements: token i is valid if bit {@code i % 64} of
+   * element {@code i / 64} is set
+   *
+   * @return the count of valid tokens
+   */
+  public int validate(byte[] data, int offset, int count, long[] result) {
+
+    if (data == null) {
+      throw new IllegalArgumentException("Data must not be null");
+    }
+
+    checkBatch(data.length, offset, count, result);
+    return validate(ByteBuffer.wrap(data), offset, count, result);
+  }
+
+  /**
+   * Validates every whole token between the position and the limit of the given buffer. The position of the buffer
+   * is not changed.
+   *
+   * @param data the packed tokens, heap or direct
+   *
+   * @return bitmap with a set bit for every valid token: token i is valid if bit {@code i % 64} of element
+   * {@code i / 64} is set
+   */
+  public long[] validate(ByteBuffer data) {
+
+    if (data == null) {
+      throw new IllegalArgumentException("Data must not be null");
+    }
+
+    final int count = tokenCount(data.remaining());
+    final long[] result = new long[bitmapLength(count)];
+    validate(data, data.position(), count, result);
+    return result;
+  }
+
+  /**
+   * Validates every whole token between the position and the limit of the given buffer and writes the result into
+   * the given bitmap. The position of the buffer is not changed.
+   *
+   * @param data the packed tokens, heap or direct
+   * @param result the bitmap of at least {@code (tokenCount(data.remaining()) + 63) / 64} elements
+   *
+   * @return the count of valid tokens
+   */
+  public int validate(ByteBuffer data, long[] result) {
+
+    if (data == null) {
+      throw new IllegalArgumentException("Data must not be null");
+    }
+
+    final int count = tokenCount(data.remaining());
+    checkBatch(data.limit(), data.position(), count, result);
+    return validate(data, data.position(), count, result);
+  }
+
+  /**
+   * @param count the count of tokens
+   *
+   * @return the count of longs in the bitmap of the given count of tokens
+   */
+  public static int bitmapLength(int count) {
+    return (count + 63) >>> 6;
+  }
+
+  private int validate(ByteBuffer data, int offset, int count, long[] result) {
+    int valid = 0;
+    long bits = 0;
+    int position = offset;
+    for (int i = 0; i < count; i++, position += stride) {
+      if (wordOffsets != null && rangeLows != null ? isValidWords(data, position) : isValidBytes(data, position)) {
+        bits |= 1L << i;
+        valid++;
+      }
+      if ((i & 63) == 63) {
+        result[i >>> 6] = bits;
+        bits = 0;
+      }
+    }
+    if ((count & 63) != 0) {
+      result[count >>> 6] = bits;
+    }
+    return valid;
+  }
+
+  /**
+   * Checks a token eight bytes at a time.
+   */
+  private boolean isValidWords(ByteBuffer data, int offset) {
+    long invalid = 0;
+    long digits = 0;
+    long uppercase = 0;
+    long lowercase = 0;
+
+    for (int wordOffset : wordOffsets) {
+      final long word = data.getLong(offset + wordOffset);
+      // The range tests need the high bit of every byte clear, a set one makes the token invalid anyway
+      invalid |= word & HIGH_BITS;
+
+      if (rangeLows.length > 0) {
+        long allowed = 0;
+        for (int r = 0; r < rangeLows.length; r++) {
+          allowed |= inRange(word, rangeLows[r], rangeHighs[r]);
+        }
+        invalid |= ~allowed & HIGH_BITS;
+      }
+
+      if ((checked & DIGIT) != 0) {
+        digits |= inRange(word, DIGIT_LOW, DIGIT_HIGH);
+      }
+      if ((checked & UPPERCASE) != 0) {
+        uppercase |= inRange(word, UPPERCASE_LOW, UPPERCASE_HIGH);
+      }
+      if ((checked & LOWERCASE) != 0) {
+        lowercase |= inRange(word, LOWERCASE_LOW, LOWERCASE_HIGH);
+      }
+    }
+
+    final int present = (digits != 0 ? DIGIT : 0) | (uppercase != 0 ? UPPERCASE : 0)
+            | (lowercase != 0 ? LOWERCASE : 0);
+    return invalid == 0 && (present & required) == required && (present & forbidden) == 0;
+  }
+
+  /**
+   * Checks a token a byte at a time.
+   */
+  private boolean isValidBytes(ByteBuffer data, int offset) {
+    int present = 0;
+    final int end = offset + tokenLength;
+    for (int i = offset; i < end; i++) {
+      final int c = data.get(i);
+      if (c < 0 || (classes[c] & ALLOWED) == 0) {
+        return false;
+      }
+      present |= classes[c];
+    }
+    return (present & required) == required && (present & forbidden) == 0;
+  }
+
+  /**
+   * Tests every byte of a word of ASCII characters: byte + (0x80 - low) reaches the high bit if the byte is at least
+   * low, and byte + (0x7F - high) if it is above high. No addition carries into the next byte.
+   *
+   * @param word eight ASCII characters
+   * @param low the additions of the lowest character of the range
+   * @param high the additions of the highest character of the range
+   *
+   * @return the high bit of every byte which is in the range
+   */
+  private static long inRange(long word, long low, long high) {
+    return (word + low) & ~(word + high) & HIGH_BITS;
+  }
+
+  private void checkBatch(int limit, int offset, int count, long[] result) {
+
+    if (result == null) {
+      throw new IllegalArgumentException("Result must not be null");
+    }
+
+    if (offset < 0 || count < 0 || (count > 0 && (long) offset + (long) (count - 1) * stride + tokenLength > limit)) {
+      throw new IllegalArgumentException("Offset and count must not be negative and the tokens must fit in the data");
+    }
+
+    if (result.length < bitmapLength(count)) {
+      throw new IllegalArgumentException("Result must have a bit for every token");
+    }
+  }
+}
@@ -0,0 +1,248 @@
+package com.aarshinkov.random;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Generates random strings which are never handed out twice by the same generator, for example short public IDs.
+ * <br><br>
+ * The issued strings are not kept as objects. Every string is reduced to a primitive long key which is stored in a
+ * compact open addressing set, so tens of millions of IDs take about 11 to 21 bytes each: 8 bytes per slot, with the
+ * tables between three eighths and three quarters full. When the alphabet and the length
+ * fit in 63 bits (for example 10 alphanumeric characters) the key is the exact value of the string. For longer
+ * strings the key is a 64-bit hash: two different strings with the same hash only cause an extra retry, never a
+ * duplicate.
+ *
+ * @author Atanas Yordanov Arshinkov
+ * @since 1.4.0
+ */
+public final class UniqueStringGenerator {
+
+  private final int length;
+  private final Alphabet alphabet;
+  private final int maxAttempts;
+  private final boolean exact;
+  private final LongHashSet issued;
+  private final LongAdder collisions = new LongAdder();
+  private final ThreadLocal<EntropyBuffer> entropy;
+
+  private UniqueStringGenerator(Builder builder) {
+    final Randomy randomy = builder.randomy;
+    this.entropy = ThreadLocal.withInitial(() -> new EntropyBuffer(randomy.fork(), EntropyBuffer.BLOCK_SIZE));
+    this.length = builder.length;
+    this.alphabet = builder.alphabet;
+    this.maxAttempts = builder.maxAttempts;
+    this.exact = length * (Math.log(alphabet.size()) / Math.log(2)) < 63;
+    this.issued = new LongHashSet(builder.expectedSize);
+  }
+
+  /**
+   * Used as a generator for new UniqueStringGenerator objects.
+   *
+   * @since 1.4.0
+   */
+  public static class Builder {
+
+    private final Randomy randomy;
+    private int length = 8;
+    private Alphabet alphabet = Alphabet.ALPHANUMERIC;
+    private long expectedSize = 1024;
+    private int maxAttempts = 100;
+
+    private Builder(Randomy randomy) {
+      this.randomy = randomy;
+    }
+
+    /**
+     * Starts the configuration of a new generator. The configured object is built with {@link #create()}. By default
+     * the generator issues strings of 8 alphanumeric characters.
+     *
+     * @param randomy the randomy object which generates the strings
+     *
+     * @return new builder with the default settings
+     */
+    public static Builder configure(Randomy randomy) {
+
+      if (randomy == null) {
+        throw new IllegalArgumentException("Randomy must not be null");
+      }
+
+      return new Builder(randomy);
+    }
+
+    /**
+     * @param length the length of every string as characters
+     *
+     * @return this builder
+     */
+    public Builder length(int length) {
+
+      if (length <= 0) {
+        throw new IllegalArgumentException("Length must be positive");
+      }
+
+      this.length = length;
+      return this;
+    }
+
+    /**
+     * @param alphabet the characters to choose from
+     *
+     * @return this builder
+     */
+    public Builder alphabet(Alphabet alphabet) {
+
+      if (alphabet == null) {
+        throw new IllegalArgumentException("Alphabet must not be null");
+      }
+
+      this.alphabet = alphabet;
+      return this;
+    }
+
+    /**
+     * Sets the expected count of issued strings, so the set of issued strings is sized up front instead of growing.
+     *
+     * @param expectedSize the expected count of strings
+     *
+     * @return this builder
+     */
+    public Builder expectedSize(long expectedSize) {
+
+      if (expectedSize < 0) {
+        throw new IllegalArgumentException("Expected size must not be negative");
+      }
+
+      this.expectedSize = expectedSize;
+      return this;
+    }
+
+    /**
+     * Sets how many times a string is generated again after a collision before giving up. Defaults to 100.
+     *
+     * @param maxAttempts the maximum count of attempts per string
+     *
+     * @return this builder
+     */
+    public Builder maxAttempts(int maxAttempts) {
+
+      if (maxAttempts <= 0) {
+        throw new IllegalArgumentException("Max attempts must be positive");
+      }
+
+      this.maxAttempts = maxAttempts;
+      return this;
+    }
+
+    /**
+     * Builds a new generator with the configured settings
+     *
+     * @return new instance of the UniqueStringGenerator object
+     */
+    public UniqueStringGenerator create() {
+      return new UniqueStringGenerator(this);
+    }
+  }
+
+  /**
+   * Generates a string which was not issued by this generator before. Safe to call from many threads, also with
+   * engines which are not thread safe: every thread splits off a generator of its own and keeps a block of its random
+   * bytes.
+   *
+   * @return the unique random string
+   *
+   * @throws IllegalStateException if no unique string is found within the maximum attempts, which means that the
+   * space of possible strings is nearly exhausted
+   */
+  public String next() {
+    final char[] chars = new char[length];
+    final EntropyBuffer entropy = this.entropy.get();
+
+    for (int attempt = 0; attempt < maxAttempts; attempt++) {
+      long key = 0;
+      for (int i = 0; i < length; i++) {
+        final int index = alphabet.nextIndex(entropy);
+        chars[i] = alphabet.charAt(index);
+        key = accumulate(key, index);
+      }
+
+      if (issued.add(key)) {
+        return new String(chars);
+      }
+      collisions.increment();
+    }
+
+    throw new IllegalStateException("No unique string found in " + maxAttempts + " attempts");
+  }
+
+  /**
+   * Marks a string as issued, for example an ID which was issued before the application started, so the generator
+   * never returns it.
+   *
+   * @param value the issued string, must have the configured length and alphabet
+   *
+   * @return true - if the string was not marked as issued before; false - if it was
+   */
+  public boolean register(CharSequence value) {
+    return issued.add(key(value));
+  }
+
+  /**
+   * Checks if a string was issued or registered. When the strings are too long for an exact key, a string which was
+   * never issued may have the same hash as an issued one, so the check can report false positives, but never false
+   * negatives. The same holds for the result of {@link #register(CharSequence)}.
+   *
+   * @param value the string to be checked
+   *
+   * @return true - if the string was issued by this generator or registered, or shares its hash with such a string;
+   * false - if not
+   */
+  public boolean isIssued(CharSequence value) {
+    return issued.contains(key(value));
+  }
+
+  /**
+   * @return the count of issued and registered strings
+   */
+  public long issuedCount() {
+    return issued.size();
+  }
+
+  /**
+   * @return the count of generated strings which were discarded, because they were already issued
+   */
+  public long collisions() {
+    return collisions.sum();
+  }
+
+  /**
+   * @return the count of bytes used for tracking the issued strings
+   */
+  public long memoryBytes() {
+    return issued.memoryBytes();
+  }
+
+  private long key(CharSequence value) {
+
+    if (value == null || value.length() != length) {
+      throw new IllegalArgumentException("Value must have a length of " + length);
+    }
+
+    long key = 0;
+    for (int i = 0; i < length; i++) {
+      final int index = alphabet.indexOf(value.charAt(i));
+      if (index < 0) {
+        throw new IllegalArgumentException("Value contains a character which is not in the alphabet");
+      }
+      key = accumulate(key, index);
+    }
+    return key;
+  }
+
+  private long accumulate(long key, int index) {
+    if (exact) {
+      return key * alphabet.size() + index;
+    }
+    // Not injective, a collision only causes a retry
+    return LongHashSet.mix(key + index) * 31 + index;
+  }
+}
@@ -0,0 +1,211 @@
+package com.aarshinkov.random;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Immutable weighted choice between a fixed set of int outcomes. The weights are compiled once into an alias table
+ * (the method of Walker and Vose), so every draw costs a random column and a biased coin, however many outcomes there
+ * are. The same sampler can be reused by any number of calls and threads.
+ * <br><br>
+ * A sampler created with {@link #ofCharacters(String, double...)} chooses characters, so it can also generate
+ * weighted random strings with {@link Randomy#generateRandomString(int, WeightedSampler)}.
+ *
+ * @author Atanas Yordanov Arshinkov
+ * @since 1.4.0
+ */
+public final class WeightedSampler {
+
+  private final int[] outcomes;
+  private final double[] probabilities;
+  private final int[] aliases;
+  private final boolean characters;
+
+  private WeightedSampler(int[] outcomes, double[] weights, boolean characters) {
+    final int n = weights.length;
+
+    if (n == 0) {
+      throw new IllegalArgumentException("There must be at least one outcome");
+    }
+
+    double sum = 0;
+    for (double weight : weights) {
+      if (!(weight >= 0) || Double.isInfinite(weight)) {
+        throw new IllegalArgumentException("Weights must be finite and not negative");
+      }
+      sum += weight;
+    }
+
+    if (!(sum > 0) || Double.isInfinite(sum)) {
+      throw new IllegalArgumentException("The sum of the weights must be positive and finite");
+    }
+
+    this.outcomes = outcomes;
+    this.probabilities = new double[n];
+    this.aliases = new int[n];
+    this.characters = characters;
+
+    // The weights scaled so their average is 1, every column of the table is filled up to 1. Dividing by the sum first
+    // keeps weights close to Double.MAX_VALUE from overflowing
+    final double[] scaled = new double[n];
+    final int[] small = new int[n];
+    final int[] large = new int[n];
+    int smallCount = 0;
+    int largeCount = 0;
+    for (int i = 0; i < n; i++) {
+      scaled[i] = weights[i] / sum * n;
+      if (scaled[i] < 1) {
+        small[smallCount++] = i;
+      } else {
+        large[largeCount++] = i;
+      }
+    }
+
+    while (smallCount > 0 && largeCount > 0) {
+      final int less = small[--smallCount];
+      final int more = large[--largeCount];
+      probabilities[less] = scaled[less];
+      aliases[less] = more;
+      scaled[more] = (scaled[more] + scaled[less]) - 1;
+      if (scaled[more] < 1) {
+        small[smallCount++] = more;
+      } else {
+        large[largeCount++] = more;
+      }
+    }
+
+    // What is left is 1 up to rounding errors
+    while (largeCount > 0) {
+      final int i = large[--largeCount];
+      probabilities[i] = 1;
+      aliases[i] = i;
+    }
+    while (smallCount > 0) {
+      final int i = small[--smallCount];
+      probabilities[i] = 1;
+      aliases[i] = i;
+    }
+  }
+
+  /**
+   * Creates a sampler of the indexes of the given weights.
+   *
+   * @param weights the relative weight of every index, finite and not negative
+   *
+   * @return sampler which returns index i with probability weights[i] / sum(weights)
+   */
+  public static WeightedSampler of(double... weights) {
+
+    if (weights == null) {
+      throw new IllegalArgumentException("Weights must not be null");
+    }
+
+    final int[] outcomes = new int[weights.length];
+    for (int i = 0; i < outcomes.length; i++) {
+      outcomes[i] = i;
+    }
+    return new WeightedSampler(outcomes, weights.clone(), false);
+  }
+
+  /**
+   * Creates a sampler of the given outcomes.
+   *
+   * @param outcomes the possible outcomes
+   * @param weights the relative weight of the outcome with the same index, finite and not negative
+   *
+   * @return sampler which returns outcomes[i] with probability weights[i] / sum(weights)
+   */
+  public static WeightedSampler of(int[] outcomes, double[] weights) {
+
+    if (outcomes == null || weights == null) {
+      throw new IllegalArgumentException("Outcomes and weights must not be null");
+    }
+
+    if (outcomes.length != weights.length) {
+      throw new IllegalArgumentException("There must be a weight for every outcome");
+    }
+
+    return new WeightedSampler(outcomes.clone(), weights.clone(), false);
+  }
+
+  /**
+   * Creates a sampler of the keys of the given map, for example the frequencies of keys.
+   *
+   * @param weights the relative weight of every outcome, finite and not negative
+   *
+   * @return sampler which returns every key with a probability proportional to its value
+   */
+  public static WeightedSampler of(Map<Integer, ? extends Number> weights) {
+
+    if (weights == null) {
+      throw new IllegalArgumentException("Weights must not be null");
+    }
+
+    final int[] outcomes = new int[weights.size()];
+    final double[] values = new double[weights.size()];
+    int i = 0;
+    for (Map.Entry<Integer, ? extends Number> entry : weights.entrySet()) {
+      if (entry.getKey() == null || entry.getValue() == null) {
+        throw new IllegalArgumentException("Outcomes and weights must not be null");
+      }
+      outcomes[i] = entry.getKey();
+      values[i++] = entry.getValue().doubleValue();
+    }
+    return new WeightedSampler(outcomes, values, false);
+  }
+
+  /**
+   * Creates a sampler of characters, which can generate weighted random strings.
+   *
+   * @param characters the possible characters
+   * @param weights the relative weight of the character with the same index, finite and not negative
+   *
+   * @return sampler which returns the character at index i with probability weights[i] / sum(weights)
+   */
+  public static WeightedSampler ofCharacters(String characters, double... weights) {
+
+    if (characters == null || weights == null) {
+      throw new IllegalArgumentException("Characters and weights must not be null");
+    }
+
+    if (characters.length() != weights.length) {
+      throw new IllegalArgumentException("There must be a weight for every character");
+    }
+
+    final int[] outcomes = new int[characters.length()];
+    for (int i = 0; i < outcomes.length; i++) {
+      outcomes[i] = characters.charAt(i);
+    }
+    return new WeightedSampler(outcomes, weights.clone(), true);
+  }
+
+  /**
+   * @return the count of outcomes
+   */
+  public int size() {
+    return outcomes.length;
+  }
+
+  /**
+   * @return true - if the sampler was created from characters and can generate strings
+   */
+  public boolean isCharacters() {
+    return characters;
+  }
+
+  /**
+   * @param random the generator to be used
+   *
+   * @return a random outcome
+   */
+  int next(Random random) {
+    final int column = random.nextInt(outcomes.length);
+    return outcomes[random.nextDouble() < probabilities[column] ? column : aliases[column]];
+  }
+
+  @Override
+  public String toString() {
+    return "WeightedSampler{outcomes=" + Arrays.toString(outcomes) + "}";
+  }
+}
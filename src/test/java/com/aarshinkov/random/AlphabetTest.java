@@ -0,0 +1,68 @@
+package com.aarshinkov.random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class AlphabetTest {
+
+  @DisplayName("Predefined alphabets have the expected sizes")
+  @Test
+  void predefinedAlphabetSizes() {
+
+    assertThat(Alphabet.DIGITS.size()).isEqualTo(10);
+    assertThat(Alphabet.LETTERS.size()).isEqualTo(52);
+    assertThat(Alphabet.ALPHANUMERIC.size()).isEqualTo(62);
+    assertThat(Alphabet.HEX.size()).isEqualTo(16);
+    assertThat(Alphabet.BASE32.size()).isEqualTo(32);
+    assertThat(Alphabet.BASE64_URL.size()).isEqualTo(64);
+  }
+
+  @DisplayName("Alphabet from flags starts with the digits")
+  @Test
+  void alphabetFromFlags() {
+
+    assertThat(Alphabet.of(true, true, true)).isSameAs(Alphabet.ALPHANUMERIC);
+    assertThat(Alphabet.of(false, true, true)).isSameAs(Alphabet.LETTERS);
+    assertThat(Alphabet.of(true, false, true).toString()).isEqualTo("0123456789abcdefghijklmnopqrstuvwxyz");
+    assertThat(Alphabet.of(true, true, false).toString()).isEqualTo("0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ");
+  }
+
+  @DisplayName("Alphabet from flags with no groups, throw illegal argument exception")
+  @Test
+  void alphabetFromNoFlags() {
+
+    assertThrows(IllegalArgumentException.class, () -> Alphabet.of(false, false, false));
+  }
+
+  @DisplayName("Custom alphabet keeps the order and checks membership")
+  @Test
+  void customAlphabet() {
+
+    final Alphabet alphabet = Alphabet.of("xyé中");
+
+    assertThat(alphabet.size()).isEqualTo(4);
+    assertThat(alphabet.charAt(2)).isEqualTo('é');
+    assertThat(alphabet.contains('中')).isTrue();
+    assertThat(alphabet.contains('x')).isTrue();
+    assertThat(alphabet.contains('z')).isFalse();
+    assertThat(alphabet).isEqualTo(Alphabet.of("xyé中"));
+  }
+
+  @DisplayName("Invalid custom alphabets, throw illegal argument exception")
+  @Test
+  void invalidCustomAlphabet() {
+
+    assertThrows(IllegalArgumentException.class, () -> Alphabet.of(null));
+    assertThrows(IllegalArgumentException.class, () -> Alphabet.of(""));
+    assertThrows(IllegalArgumentException.class, () -> Alphabet.of("abca"));
+
+    final StringBuilder tooLong = new StringBuilder();
+    for (char c = 0; c <= Alphabet.MAX_SIZE; c++) {
+      tooLong.append(c);
+    }
+    assertThrows(IllegalArgumentException.class, () -> Alphabet.of(tooLong.toString()));
+  }
+}
@@ -0,0 +1,95 @@
+package com.aarshinkov.random;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BitSlicedEncoderTest {
+
+  private final Random random = new Random(1);
+
+  @DisplayName("Only power of two Latin-1 alphabets have an encoder")
+  @Test
+  void supportedAlphabets() {
+    assertThat(Alphabet.HEX.encoder()).isNotNull();
+    assertThat(Alphabet.BASE32.encoder()).isNotNull();
+    assertThat(Alphabet.BASE64_URL.encoder()).isNotNull();
+    assertThat(Alphabet.of("01").encoder()).isNotNull();
+    assertThat(Alphabet.ALPHANUMERIC.encoder()).isNull();
+    assertThat(Alphabet.of("x").encoder()).isNull();
+    assertThat(Alphabet.of("aĀ").encoder()).isNull();
+  }
+
+  @DisplayName("Hexadecimal and base64 encoding match the standard encodings")
+  @Test
+  void matchesStandardEncodings() {
+
+    final byte[] bytes = new byte[48];
+    random.nextBytes(bytes);
+
+    final StringBuilder hex = new StringBuilder();
+    for (byte b : bytes) {
+      hex.append(String.format("%02x", b));
+    }
+    assertThat(encode(Alphabet.HEX, bytes, 96)).isEqualTo(hex.toString());
+
+    assertThat(encode(Alphabet.BASE64_URL, bytes, 64))
+            .isEqualTo(Base64.getUrlEncoder().withoutPadding().encodeToString(bytes));
+
+    // RFC 4648 test vector
+    assertThat(encode(Alphabet.BASE32, "fooba".getBytes(StandardCharsets.US_ASCII), 8)).isEqualTo("MZXW6YTB");
+  }
+
+  @DisplayName("Encoding in place gives the same characters as encoding from another array")
+  @ParameterizedTest
+  @ValueSource(strings = {"01", "0123", "01234567", "0123456789abcdef", "ABCDEFGHIJKLMNOPQRSTUVWXYZ234567",
+    "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_"})
+  void encodesInPlace(String characters) {
+
+    final Alphabet alphabet = Alphabet.of(characters);
+    final BitSlicedEncoder encoder = alphabet.encoder();
+
+    for (int length = 0; length <= 40; length++) {
+      final int randomBytes = encoder.randomBytes(length);
+      final byte[] bytes = new byte[randomBytes];
+      random.nextBytes(bytes);
+
+      final byte[] target = new byte[length + 2];
+      System.arraycopy(bytes, 0, target, 1 + length - randomBytes, randomBytes);
+      encoder.encode(target, 1 + length - randomBytes, target, 1, length);
+
+      assertThat(new String(target, 1, length, StandardCharsets.ISO_8859_1)).isEqualTo(encode(alphabet, bytes, length));
+      assertThat(target[0]).isZero();
+      assertThat(target[length + 1]).isZero();
+    }
+  }
+
+  @DisplayName("Every character of a base32 string is equally likely")
+  @Test
+  void uniformCharacters() {
+
+    final Randomy randomy = Randomy.Builder.build();
+    final int[] counts = new int[32];
+    for (String s : randomy.generateRandomStrings(1000, 64, Alphabet.BASE32)) {
+      for (int i = 0; i < s.length(); i++) {
+        counts[Alphabet.BASE32.indexOf(s.charAt(i))]++;
+      }
+    }
+    // 2000 expected per character, the bounds are more than 8 standard deviations away
+    assertThat(Arrays.stream(counts).min().getAsInt()).isGreaterThan(1630);
+    assertThat(Arrays.stream(counts).max().getAsInt()).isLessThan(2370);
+  }
+
+  private static String encode(Alphabet alphabet, byte[] bytes, int length) {
+    final byte[] target = new byte[length];
+    alphabet.encoder().encode(bytes, 0, target, 0, length);
+    return new String(target, StandardCharsets.ISO_8859_1);
+  }
+}
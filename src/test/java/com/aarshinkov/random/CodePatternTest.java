@@ -0,0 +1,64 @@
+package com.aarshinkov.random;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CodePatternTest {
+
+  private final Randomy randomy = Randomy.Builder.build();
+
+  @DisplayName("Codes follow the placeholders of the template")
+  @Test
+  void followsPlaceholders() {
+
+    final CodePattern pattern = CodePattern.compile("AAA-999-xxxx/LX*Hh");
+    assertThat(pattern.length()).isEqualTo(18);
+    assertThat(pattern).hasToString("AAA-999-xxxx/LX*Hh");
+
+    for (String code : randomy.generateCodes(1000, pattern)) {
+      assertThat(code).matches("[A-Z]{3}-[0-9]{3}-[a-z0-9]{4}/[A-Za-z][A-Z0-9][A-Za-z0-9][0-9A-F][0-9a-f]");
+    }
+  }
+
+  @DisplayName("Escaped characters and custom placeholders")
+  @Test
+  void escapesAndCustomPlaceholders() {
+
+    final CodePattern escaped = CodePattern.compile("\\A\\9-9");
+    assertThat(randomy.generateCode(escaped)).matches("A9-[0-9]");
+
+    final CodePattern custom = CodePattern.compile("VV-9", Collections.singletonMap('V', Alphabet.of("aeiou")));
+    assertThat(randomy.generateCode(custom)).matches("[aeiou]{2}-[0-9]");
+    assertThat(custom.entropyBits()).isCloseTo(2 * Math.log(5) / Math.log(2) + Math.log(10) / Math.log(2),
+            offset(1e-9));
+
+    assertThat(randomy.generateCode(CodePattern.compile("---"))).isEqualTo("---");
+    assertThat(randomy.generateCode(CodePattern.compile(""))).isEmpty();
+    assertThat(CodePattern.compile("A-9")).isEqualTo(CodePattern.compile("A-9"));
+  }
+
+  @DisplayName("Codes are random")
+  @Test
+  void codesAreRandom() {
+
+    final Set<String> codes = new HashSet<>();
+    Collections.addAll(codes, randomy.generateCodes(1000, CodePattern.compile("XXXX-XXXX-XXXX")));
+    assertThat(codes).hasSize(1000);
+  }
+
+  @DisplayName("Invalid templates are rejected")
+  @Test
+  void rejectsInvalidTemplates() {
+    assertThrows(IllegalArgumentException.class, () -> CodePattern.compile(null));
+    assertThrows(IllegalArgumentException.class, () -> CodePattern.compile("A\\"));
+    assertThrows(IllegalArgumentException.class, () -> randomy.generateCode(null));
+    assertThrows(IllegalArgumentException.class, () -> randomy.generateCodes(-1, CodePattern.compile("A")));
+  }
+}
@@ -0,0 +1,157 @@
+package com.aarshinkov.random;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CompositionTest {
+
+  private Randomy randomy;
+
+  @BeforeEach
+  void setUp() {
+    randomy = Randomy.Builder.configure().engine(RandomEngine.SPLITTABLE).create();
+  }
+
+  @DisplayName("Generated strings meet every minimum")
+  @RepeatedTest(20)
+  @Test
+  void minimumsAreMet() {
+
+    final Composition composition = Composition.Builder.configure()
+            .digits(2).capital(1).lowercase(0).special(3).create();
+
+    for (String s : randomy.generateRandomStrings(50, 6, composition)) {
+      assertThat(s).hasSize(6);
+      assertThat(s.chars().filter(Character::isDigit).count()).isEqualTo(2);
+      assertThat(s.chars().filter(Character::isUpperCase).count()).isEqualTo(1);
+      assertThat(s.chars().filter(c -> Alphabet.SPECIAL.contains((char) c)).count()).isEqualTo(3);
+    }
+  }
+
+  @DisplayName("Generated strings are uniform over the valid strings")
+  @Test
+  void uniformOverValidStrings() {
+
+    final Composition composition = Composition.Builder.configure()
+            .group(Alphabet.of("01"), 1).group(Alphabet.of("x"), 0).create();
+    final int samples = 40000;
+    final Map<String, Integer> counts = new HashMap<>();
+
+    for (String s : randomy.generateRandomStrings(samples, 2, composition)) {
+      counts.merge(s, 1, Integer::sum);
+    }
+
+    // 00, 01, 10, 11, 0x, 1x, x0, x1
+    assertThat(counts).hasSize(8).doesNotContainKey("xx");
+    for (int count : counts.values()) {
+      assertThat((double) count / samples).isCloseTo(1.0 / 8, within(0.01));
+    }
+  }
+
+  @DisplayName("Generated strings with several minimums pass a chi-square test over the valid strings")
+  @Test
+  void chiSquareWithSeveralMinimums() {
+
+    final Randomy seeded = Randomy.Builder.configure().seed(42).create();
+
+    // 24 strings of a digit, a letter and x, 24 strings of two digits and a letter, 24 of a digit and two letters
+    final Composition composition = Composition.Builder.configure()
+            .group(Alphabet.of("01"), 1).group(Alphabet.of("ab"), 1).group(Alphabet.of("x"), 0).create();
+    assertThat(chiSquare(seeded, composition, 3, 72)).isLessThan(112.3);
+
+    // 4 positions * 2 digits * 8 strings of three letters, 6 positions * 4 strings of two digits * 4 of two letters
+    final Composition twoLetters = Composition.Builder.configure()
+            .group(Alphabet.of("01"), 1).group(Alphabet.of("ab"), 2).create();
+    assertThat(chiSquare(seeded, twoLetters, 4, 160)).isLessThan(216.6);
+  }
+
+  /**
+   * @return the chi-square statistic of 1000 samples per valid string, the limits are the critical values for p = 0.001
+   */
+  private static double chiSquare(Randomy randomy, Composition composition, int length, int validStrings) {
+
+    final int samples = 1000 * validStrings;
+    final Map<String, Integer> counts = new HashMap<>();
+    for (String s : randomy.generateRandomStrings(samples, length, composition)) {
+      counts.merge(s, 1, Integer::sum);
+    }
+    assertThat(counts).hasSize(validStrings);
+
+    final double expected = (double) samples / validStrings;
+    double statistic = 0;
+    for (int count : counts.values()) {
+      statistic += (count - expected) * (count - expected) / expected;
+    }
+    return statistic;
+  }
+
+  @DisplayName("Too many combinations of minimums, throw illegal argument exception")
+  @Test
+  void tooManyMinimums() {
+
+    assertThrows(IllegalArgumentException.class,
+            () -> Composition.Builder.configure().digits(31).capital(31).lowercase(1).create());
+    assertThat(Composition.Builder.configure().digits(31).capital(31).create().minimumLength()).isEqualTo(62);
+  }
+
+  @DisplayName("Generate random string with a composition")
+  @Test
+  void generateRandomString() {
+
+    final Composition composition = Composition.Builder.configure().digits(4).create();
+
+    assertThat(randomy.generateRandomString(4, composition)).matches("[0-9]{4}");
+    assertThat(composition.minimumLength()).isEqualTo(4);
+  }
+
+  @DisplayName("Length shorter than the minimums, throw illegal argument exception")
+  @Test
+  void lengthTooShort() {
+
+    final Composition composition = Composition.Builder.configure().digits(3).capital(2).create();
+
+    assertThrows(IllegalArgumentException.class, () -> randomy.generateRandomString(4, composition));
+  }
+
+  @DisplayName("Invalid compositions, throw illegal argument exception")
+  @Test
+  void invalidComposition() {
+
+    assertThrows(IllegalArgumentException.class, () -> Composition.Builder.configure().create());
+    assertThrows(IllegalArgumentException.class, () -> Composition.Builder.configure().digits(-1));
+    assertThrows(IllegalArgumentException.class, () -> Composition.Builder.configure().group(null, 1));
+    assertThrows(IllegalArgumentException.class, () -> Composition.Builder.configure().digits(1).group(Alphabet.HEX, 0));
+    assertThrows(IllegalArgumentException.class, () -> randomy.generateRandomString(4, (Composition) null));
+  }
+
+  @DisplayName("Long strings with a composition")
+  @Test
+  void longStrings() {
+
+    final Composition composition = Composition.Builder.configure().digits(1).capital(1).lowercase(1).create();
+
+    assertThat(randomy.generateRandomString(4096, composition)).hasSize(4096);
+    assertThat(randomy.generateRandomString(100_000, true, true, true)).hasSize(100_000);
+  }
+
+  @DisplayName("Count of a single required group follows its distribution in long strings")
+  @Test
+  void singleMinimumCount() {
+
+    long digits = 0;
+    for (String s : randomy.generateRandomStrings(400, 1000, true, true, true)) {
+      digits += s.chars().filter(Character::isDigit).count();
+    }
+
+    // 1000 * 10 / 62 digits are expected in every string
+    assertThat(digits / 400.0).isCloseTo(161.3, within(3.0));
+  }
+}
@@ -0,0 +1,117 @@
+package com.aarshinkov.random;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class DatasetWriterTest {
+
+  private static final RecordSchema SCHEMA = RecordSchema.Builder.configure()
+          .number(9)
+          .string(12, Alphabet.LETTERS)
+          .string(8, Alphabet.HEX)
+          .code(CodePattern.compile("XX-99"))
+          .create();
+
+  @TempDir
+  Path directory;
+
+  @DisplayName("Files are filled with random records")
+  @ParameterizedTest
+  @EnumSource(RandomEngine.class)
+  void writesRecords(RandomEngine engine) throws IOException {
+
+    final Randomy randomy = Randomy.Builder.configure().engine(engine).create();
+    final DatasetWriter writer = DatasetWriter.Builder.configure(randomy, SCHEMA).parallelism(4).create();
+    final Path file = directory.resolve("records.csv");
+
+    assertThat(writer.write(file, 20_000)).isEqualTo(20_000L * SCHEMA.recordLength());
+    assertThat(Files.size(file)).isEqualTo(20_000L * SCHEMA.recordLength());
+
+    final List<String> lines = Files.readAllLines(file, StandardCharsets.US_ASCII);
+    assertThat(lines).hasSize(20_000);
+    final Set<String> unique = new HashSet<>(lines);
+    assertThat(unique).hasSize(20_000);
+    for (String line : lines) {
+      assertThat(line).matches("[1-9][0-9]{8},[A-Za-z]{12},[0-9a-f]{8},[A-Z0-9]{2}-[0-9]{2}");
+    }
+  }
+
+  @DisplayName("Seeded files do not depend on the parallelism or the written range")
+  @Test
+  void seededFilesAreReproducible() throws IOException {
+
+    final Randomy randomy = Randomy.Builder.configure().seed(42).create();
+    final Path sequential = directory.resolve("sequential.csv");
+    final Path parallel = directory.resolve("parallel.csv");
+
+    DatasetWriter.Builder.configure(randomy, SCHEMA).parallelism(1).create().write(sequential, 10_000);
+    DatasetWriter.Builder.configure(randomy, SCHEMA).parallelism(8).create().write(parallel, 10_000);
+
+    final byte[] expected = Files.readAllBytes(sequential);
+    assertThat(Files.readAllBytes(parallel)).isEqualTo(expected);
+
+    // A range which starts and ends in the middle of blocks, written after a header
+    final int length = SCHEMA.recordLength();
+    final Path part = directory.resolve("part.csv");
+    try (FileChannel channel = FileChannel.open(part, StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE)) {
+      channel.write(ByteBuffer.wrap("header\n".getBytes(StandardCharsets.US_ASCII)));
+      final long written = DatasetWriter.Builder.configure(randomy, SCHEMA).create().write(channel, 7, 3_001, 7_777);
+      assertThat(written).isEqualTo(4_776L * length);
+    }
+    final byte[] partBytes = Files.readAllBytes(part);
+    assertThat(new String(partBytes, 0, 7, StandardCharsets.US_ASCII)).isEqualTo("header\n");
+    assertThat(Arrays.copyOfRange(partBytes, 7, partBytes.length))
+            .isEqualTo(Arrays.copyOfRange(expected, 3_001 * length, 7_777 * length));
+
+    // The same records written into a buffer
+    final ByteBuffer buffer = ByteBuffer.allocate(100 * length + 3);
+    assertThat(DatasetWriter.Builder.configure(randomy, SCHEMA).create().write(buffer, 5_000)).isEqualTo(100);
+    assertThat(buffer.position()).isEqualTo(100 * length);
+    assertThat(Arrays.copyOf(buffer.array(), 100 * length))
+            .isEqualTo(Arrays.copyOfRange(expected, 5_000 * length, 5_100 * length));
+
+    final Randomy other = Randomy.Builder.configure().seed(43).create();
+    final Path otherFile = directory.resolve("other.csv");
+    DatasetWriter.Builder.configure(other, SCHEMA).create().write(otherFile, 10_000);
+    assertThat(Files.readAllBytes(otherFile)).isNotEqualTo(expected);
+  }
+
+  @DisplayName("Empty datasets and invalid arguments")
+  @Test
+  void rejectsInvalidArguments() throws IOException {
+
+    final Randomy randomy = Randomy.Builder.build();
+    final DatasetWriter writer = DatasetWriter.Builder.configure(randomy, SCHEMA).create();
+    final Path file = directory.resolve("empty.csv");
+
+    assertThat(writer.write(file, 0)).isZero();
+    assertThat(Files.size(file)).isZero();
+    assertThat(writer.schema()).isSameAs(SCHEMA);
+
+    assertThrows(IllegalArgumentException.class, () -> writer.write((Path) null, 10));
+    assertThrows(IllegalArgumentException.class, () -> writer.write(file, -1));
+    assertThrows(IllegalArgumentException.class, () -> writer.write((ByteBuffer) null, 0));
+    assertThrows(IllegalArgumentException.class, () -> DatasetWriter.Builder.configure(null, SCHEMA));
+    assertThrows(IllegalArgumentException.class, () -> DatasetWriter.Builder.configure(randomy, null));
+    assertThrows(IllegalArgumentException.class,
+            () -> DatasetWriter.Builder.configure(randomy, SCHEMA).parallelism(0));
+  }
+}
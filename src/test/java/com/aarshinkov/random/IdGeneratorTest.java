@@ -0,0 +1,160 @@
+package com.aarshinkov.random;
+
+import java.math.BigInteger;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class IdGeneratorTest {
+
+  private static final long MILLIS = 1_700_000_000_123L;
+
+  private final Randomy randomy = Randomy.Builder.build();
+  private final Clock fixed = Clock.fixed(Instant.ofEpochMilli(MILLIS), ZoneOffset.UTC);
+
+  @DisplayName("Random UUIDs have version 4 and are formatted like UUID")
+  @Test
+  void randomUuids() {
+
+    final IdGenerator generator = IdGenerator.Builder.configure(randomy).create();
+    final Set<UUID> uuids = new HashSet<>();
+    for (int i = 0; i < 1000; i++) {
+      final UUID uuid = generator.randomUuid();
+      assertThat(uuid.version()).isEqualTo(4);
+      assertThat(uuid.variant()).isEqualTo(2);
+      assertThat(IdGenerator.formatUuid(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits()))
+              .isEqualTo(uuid.toString());
+      uuids.add(uuid);
+    }
+    assertThat(uuids).hasSize(1000);
+
+    final long[] pairs = new long[200];
+    generator.randomUuids(pairs);
+    for (int i = 0; i < pairs.length; i += 2) {
+      assertThat(new UUID(pairs[i], pairs[i + 1]).version()).isEqualTo(4);
+    }
+  }
+
+  @DisplayName("Threads sharing a generator which is not thread safe get distinct IDs")
+  @Test
+  void distinctAcrossThreads() throws Exception {
+
+    final Randomy[] randomies = {
+      Randomy.Builder.configure().seed(7).create(),
+      Randomy.Builder.configure().engine(RandomEngine.SPLITTABLE).create()
+    };
+    for (Randomy shared : randomies) {
+      final IdGenerator generator = IdGenerator.Builder.configure(shared).create();
+      final ExecutorService executor = Executors.newFixedThreadPool(4);
+      try {
+        final List<Future<List<UUID>>> futures = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+          futures.add(executor.submit(() -> {
+            final List<UUID> uuids = new ArrayList<>();
+            for (int i = 0; i < 5000; i++) {
+              uuids.add(generator.randomUuid());
+            }
+            return uuids;
+          }));
+        }
+
+        final Set<UUID> uuids = new HashSet<>();
+        for (Future<List<UUID>> future : futures) {
+          uuids.addAll(future.get());
+        }
+        assertThat(uuids).hasSize(20_000);
+      } finally {
+        executor.shutdownNow();
+      }
+    }
+  }
+
+  @DisplayName("Time-ordered UUIDs have version 7 and the timestamp of the clock")
+  @Test
+  void timeOrderedUuids() {
+
+    final IdGenerator generator = IdGenerator.Builder.configure(randomy).clock(fixed).create();
+    final UUID uuid = generator.timeOrderedUuid();
+    assertThat(uuid.version()).isEqualTo(7);
+    assertThat(uuid.variant()).isEqualTo(2);
+    assertThat(uuid.getMostSignificantBits() >>> 16).isEqualTo(MILLIS);
+  }
+
+  @DisplayName("Monotonic time-ordered UUIDs increase within the same millisecond")
+  @Test
+  void monotonicUuids() {
+
+    final IdGenerator generator = IdGenerator.Builder.configure(randomy).clock(fixed).monotonic().create();
+    final long[] pairs = new long[20_000];
+    generator.timeOrderedUuids(pairs);
+
+    for (int i = 2; i < pairs.length; i += 2) {
+      final UUID previous = new UUID(pairs[i - 2], pairs[i - 1]);
+      final UUID current = new UUID(pairs[i], pairs[i + 1]);
+      assertThat(current.version()).isEqualTo(7);
+      assertThat(current.variant()).isEqualTo(2);
+      assertThat(unsigned(current)).isGreaterThan(unsigned(previous));
+      // The string form sorts in the same order
+      assertThat(current.toString()).isGreaterThan(previous.toString());
+    }
+  }
+
+  @DisplayName("ULIDs encode the timestamp and sort in monotonic mode")
+  @Test
+  void ulids() {
+
+    final IdGenerator generator = IdGenerator.Builder.configure(randomy).clock(fixed).monotonic().create();
+
+    String previous = "";
+    for (int i = 0; i < 1000; i++) {
+      final String ulid = generator.ulid();
+      assertThat(ulid).hasSize(26).matches("[0-9A-HJKMNP-TV-Z]{26}");
+      assertThat(ulid).isGreaterThan(previous);
+      assertThat(decode(ulid).shiftRight(80).longValue()).isEqualTo(MILLIS);
+      previous = ulid;
+    }
+
+    final long[] pair = {0x0123456789ABCDEFL, 0xFEDCBA9876543210L};
+    final BigInteger expected = new BigInteger(1, new byte[]{1, 0x23, 0x45, 0x67, (byte) 0x89, (byte) 0xAB,
+      (byte) 0xCD, (byte) 0xEF, (byte) 0xFE, (byte) 0xDC, (byte) 0xBA, (byte) 0x98, 0x76, 0x54, 0x32, 0x10});
+    assertThat(decode(IdGenerator.formatUlid(pair[0], pair[1]))).isEqualTo(expected);
+    assertThat(IdGenerator.formatUlid(-1L, -1L)).isEqualTo("7ZZZZZZZZZZZZZZZZZZZZZZZZZ");
+  }
+
+  @DisplayName("Invalid arguments are rejected")
+  @Test
+  void rejectsInvalidArguments() {
+
+    final IdGenerator generator = IdGenerator.Builder.configure(randomy).create();
+    assertThrows(IllegalArgumentException.class, () -> generator.ulids(new long[3]));
+    assertThrows(IllegalArgumentException.class, () -> generator.randomUuids(null));
+    assertThrows(IllegalArgumentException.class, () -> IdGenerator.Builder.configure(null));
+    assertThrows(IllegalArgumentException.class, () -> IdGenerator.Builder.configure(randomy).clock(null));
+  }
+
+  private static BigInteger unsigned(UUID uuid) {
+    return new BigInteger(Long.toUnsignedString(uuid.getMostSignificantBits())).shiftLeft(64)
+            .add(new BigInteger(Long.toUnsignedString(uuid.getLeastSignificantBits())));
+  }
+
+  private static BigInteger decode(String ulid) {
+    BigInteger value = BigInteger.ZERO;
+    for (int i = 0; i < ulid.length(); i++) {
+      value = value.shiftLeft(5).add(BigInteger.valueOf("0123456789ABCDEFGHJKMNPQRSTVWXYZ".indexOf(ulid.charAt(i))));
+    }
+    return value;
+  }
+}
@@ -0,0 +1,43 @@
+package com.aarshinkov.random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LongHashSetTest {
+
+  @DisplayName("Keys are added once and the tables grow")
+  @Test
+  void addsAndGrows() {
+
+    final LongHashSet set = new LongHashSet(0);
+    final long initialMemory = set.memoryBytes();
+
+    for (long key = -50_000; key < 50_000; key++) {
+      assertThat(set.add(key)).isTrue();
+    }
+    for (long key = -50_000; key < 50_000; key += 7) {
+      assertThat(set.add(key)).isFalse();
+      assertThat(set.contains(key)).isTrue();
+    }
+
+    assertThat(set.contains(50_000)).isFalse();
+    assertThat(set.size()).isEqualTo(100_000);
+    assertThat(set.memoryBytes()).isGreaterThan(initialMemory);
+  }
+
+  @DisplayName("Expected size avoids growing")
+  @Test
+  void expectedSize() {
+
+    final LongHashSet set = new LongHashSet(100_000);
+    final long memory = set.memoryBytes();
+
+    for (long key = 1; key <= 100_000; key++) {
+      set.add(key * 0x9E3779B97F4A7C15L);
+    }
+
+    assertThat(set.memoryBytes()).isEqualTo(memory);
+  }
+}
@@ -0,0 +1,80 @@
+package com.aarshinkov.random;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class PrefetchingRandomTest {
+
+  @DisplayName("Background thread fills the buffer up to the high watermark")
+  @Test
+  void fillsUpToHighWatermark() throws InterruptedException {
+
+    final PrefetchingRandom random = new PrefetchingRandom(RandomEngine.SPLITTABLE.newRandom(), 4096, 1024, 2048);
+
+    for (int i = 0; i < 100 && random.readyChunks() < 8; i++) {
+      Thread.sleep(10);
+    }
+    assertThat(random.readyChunks()).isEqualTo(2048 / PrefetchingRandom.CHUNK_SIZE);
+  }
+
+  @DisplayName("Values are served across chunk boundaries")
+  @Test
+  void servesAcrossChunks() {
+
+    final PrefetchingRandom random = new PrefetchingRandom(RandomEngine.SECURE.newRandom(), 1024, 256, 1024);
+
+    final byte[] bytes = new byte[5000];
+    random.nextBytes(bytes);
+    assertThat(bytes).isNotEqualTo(new byte[5000]);
+
+    for (int i = 0; i < 1000; i++) {
+      assertThat(random.nextInt(7)).isBetween(0, 6);
+      assertThat(random.nextDouble()).isGreaterThanOrEqualTo(0.0).isLessThan(1.0);
+    }
+  }
+
+  @DisplayName("Prefetching randomy object is safe to share between threads")
+  @Test
+  void sharedBetweenThreads() throws Exception {
+
+    final Randomy randomy = Randomy.Builder.configure().prefetch(2048).create();
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    try {
+      final List<Future<String[]>> futures = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        futures.add(executor.submit(() -> randomy.generateRandomStrings(500, 12, true)));
+      }
+
+      final Set<String> generated = new HashSet<>();
+      for (Future<String[]> future : futures) {
+        for (String s : future.get()) {
+          assertThat(s).hasSize(12);
+          generated.add(s);
+        }
+      }
+      assertThat(generated).hasSize(4000);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @DisplayName("Invalid watermarks, throw illegal argument exception")
+  @Test
+  void invalidWatermarks() {
+
+    assertThrows(IllegalArgumentException.class, () -> Randomy.Builder.configure().prefetch(1024, 512, 512));
+    assertThrows(IllegalArgumentException.class, () -> Randomy.Builder.configure().prefetch(1024, 0, 2048));
+    assertThrows(IllegalArgumentException.class, () -> Randomy.Builder.configure().prefetch(0));
+  }
+}
@@ -0,0 +1,157 @@
+package com.aarshinkov.random;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RandomPublisherTest {
+
+  private final Randomy randomy = Randomy.Builder.build();
+
+  @DisplayName("Publisher delivers exactly the requested count of values")
+  @Test
+  void honoursDemand() throws InterruptedException {
+
+    final Recorder<String> recorder = new Recorder<>(300);
+    RandomPublisher.strings(randomy, 10, Alphabet.BASE32).subscribe(recorder);
+
+    recorder.subscription.request(100);
+    recorder.subscription.request(200);
+    assertThat(recorder.received.await(5, TimeUnit.SECONDS)).isTrue();
+
+    // No value arrives without demand
+    Thread.sleep(50);
+    assertThat(recorder.values).hasSize(300).allMatch(s -> s.matches("[A-Z2-7]{10}"));
+    assertThat(recorder.error).isNull();
+  }
+
+  @DisplayName("Publisher stops after cancellation")
+  @Test
+  void stopsAfterCancel() throws InterruptedException {
+
+    final Recorder<Integer> recorder = new Recorder<Integer>(1000) {
+      @Override
+      public void onNext(Integer item) {
+        super.onNext(item);
+        if (values.size() == 10) {
+          subscription.cancel();
+        }
+      }
+    };
+    RandomPublisher.ints(randomy, 1, 6).executor(Runnable::run).subscribe(recorder);
+
+    recorder.subscription.request(Long.MAX_VALUE);
+    assertThat(recorder.values).hasSize(10).allMatch(i -> i >= 1 && i <= 6);
+  }
+
+  @DisplayName("Publisher signals an error for a request which is not positive")
+  @Test
+  void rejectsInvalidRequest() {
+
+    final Recorder<Long> recorder = new Recorder<>(1);
+    RandomPublisher.longs(randomy, 0L, 1L).executor(Runnable::run).subscribe(recorder);
+
+    recorder.subscription.request(0);
+    assertThat(recorder.error).isInstanceOf(IllegalArgumentException.class);
+    assertThat(recorder.values).isEmpty();
+  }
+
+  @DisplayName("Publisher ends the subscription when the subscriber fails")
+  @Test
+  void failingSubscriber() {
+
+    final Recorder<Integer> recorder = new Recorder<Integer>(3) {
+      @Override
+      public void onNext(Integer item) {
+        super.onNext(item);
+        if (values.size() == 3) {
+          throw new IllegalStateException("Subscriber failure");
+        }
+      }
+    };
+    RandomPublisher.ints(randomy, 1, 6).executor(Runnable::run).subscribe(recorder);
+
+    recorder.subscription.request(10);
+    assertThat(recorder.error).isInstanceOf(IllegalStateException.class);
+    assertThat(recorder.values).hasSize(3);
+
+    recorder.subscription.request(10);
+    assertThat(recorder.values).hasSize(3);
+  }
+
+  @DisplayName("Every subscriber receives its own sequence of a seeded randomy object")
+  @Test
+  void independentSubscriptions() {
+
+    final List<List<Long>> runs = new CopyOnWriteArrayList<>();
+    for (int run = 0; run < 2; run++) {
+      final RandomPublisher<Long> publisher = RandomPublisher.longs(Randomy.Builder.configure().seed(42).create(),
+              0L, Long.MAX_VALUE).executor(Runnable::run);
+      final Recorder<Long> first = new Recorder<>(20);
+      final Recorder<Long> second = new Recorder<>(20);
+      publisher.subscribe(first);
+      publisher.subscribe(second);
+
+      // The subscriptions are drained in a different order in every run
+      if (run == 0) {
+        first.subscription.request(20);
+        second.subscription.request(20);
+      } else {
+        second.subscription.request(20);
+        first.subscription.request(20);
+      }
+      assertThat(first.values).isNotEqualTo(second.values);
+      runs.add(first.values);
+    }
+    assertThat(runs.get(0)).hasSize(20).isEqualTo(runs.get(1));
+  }
+
+  @DisplayName("Publisher validates the arguments when it is created")
+  @Test
+  void validatesArguments() {
+    assertThrows(IllegalArgumentException.class, () -> RandomPublisher.ints(null, 0, 1));
+    assertThrows(IllegalArgumentException.class, () -> RandomPublisher.ints(randomy, 1, 0));
+    assertThrows(IllegalArgumentException.class, () -> RandomPublisher.strings(randomy, 4, (Alphabet) null));
+    assertThrows(IllegalArgumentException.class, () -> RandomPublisher.longs(randomy, 0L, 1L).executor(null));
+  }
+
+  private static class Recorder<T> implements Flow.Subscriber<T> {
+
+    final List<T> values = new CopyOnWriteArrayList<>();
+    final CountDownLatch received;
+    volatile Flow.Subscription subscription;
+    volatile Throwable error;
+
+    Recorder(int expected) {
+      this.received = new CountDownLatch(expected);
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+      this.subscription = subscription;
+    }
+
+    @Override
+    public void onNext(T item) {
+      values.add(item);
+      received.countDown();
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      error = throwable;
+    }
+
+    @Override
+    public void onComplete() {
+
+    }
+  }
+}
@@ -0,0 +1,107 @@
+package com.aarshinkov.random;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RandomyMetricsTest {
+
+  @DisplayName("Metrics count the generator calls and the random bytes")
+  @Test
+  void countsCallsAndBytes() {
+
+    final RandomyMetrics metrics = RandomyMetrics.Builder.configure().create();
+    final Randomy randomy = Randomy.Builder.configure().engine(RandomEngine.THREAD_LOCAL).metrics(metrics).create();
+
+    randomy.generateRandomLong(0, 100);
+    assertThat(metrics.calls()).isEqualTo(1);
+    assertThat(metrics.generatorCalls()).isEqualTo(1);
+    assertThat(metrics.entropyBytes()).isEqualTo(8);
+
+    randomy.generateRandomInts(new int[64], 0, 255);
+    assertThat(metrics.entropyBytes()).isGreaterThanOrEqualTo(8 + 64);
+    assertThat(metrics.calls()).isEqualTo(2);
+    assertThat(Arrays.stream(metrics.latencyHistogram()).sum()).isEqualTo(metrics.calls());
+    assertThat(metrics.latencyPercentile(100)).isPositive();
+  }
+
+  @DisplayName("Metrics do not change the data of a seeded randomy object")
+  @Test
+  void seededDataIsUnchanged() {
+
+    final RandomyMetrics metrics = RandomyMetrics.Builder.configure().create();
+    final Randomy plain = Randomy.Builder.configure().seed(3).create();
+    final Randomy metered = Randomy.Builder.configure().seed(3).metrics(metrics).create();
+
+    assertThat(metered.generateRandomString(20, true)).isEqualTo(plain.generateRandomString(20, true));
+    assertThat(metered.record(9).generateRandomDigits(30)).isEqualTo(plain.record(9).generateRandomDigits(30));
+    assertThat(metered.strings(100, 8, Alphabet.HEX).parallel().count()).isEqualTo(100);
+    assertThat(metrics.generatorCalls()).isPositive();
+  }
+
+  @DisplayName("Calls above the threshold are counted as slow")
+  @Test
+  void countsSlowCalls() {
+
+    final RandomyMetrics metrics = RandomyMetrics.Builder.configure().slowCallThreshold(0, TimeUnit.NANOSECONDS)
+            .create();
+    final Randomy randomy = Randomy.Builder.configure().metrics(metrics).create();
+
+    randomy.generateRandomString(10);
+    assertThat(metrics.slowCalls()).isEqualTo(metrics.calls()).isEqualTo(1);
+    assertThat(metrics.toString()).contains("slowCalls=" + metrics.slowCalls());
+  }
+
+  @DisplayName("Every call is measured once, including the methods it delegates to")
+  @Test
+  void measuresDelegatingCallsOnce() {
+
+    final RandomyMetrics metrics = RandomyMetrics.Builder.configure().create();
+    final Randomy randomy = Randomy.Builder.configure().metrics(metrics).create();
+
+    randomy.generateRandomString(10);
+    randomy.generateRandomStrings(5, 10, true);
+    randomy.generateRandomNumber(1, 6);
+    assertThat(metrics.calls()).isEqualTo(3);
+
+    assertThrows(IllegalArgumentException.class, () -> randomy.generateRandomString(-1));
+    randomy.generateRandomDigits(4);
+    assertThat(metrics.calls()).isEqualTo(5);
+  }
+
+  @DisplayName("Metrics count the rejected samples as retries and re-rolls")
+  @Test
+  void countsRetriesAndRerolls() {
+
+    final RandomyMetrics metrics = RandomyMetrics.Builder.configure().create();
+    final Randomy randomy = Randomy.Builder.configure().seed(11).metrics(metrics).create();
+
+    // 62 characters reject the bytes from 248 on
+    randomy.generateRandomStrings(100, 100, Alphabet.ALPHANUMERIC);
+    assertThat(metrics.retries()).isPositive();
+
+    // A range of 4 000 000 001 ints rejects about 7 percent of the ints
+    for (int i = 0; i < 1000; i++) {
+      randomy.generateRandomInt(-2_000_000_000, 2_000_000_000);
+    }
+    assertThat(metrics.rerolls()).isPositive();
+    assertThat(metrics.toString()).contains("retries=" + metrics.retries(), "rerolls=" + metrics.rerolls());
+  }
+
+  @DisplayName("Metrics reject invalid arguments")
+  @Test
+  void rejectsInvalidArguments() {
+
+    final RandomyMetrics metrics = RandomyMetrics.Builder.configure().create();
+    assertThat(metrics.latencyPercentile(50)).isZero();
+    assertThrows(IllegalArgumentException.class, () -> metrics.latencyPercentile(101));
+    assertThrows(IllegalArgumentException.class, () -> metrics.latencyPercentile(Double.NaN));
+    assertThrows(IllegalArgumentException.class, () -> RandomyMetrics.Builder.configure().slowCallThreshold(-1,
+            TimeUnit.SECONDS));
+    assertThrows(IllegalArgumentException.class, () -> Randomy.Builder.configure().metrics(null));
+  }
+}
@@ -1,9 +1,28 @@
 package com.aarshinkov.random;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
@@ -458,4 +477,505 @@ public class RandomyTest {
       randomy.generateRandomNumber(digits);
     });
   }
+
+  // From v1.4.0
+  @DisplayName("Generate random strings in bulk")
+  @RepeatedTest(5)
+  @Test
+  void generateRandomStrings() {
+
+    final String[] result = randomy.generateRandomStrings(100, 12);
+    assertThat(result).hasSize(100);
+    for (String s : result) {
+      assertThat(s).hasSize(12);
+      assertThat(s).matches("[A-Za-z]+");
+    }
+  }
+
+  @DisplayName("Generate random strings in bulk with added digits")
+  @RepeatedTest(5)
+  @Test
+  void generateRandomStringsWithDigits() {
+
+    final String[] result = randomy.generateRandomStrings(200, 2, true);
+    assertThat(result).hasSize(200);
+    for (String s : result) {
+      assertThat(s).hasSize(2);
+      assertThat(randomy.hasDigitInString(s)).isTrue();
+    }
+  }
+
+  @DisplayName("Generate random strings in bulk into existing array")
+  @Test
+  void generateRandomStringsIntoArray() {
+
+    final String[] target = new String[10];
+    randomy.generateRandomStrings(target, 0, false, true, true);
+    assertThat(target).containsOnly("");
+
+    randomy.generateRandomStrings(target, 5, true, true, true);
+    assertThat(target).allSatisfy(s -> assertThat(s).hasSize(5));
+  }
+
+  @DisplayName("Generate random strings in bulk with zero count")
+  @Test
+  void generateRandomStringsZeroCount() {
+
+    assertThat(randomy.generateRandomStrings(0, 10)).isEmpty();
+  }
+
+  @DisplayName("Generate random strings in bulk with negative count or length, throw illegal argument exception")
+  @Test
+  void generateRandomStringsNegativeArguments() {
+
+    assertThrows(IllegalArgumentException.class, () -> randomy.generateRandomStrings(-1, 10));
+    assertThrows(IllegalArgumentException.class, () -> randomy.generateRandomStrings(1, -10));
+    assertThrows(IllegalArgumentException.class, () -> randomy.generateRandomStrings(null, 10, true, true, true));
+  }
+
+  @DisplayName("Generate random strings and numbers with every engine")
+  @ParameterizedTest
+  @EnumSource(RandomEngine.class)
+  void generateWithEngine(RandomEngine engine) {
+
+    final Randomy configured = Randomy.Builder.configure().engine(engine).create();
+
+    assertThat(configured.generateRandomString(16, true)).hasSize(16);
+    assertThat(configured.generateRandomStrings(10, 7)).allSatisfy(s -> assertThat(s).hasSize(7));
+    assertThat(configured.generateRandomNumber(5, 10)).isBetween(5, 10);
+    assertThat(configured.generateRandomNumber(6)).hasSize(6);
+  }
+
+  @DisplayName("Configure builder with null engine, throw illegal argument exception")
+  @Test
+  void configureNullEngine() {
+
+    assertThrows(IllegalArgumentException.class, () -> Randomy.Builder.configure().engine(null));
+  }
+
+  @DisplayName("Generate random strings from many threads with a concurrent randomy")
+  @ParameterizedTest
+  @EnumSource(RandomEngine.class)
+  void generateConcurrently(RandomEngine engine) throws Exception {
+
+    final Randomy concurrent = Randomy.Builder.configure().engine(engine).concurrent(4).create();
+    final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    try {
+      final List<Future<String[]>> futures = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        futures.add(executor.submit(() -> concurrent.generateRandomStrings(500, 10, true)));
+      }
+
+      final Set<String> generated = new HashSet<>();
+      for (Future<String[]> future : futures) {
+        for (String s : future.get()) {
+          assertThat(s).hasSize(10);
+          generated.add(s);
+        }
+      }
+      assertThat(generated).hasSize(4000);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @DisplayName("Configure concurrent randomy with no stripes, throw illegal argument exception")
+  @Test
+  void configureConcurrentNoStripes() {
+
+    assertThrows(IllegalArgumentException.class, () -> Randomy.Builder.configure().concurrent(0));
+  }
+
+  @DisplayName("Generate random string always includes both groups of letters like 1.0.0")
+  @RepeatedTest(5)
+  @Test
+  void generateRandomStringIgnoresLetterFlags() {
+
+    assertThat(randomy.generateRandomString(200, false, false, true)).matches("[A-Za-z]{200}").matches(".*[A-Z].*");
+    assertThat(randomy.generateRandomString(200, false, true, false)).matches("[A-Za-z]{200}").matches(".*[a-z].*");
+    assertThat(randomy.generateRandomString(200, true, false, false)).matches("[0-9A-Za-z]{200}").matches(".*[0-9].*");
+    assertThat(randomy.generateRandomStrings(10, 200, true, false, true))
+            .allSatisfy(s -> assertThat(s).matches("[0-9A-Za-z]{200}").matches(".*[0-9].*"));
+  }
+
+  @DisplayName("Generate random string with no groups of characters, return letters")
+  @Test
+  void generateRandomStringNoGroups() {
+
+    assertThat(randomy.generateRandomString(5, false, false, false)).matches("[A-Za-z]{5}");
+    assertThat(randomy.generateRandomString(0, false, false, false)).isEmpty();
+    assertThat(randomy.generateRandomStrings(3, 0, false, false, false)).containsOnly("");
+  }
+
+  @DisplayName("Generate random string honours the groups of a flag composition")
+  @RepeatedTest(5)
+  @Test
+  void generateRandomStringWithFlagComposition() {
+
+    assertThat(randomy.generateRandomString(30, Composition.of(false, false, true))).matches("[a-z]{30}");
+    assertThat(randomy.generateRandomString(30, Composition.of(false, true, false))).matches("[A-Z]{30}");
+    assertThat(randomy.generateRandomString(30, Composition.of(true, false, false))).matches("[0-9]{30}");
+    assertThat(randomy.generateRandomStrings(10, 30, Composition.of(true, false, true)))
+            .allSatisfy(s -> assertThat(s).matches("[0-9a-z]{30}").matches(".*[0-9].*"));
+    assertThrows(IllegalArgumentException.class, () -> Composition.of(false, false, false));
+  }
+
+  @DisplayName("Generate random strings with a custom alphabet")
+  @RepeatedTest(5)
+  @Test
+  void generateRandomStringWithAlphabet() {
+
+    assertThat(randomy.generateRandomString(40, Alphabet.HEX)).matches("[0-9a-f]{40}");
+    assertThat(randomy.generateRandomString(0, Alphabet.HEX)).isEmpty();
+    assertThat(randomy.generateRandomStrings(20, 40, Alphabet.of("ab"))).allSatisfy(s -> assertThat(s).matches("[ab]{40}"));
+    assertThrows(IllegalArgumentException.class, () -> randomy.generateRandomString(5, (Alphabet) null));
+  }
+
+  @DisplayName("Validators accept character sequences")
+  @Test
+  void validatorsAcceptCharSequences() {
+
+    assertThat(randomy.hasDigitInString(new StringBuilder("abc4"))).isTrue();
+    assertThat(randomy.hasDigitInString(new StringBuilder("abcd"))).isFalse();
+    assertThat(randomy.hasDigitInString((CharSequence) null)).isFalse();
+    assertThat(randomy.hasOnlyLowercase(new StringBuilder("abc#d"))).isTrue();
+    assertThat(randomy.hasOnlyLowercase(new StringBuilder("abCd"))).isFalse();
+    assertThat(randomy.hasOnlyUppercase(new StringBuilder("AB@CD"))).isTrue();
+    assertThat(randomy.hasOnlyUppercase(new StringBuilder(""))).isFalse();
+  }
+
+  @DisplayName("Validators handle digits, spaces and non-ASCII letters")
+  @Test
+  void validatorsHandleSpecialCases() {
+
+    assertThat(randomy.hasOnlyLowercase("abc def")).isFalse();
+    assertThat(randomy.hasOnlyLowercase("abc1")).isFalse();
+    assertThat(randomy.hasOnlyUppercase("ABC1")).isFalse();
+    assertThat(randomy.hasOnlyLowercase("straße")).isTrue();
+    assertThat(randomy.hasOnlyUppercase("ÄÖÜ")).isTrue();
+    assertThat(randomy.hasOnlyUppercase("ÄöÜ")).isFalse();
+    assertThat(randomy.hasDigitInString(" \t 7")).isTrue();
+  }
+
+  @DisplayName("Generate number, wide range does not overflow")
+  @RepeatedTest(10)
+  @Test
+  void generateRandomNumberWideRange() {
+
+    assertThat(randomy.generateRandomNumber(Integer.MIN_VALUE, Integer.MAX_VALUE)).isNotNull();
+    assertThat(randomy.generateRandomNumber(-2_000_000_000, 2_000_000_000)).isBetween(-2_000_000_000, 2_000_000_000);
+    assertThat(randomy.generateRandomNumber(-5, Integer.MAX_VALUE, false)).isBetween(-5, Integer.MAX_VALUE - 1);
+  }
+
+  @DisplayName("Generate number, start equal to end, end exclusive, throw illegal argument exception")
+  @Test
+  void generateRandomNumberEmptyRangeEndExclusive() {
+
+    assertThrows(IllegalArgumentException.class, () -> randomy.generateRandomNumber(20, 20, false));
+  }
+
+  @DisplayName("Generate primitive numbers within the range")
+  @RepeatedTest(10)
+  @Test
+  void generatePrimitiveNumbers() {
+
+    assertThat(randomy.generateRandomInt(-3, 3)).isBetween(-3, 3);
+    assertThat(randomy.generateRandomInt(7, 7)).isEqualTo(7);
+    assertThat(randomy.generateRandomInt(Integer.MIN_VALUE + 1, Integer.MAX_VALUE)).isGreaterThan(Integer.MIN_VALUE);
+    assertThat(randomy.generateRandomLong(-3L, 3L)).isBetween(-3L, 3L);
+    assertThat(randomy.generateRandomLong(0L, 1L << 40)).isBetween(0L, 1L << 40);
+    assertThat(randomy.generateRandomLong(Long.MIN_VALUE, Long.MAX_VALUE - 1)).isLessThan(Long.MAX_VALUE);
+    assertThat(randomy.generateRandomLong(Long.MIN_VALUE, Long.MAX_VALUE)).isNotNull();
+    assertThat(randomy.generateRandomDouble(1.5, 2.5)).isGreaterThanOrEqualTo(1.5).isLessThan(2.5);
+    assertThat(randomy.generateRandomDouble(-Double.MAX_VALUE, Double.MAX_VALUE)).isBetween(-Double.MAX_VALUE, Double.MAX_VALUE);
+  }
+
+  @DisplayName("Generate primitive numbers, invalid range, throw illegal argument exception")
+  @Test
+  void generatePrimitiveNumbersInvalidRange() {
+
+    assertThrows(IllegalArgumentException.class, () -> randomy.generateRandomInt(2, 1));
+    assertThrows(IllegalArgumentException.class, () -> randomy.generateRandomLong(2L, 1L));
+    assertThrows(IllegalArgumentException.class, () -> randomy.generateRandomDouble(1.0, 1.0));
+    assertThrows(IllegalArgumentException.class, () -> randomy.generateRandomDouble(0, Double.POSITIVE_INFINITY));
+    assertThrows(IllegalArgumentException.class, () -> randomy.generateRandomDouble(0, Double.NaN));
+  }
+
+  @DisplayName("Generate primitive numbers in bulk")
+  @Test
+  void generatePrimitiveNumbersInBulk() {
+
+    final int[] ints = new int[1000];
+    randomy.generateRandomInts(ints, 10, 12);
+    assertThat(ints).containsOnly(10, 11, 12);
+
+    final long[] longs = new long[1000];
+    randomy.generateRandomLongs(longs, -1L, 1L);
+    assertThat(longs).containsOnly(-1L, 0L, 1L);
+
+    final double[] doubles = new double[1000];
+    randomy.generateRandomDoubles(doubles, 0.0, 1.0);
+    for (double d : doubles) {
+      assertThat(d).isGreaterThanOrEqualTo(0.0).isLessThan(1.0);
+    }
+
+    assertThat(randomy.ints(500, 0, 9).allMatch(i -> i >= 0 && i <= 9)).isTrue();
+    assertThat(randomy.ints(500, 0, 9).count()).isEqualTo(500);
+    assertThat(randomy.longs(500, 5L, 6L).allMatch(i -> i == 5L || i == 6L)).isTrue();
+    assertThrows(IllegalArgumentException.class, () -> randomy.generateRandomInts(null, 0, 1));
+    assertThrows(IllegalArgumentException.class, () -> randomy.ints(-1, 0, 1));
+  }
+
+  @DisplayName("Generate lazy random streams")
+  @Test
+  void generateLazyStreams() {
+
+    assertThat(randomy.ints(0, 9).limit(1000).allMatch(i -> i >= 0 && i <= 9)).isTrue();
+    assertThat(randomy.longs(Long.MIN_VALUE, Long.MAX_VALUE).limit(10).count()).isEqualTo(10);
+    assertThat(randomy.strings(12, Alphabet.HEX).limit(100)).allMatch(s -> s.matches("[0-9a-f]{12}"));
+    assertThat(randomy.strings(3, 8, Alphabet.DIGITS)).hasSize(3);
+
+    final Composition composition = Composition.Builder.configure().digits(2).capital(2).create();
+    assertThat(randomy.strings(500, 10, composition).parallel())
+            .hasSize(500)
+            .allMatch(s -> s.matches("[0-9A-Z]{10}") && s.replaceAll("[^0-9]", "").length() >= 2);
+
+    final Spliterator<String> spliterator = randomy.strings(8, Alphabet.LETTERS).spliterator();
+    assertThat(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL))
+            .isTrue();
+    assertThat(spliterator.estimateSize()).isEqualTo(Long.MAX_VALUE);
+    final Spliterator<String> prefix = spliterator.trySplit();
+    assertThat(prefix.estimateSize() + spliterator.estimateSize()).isEqualTo(Long.MAX_VALUE);
+
+    assertThrows(IllegalArgumentException.class, () -> randomy.ints(1, 0));
+    assertThrows(IllegalArgumentException.class, () -> randomy.strings(-1, Alphabet.HEX));
+    assertThrows(IllegalArgumentException.class, () -> randomy.strings(3, composition));
+  }
+
+  @DisplayName("Parallel streams split the work with every engine")
+  @ParameterizedTest
+  @EnumSource(RandomEngine.class)
+  void generateParallelStreams(RandomEngine engine) {
+
+    final Randomy configured = Randomy.Builder.configure().engine(engine).create();
+    assertThat(configured.ints(100_000, 1, 6).parallel().filter(i -> i < 1 || i > 6).count()).isZero();
+    assertThat(configured.strings(10_000, 16, Alphabet.ALPHANUMERIC).parallel().distinct().count())
+            .isEqualTo(10_000);
+  }
+
+  @DisplayName("Generate number with many digits")
+  @RepeatedTest(20)
+  @Test
+  void generateRandomNumberWithManyDigits() {
+
+    for (int digits : new int[]{1, 17, 18, 19, 36, 37, 100}) {
+      final String result = randomy.generateRandomNumber(digits);
+      assertThat(result).hasSize(digits).matches("[1-9][0-9]*");
+    }
+  }
+
+  @DisplayName("Generate fixed length number")
+  @RepeatedTest(20)
+  @Test
+  void generateFixedLengthNumber() {
+
+    assertThat(randomy.generateFixedLengthNumber(1)).isBetween(1L, 9L);
+    assertThat(randomy.generateFixedLengthNumber(6)).isBetween(100_000L, 999_999L);
+    assertThat(randomy.generateFixedLengthNumber(18)).isBetween(100_000_000_000_000_000L, 999_999_999_999_999_999L);
+  }
+
+  @DisplayName("Generate fixed length number with invalid digits, throw illegal argument exception")
+  @Test
+  void generateFixedLengthNumberInvalidDigits() {
+
+    assertThrows(IllegalArgumentException.class, () -> randomy.generateFixedLengthNumber(0));
+    assertThrows(IllegalArgumentException.class, () -> randomy.generateFixedLengthNumber(19));
+  }
+
+  @DisplayName("Generate random digits with leading zeros")
+  @Test
+  void generateRandomDigits() {
+
+    assertThat(randomy.generateRandomDigits(6)).matches("[0-9]{6}");
+    assertThat(randomy.generateRandomDigits(40)).matches("[0-9]{40}");
+
+    boolean leadingZero = false;
+    for (int i = 0; i < 1000 && !leadingZero; i++) {
+      leadingZero = randomy.generateRandomDigits(4).charAt(0) == '0';
+    }
+    assertThat(leadingZero).isTrue();
+    assertThrows(IllegalArgumentException.class, () -> randomy.generateRandomDigits(0));
+  }
+
+  @DisplayName("Generate random characters into arrays, buffers and appendables")
+  @Test
+  void generateRandomCharsIntoSinks() {
+
+    final char[] chars = new char[10];
+    randomy.generateRandomChars(chars, 2, 6, Alphabet.HEX);
+    assertThat(new String(chars, 2, 6)).matches("[0-9a-f]{6}");
+    assertThat(chars[0]).isEqualTo('\0');
+    assertThat(chars[9]).isEqualTo('\0');
+
+    final byte[] bytes = new byte[10];
+    randomy.generateRandomChars(bytes, 4, 6, Alphabet.BASE32);
+    assertThat(new String(bytes, 4, 6, StandardCharsets.US_ASCII)).matches("[A-Z2-7]{6}");
+    assertThat(bytes[3]).isZero();
+
+    for (ByteBuffer buffer : new ByteBuffer[]{ByteBuffer.allocate(3000), ByteBuffer.allocateDirect(3000)}) {
+      buffer.position(10);
+      randomy.generateRandomChars(buffer, 2500, Alphabet.DIGITS);
+      assertThat(buffer.position()).isEqualTo(2510);
+      final byte[] written = new byte[2500];
+      buffer.position(10);
+      buffer.get(written);
+      assertThat(new String(written, StandardCharsets.US_ASCII)).matches("[0-9]{2500}");
+    }
+
+    final StringBuilder builder = new StringBuilder("id-");
+    randomy.generateRandomChars(builder, 8, Alphabet.LOWERCASE);
+    assertThat(builder.toString()).matches("id-[a-z]{8}");
+  }
+
+  @DisplayName("Generate random characters with invalid arguments, throw illegal argument exception")
+  @Test
+  void generateRandomCharsInvalidArguments() {
+
+    assertThrows(IllegalArgumentException.class, () -> randomy.generateRandomChars(new char[4], 2, 3, Alphabet.HEX));
+    assertThrows(IllegalArgumentException.class, () -> randomy.generateRandomChars(new byte[4], -1, 1, Alphabet.HEX));
+    assertThrows(IllegalArgumentException.class, () -> randomy.generateRandomChars(new byte[4], 0, 4, Alphabet.of("é")));
+    assertThrows(IllegalArgumentException.class, () -> randomy.generateRandomChars(ByteBuffer.allocate(2), 3, Alphabet.HEX));
+    assertThrows(IllegalArgumentException.class, () -> randomy.generateRandomChars((Appendable) null, 3, Alphabet.HEX));
+  }
+
+  @DisplayName("Built randomy objects share the generator unless it is dedicated")
+  @Test
+  void sharedAndDedicatedGenerators() {
+
+    assertThat(Randomy.Builder.build().random()).isSameAs(randomy.random());
+    assertThat(Randomy.Builder.configure().engine(RandomEngine.THREAD_LOCAL).create().random())
+            .isSameAs(Randomy.Builder.configure().engine(RandomEngine.THREAD_LOCAL).create().random());
+    assertThat(Randomy.Builder.configure().dedicated().create().random()).isNotSameAs(randomy.random());
+    assertThat(Randomy.Builder.configure().engine(RandomEngine.SPLITTABLE).create().random())
+            .isNotSameAs(Randomy.Builder.configure().engine(RandomEngine.SPLITTABLE).create().random());
+    assertThat(Randomy.Builder.configure().dedicated().create().generateRandomString(5)).hasSize(5);
+  }
+
+  @DisplayName("Generate samples of distinct numbers and elements")
+  @ParameterizedTest
+  @EnumSource(RandomEngine.class)
+  void generateSamples(RandomEngine engine) {
+
+    final Randomy engineRandomy = Randomy.Builder.configure().engine(engine).create();
+
+    for (int count : new int[]{0, 1, 10, 32, 33, 1000}) {
+      final int[] sample = engineRandomy.generateSample(count, 2000);
+      final Set<Integer> distinct = new HashSet<>();
+      for (int value : sample) {
+        assertThat(value).isBetween(0, 1999);
+        distinct.add(value);
+      }
+      assertThat(distinct).hasSize(count);
+    }
+
+    // A sample of the whole range is a permutation of it
+    final int[] all = engineRandomy.generateSample(100, 100);
+    Arrays.sort(all);
+    for (int i = 0; i < all.length; i++) {
+      assertThat(all[i]).isEqualTo(i);
+    }
+
+    assertThat(engineRandomy.generateSample(5, Integer.MAX_VALUE)).hasSize(5);
+    // Sparse samples are checked through a table instead of a bit per number
+    assertThat(engineRandomy.generateSample(1000, Integer.MAX_VALUE)).doesNotHaveDuplicates();
+    final int[] sparse = engineRandomy.generateSample(33, 1_000_000);
+    assertThat(sparse).doesNotHaveDuplicates();
+    assertThat(Arrays.stream(sparse).max().getAsInt()).isLessThan(1_000_000);
+
+    final List<String> population = new LinkedList<>(Arrays.asList("a", "b", "c", "d", "e"));
+    final List<String> elements = engineRandomy.generateSample(population, 3);
+    assertThat(elements).hasSize(3).doesNotHaveDuplicates();
+    assertThat(population).containsAll(elements);
+  }
+
+  @DisplayName("Samples choose every number equally often")
+  @Test
+  void generateSamplesUniformly() {
+
+    final int[] counts = new int[10];
+    for (int i = 0; i < 20_000; i++) {
+      for (int value : randomy.generateSample(3, 10)) {
+        counts[value]++;
+      }
+    }
+    // Every number is expected 6000 times
+    for (int count : counts) {
+      assertThat(count).isBetween(5600, 6400);
+    }
+  }
+
+  @DisplayName("Shuffle arrays and lists in place")
+  @Test
+  void shuffleArraysAndLists() {
+
+    final int[] ints = new int[1000];
+    final long[] longs = new long[1000];
+    final List<Integer> list = new ArrayList<>();
+    for (int i = 0; i < ints.length; i++) {
+      ints[i] = i;
+      longs[i] = i;
+      list.add(i);
+    }
+
+    randomy.shuffle(ints);
+    randomy.shuffle(longs);
+    randomy.shuffle(list);
+    assertThat(ints).isNotEqualTo(IntStream.range(0, 1000).toArray());
+    assertThat(longs).isNotEqualTo(LongStream.range(0, 1000).toArray());
+    assertThat(list).isNotEqualTo(IntStream.range(0, 1000).boxed().collect(Collectors.toList()));
+
+    Arrays.sort(ints);
+    Arrays.sort(longs);
+    assertThat(ints).isEqualTo(IntStream.range(0, 1000).toArray());
+    assertThat(longs).isEqualTo(LongStream.range(0, 1000).toArray());
+    assertThat(list).containsExactlyInAnyOrderElementsOf(IntStream.range(0, 1000).boxed().collect(Collectors.toList()));
+
+    // Only the range is shuffled
+    final int[] range = IntStream.range(0, 100).toArray();
+    randomy.shuffle(range, 10, 50);
+    assertThat(Arrays.copyOfRange(range, 0, 10)).isEqualTo(IntStream.range(0, 10).toArray());
+    assertThat(Arrays.copyOfRange(range, 60, 100)).isEqualTo(IntStream.range(60, 100).toArray());
+  }
+
+  @DisplayName("Shuffle produces every permutation equally often")
+  @Test
+  void shuffleUniformly() {
+
+    final Map<String, Integer> permutations = new HashMap<>();
+    for (int i = 0; i < 60_000; i++) {
+      final int[] array = {0, 1, 2};
+      randomy.shuffle(array);
+      permutations.merge(Arrays.toString(array), 1, Integer::sum);
+    }
+    assertThat(permutations).hasSize(6);
+    // Every permutation is expected 10000 times
+    assertThat(permutations.values()).allSatisfy(count -> assertThat(count).isBetween(9400, 10600));
+  }
+
+  @DisplayName("Generate samples and shuffle with invalid arguments, throw illegal argument exception")
+  @Test
+  void samplingInvalidArguments() {
+
+    assertThrows(IllegalArgumentException.class, () -> randomy.generateSample(11, 10));
+    assertThrows(IllegalArgumentException.class, () -> randomy.generateSample(-1, 10));
+    assertThrows(IllegalArgumentException.class, () -> randomy.generateSample(0, -1));
+    assertThrows(IllegalArgumentException.class, () -> randomy.generateSample(new int[0], -1));
+    assertThrows(IllegalArgumentException.class, () -> randomy.generateSample((int[]) null, 10));
+    assertThrows(IllegalArgumentException.class, () -> randomy.generateSample((List<String>) null, 1));
+    assertThrows(IllegalArgumentException.class, () -> randomy.generateSample(Arrays.asList("a"), 2));
+    assertThrows(IllegalArgumentException.class, () -> randomy.shuffle((int[]) null));
+    assertThrows(IllegalArgumentException.class, () -> randomy.shuffle(new long[4], 2, 3));
+    assertThrows(IllegalArgumentException.class, () -> randomy.shuffle((List<?>) null));
+  }
 }
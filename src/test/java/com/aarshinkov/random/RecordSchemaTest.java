@@ -0,0 +1,64 @@
+package com.aarshinkov.random;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RecordSchemaTest {
+
+  @DisplayName("Records follow the fields of the schema")
+  @Test
+  void followsFields() {
+
+    final RecordSchema schema = RecordSchema.Builder.configure()
+            .number(6)
+            .digits(4)
+            .string(10, Alphabet.HEX)
+            .string(5, Alphabet.LETTERS)
+            .code(CodePattern.compile("AAA-999"))
+            .delimiter(';')
+            .create();
+
+    assertThat(schema.fieldCount()).isEqualTo(5);
+    assertThat(schema.recordLength()).isEqualTo(6 + 4 + 10 + 5 + 7 + 4 + 1);
+
+    final byte[] record = new byte[schema.recordLength()];
+    final EntropyBuffer entropy = new EntropyBuffer(new java.util.Random(), EntropyBuffer.BLOCK_SIZE);
+    for (int i = 0; i < 1000; i++) {
+      schema.write(record, 0, entropy);
+      assertThat(new String(record, StandardCharsets.US_ASCII))
+              .matches("[1-9][0-9]{5};[0-9]{4};[0-9a-f]{10};[A-Za-z]{5};[A-Z]{3}-[0-9]{3}\n");
+    }
+  }
+
+  @DisplayName("Fixed-width records have no delimiters")
+  @Test
+  void fixedWidth() {
+
+    final RecordSchema schema = RecordSchema.Builder.configure().digits(3).string(2, Alphabet.CAPITAL).fixedWidth()
+            .create();
+    assertThat(schema.recordLength()).isEqualTo(6);
+
+    final byte[] record = new byte[8];
+    schema.write(record, 1, new EntropyBuffer(new java.util.Random(), 16));
+    assertThat(new String(record, 1, 6, StandardCharsets.US_ASCII)).matches("[0-9]{3}[A-Z]{2}\n");
+    assertThat(record[0]).isZero();
+    assertThat(record[7]).isZero();
+  }
+
+  @DisplayName("Invalid schemas are rejected")
+  @Test
+  void rejectsInvalidSchemas() {
+    final RecordSchema.Builder builder = RecordSchema.Builder.configure();
+    assertThrows(IllegalArgumentException.class, builder::create);
+    assertThrows(IllegalArgumentException.class, () -> builder.string(0, Alphabet.HEX));
+    assertThrows(IllegalArgumentException.class, () -> builder.digits(-1));
+    assertThrows(IllegalArgumentException.class, () -> builder.string(5, null));
+    assertThrows(IllegalArgumentException.class, () -> builder.string(5, Alphabet.of("äö")));
+    assertThrows(IllegalArgumentException.class, () -> builder.code(CodePattern.compile("ä-999")));
+    assertThrows(IllegalArgumentException.class, () -> builder.delimiter('\n'));
+  }
+}
@@ -0,0 +1,86 @@
+package com.aarshinkov.random;
+
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ReseedingSecureRandomTest {
+
+  @DisplayName("Generator is replaced after the count of produced bytes")
+  @Test
+  void reseedsAfterBytes() throws InterruptedException {
+
+    final ReseedingSecureRandom random = new ReseedingSecureRandom(new SecureRandomSpec("SHA1PRNG", null, 64, 0));
+    final SecureRandom first = random.current();
+    assertThat(first.getAlgorithm()).isEqualTo("SHA1PRNG");
+
+    random.nextBytes(new byte[32]);
+    assertThat(random.reseeds()).isZero();
+
+    // The new generator is swapped in by the background thread, the calls do not wait for it
+    random.nextBytes(new byte[32]);
+    waitForReseeds(random, 1);
+    assertThat(random.current()).isNotSameAs(first);
+    assertThat(random.current().getAlgorithm()).isEqualTo("SHA1PRNG");
+    assertThat(random.nextInt(10)).isBetween(0, 9);
+  }
+
+  @DisplayName("Generator is replaced after every period")
+  @Test
+  void reseedsPeriodically() throws InterruptedException {
+
+    final ReseedingSecureRandom random = new ReseedingSecureRandom(
+            new SecureRandomSpec(null, null, 0, TimeUnit.MILLISECONDS.toNanos(10)));
+    final SecureRandom first = random.current();
+
+    waitForReseeds(random, 2);
+    assertThat(random.current()).isNotSameAs(first);
+  }
+
+  @DisplayName("Builder selects the algorithm and the reseeding policy")
+  @Test
+  void builderSelectsAlgorithm() {
+
+    final Randomy randomy = Randomy.Builder.configure().secureAlgorithm("SHA1PRNG", "SUN").create();
+    assertThat(randomy.random()).isInstanceOf(SecureRandom.class);
+    assertThat(((SecureRandom) randomy.random()).getAlgorithm()).isEqualTo("SHA1PRNG");
+    assertThat(randomy.generateRandomString(10)).hasSize(10);
+
+    final Randomy reseeding = Randomy.Builder.configure().secureAlgorithm("SHA1PRNG").reseedAfter(1 << 20)
+            .reseedEvery(1, TimeUnit.HOURS).create();
+    assertThat(reseeding.random()).isInstanceOf(ReseedingSecureRandom.class);
+    assertThat(reseeding.generateRandomString(10)).hasSize(10);
+
+    final Randomy concurrent = Randomy.Builder.configure().secureAlgorithm("SHA1PRNG").concurrent(4).create();
+    assertThat(concurrent.random()).isInstanceOf(StripedRandom.class);
+    assertThat(concurrent.generateRandomString(10)).hasSize(10);
+  }
+
+  @DisplayName("Unavailable algorithms and other engines are rejected")
+  @Test
+  void rejectsInvalidConfiguration() {
+    assertThrows(IllegalArgumentException.class,
+            () -> Randomy.Builder.configure().secureAlgorithm("NoSuchAlgorithm").create());
+    assertThrows(IllegalArgumentException.class,
+            () -> Randomy.Builder.configure().secureAlgorithm("SHA1PRNG", "NoSuchProvider").create());
+    assertThrows(IllegalArgumentException.class,
+            () -> Randomy.Builder.configure().engine(RandomEngine.THREAD_LOCAL).reseedAfter(1024).create());
+    assertThrows(IllegalArgumentException.class,
+            () -> Randomy.Builder.configure().seed(1).secureAlgorithm("SHA1PRNG").create());
+    assertThrows(IllegalArgumentException.class, () -> Randomy.Builder.configure().secureAlgorithm(null));
+    assertThrows(IllegalArgumentException.class, () -> Randomy.Builder.configure().reseedAfter(0));
+    assertThrows(IllegalArgumentException.class, () -> Randomy.Builder.configure().reseedEvery(1, null));
+  }
+
+  private static void waitForReseeds(ReseedingSecureRandom random, long reseeds) throws InterruptedException {
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (random.reseeds() < reseeds && System.nanoTime() < deadline) {
+      Thread.sleep(5);
+    }
+    assertThat(random.reseeds()).isGreaterThanOrEqualTo(reseeds);
+  }
+}
@@ -0,0 +1,120 @@
+package com.aarshinkov.random;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ReservoirSamplerTest {
+
+  private final Randomy randomy = Randomy.Builder.configure().engine(RandomEngine.THREAD_LOCAL).create();
+
+  @DisplayName("Short streams are sampled whole")
+  @Test
+  void shortStreams() {
+
+    final ReservoirSampler<String> sampler = ReservoirSampler.of(randomy, 5);
+    sampler.accept("a");
+    sampler.accept("b");
+    sampler.accept(null);
+    assertThat(sampler.sample()).containsExactly("a", "b", null);
+    assertThat(sampler.count()).isEqualTo(3);
+    assertThat(sampler.capacity()).isEqualTo(5);
+
+    final LongReservoirSampler longs = LongReservoirSampler.of(randomy, 5);
+    assertThat(longs.sample()).isEmpty();
+    longs.accept(7);
+    longs.accept(8L);
+    assertThat(longs.sample()).containsExactly(7, 8);
+  }
+
+  @DisplayName("Long streams keep a sample of distinct seen elements")
+  @Test
+  void longStreams() {
+
+    final ReservoirSampler<Integer> sampler = ReservoirSampler.of(randomy, 100);
+    IntStream.range(0, 100_000).boxed().forEach(sampler);
+    final List<Integer> sample = sampler.sample();
+    assertThat(sample).hasSize(100).doesNotHaveDuplicates().allSatisfy(i -> assertThat(i).isBetween(0, 99_999));
+    assertThat(sampler.count()).isEqualTo(100_000);
+
+    final LongReservoirSampler longs = LongReservoirSampler.of(randomy, 100);
+    longs.acceptAll(LongStream.range(0, 100_000).toArray(), 0, 100_000);
+    final long[] longSample = longs.sample();
+    assertThat(longSample).hasSize(100).doesNotHaveDuplicates();
+    assertThat(LongStream.of(longSample).allMatch(i -> i >= 0 && i < 100_000)).isTrue();
+    assertThat(longs.count()).isEqualTo(100_000);
+  }
+
+  @DisplayName("Every element is sampled equally often, element by element and in ranges")
+  @Test
+  void uniformSamples() {
+
+    final long[] values = LongStream.range(0, 50).toArray();
+    final int[] counts = new int[50];
+    final int[] rangeCounts = new int[50];
+
+    for (int run = 0; run < 20_000; run++) {
+      final LongReservoirSampler sampler = LongReservoirSampler.of(randomy, 5);
+      for (long value : values) {
+        sampler.accept(value);
+      }
+      for (long value : sampler.sample()) {
+        counts[(int) value]++;
+      }
+
+      // The same stream given as ranges of different lengths
+      final LongReservoirSampler ranges = LongReservoirSampler.of(randomy, 5);
+      ranges.acceptAll(values, 0, 3);
+      ranges.acceptAll(values, 3, 20);
+      ranges.acceptAll(values, 23, 27);
+      for (long value : ranges.sample()) {
+        rangeCounts[(int) value]++;
+      }
+    }
+
+    // Every element is expected 2000 times
+    for (int i = 0; i < counts.length; i++) {
+      assertThat(counts[i]).as("element %d", i).isBetween(1750, 2250);
+      assertThat(rangeCounts[i]).as("element %d in ranges", i).isBetween(1750, 2250);
+    }
+  }
+
+  @DisplayName("Samplers of a seeded randomy object have independent generators")
+  @Test
+  void independentSamplers() throws Exception {
+
+    final Randomy seeded = Randomy.Builder.configure().seed(3).create();
+    final LongReservoirSampler first = LongReservoirSampler.of(seeded, 10);
+    final LongReservoirSampler second = LongReservoirSampler.of(seeded, 10);
+    final long[] values = LongStream.range(0, 100_000).toArray();
+
+    // Each sampler draws only from its own generator, so running them at the same time changes nothing
+    final Thread thread = new Thread(() -> second.acceptAll(values, 0, values.length));
+    thread.start();
+    first.acceptAll(values, 0, values.length);
+    thread.join();
+
+    final Randomy again = Randomy.Builder.configure().seed(3).create();
+    final LongReservoirSampler expected = LongReservoirSampler.of(again, 10);
+    expected.acceptAll(values, 0, values.length);
+    assertThat(first.sample()).containsExactly(expected.sample());
+    assertThat(second.sample()).isNotEqualTo(first.sample());
+  }
+
+  @DisplayName("Invalid arguments are rejected")
+  @Test
+  void rejectsInvalidArguments() {
+    assertThrows(IllegalArgumentException.class, () -> ReservoirSampler.of(null, 5));
+    assertThrows(IllegalArgumentException.class, () -> ReservoirSampler.of(randomy, 0));
+    assertThrows(IllegalArgumentException.class, () -> LongReservoirSampler.of(randomy, -1));
+
+    final LongReservoirSampler sampler = LongReservoirSampler.of(randomy, 5);
+    assertThrows(IllegalArgumentException.class, () -> sampler.acceptAll(null, 0, 0));
+    assertThrows(IllegalArgumentException.class, () -> sampler.acceptAll(new long[3], 2, 2));
+  }
+}
@@ -0,0 +1,80 @@
+package com.aarshinkov.random;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SeededRandomTest {
+
+  @DisplayName("Generator follows the SplitMix64 reference sequence")
+  @Test
+  void matchesReferenceSequence() {
+
+    final SeededRandom random = new SeededRandom(0L);
+    assertThat(random.nextLong()).isEqualTo(0xE220A8397B1DCDAFL);
+    assertThat(random.nextLong()).isEqualTo(0x6E789E6AA1B965F4L);
+    assertThat(random.nextLong()).isEqualTo(0x06C45D188009454FL);
+  }
+
+  @DisplayName("Same seed generates the same data")
+  @Test
+  void sameSeedSameData() {
+
+    final Randomy first = Randomy.Builder.configure().seed(42).create();
+    final Randomy second = Randomy.Builder.configure().seed(42).create();
+
+    for (int i = 0; i < 100; i++) {
+      assertThat(first.generateRandomString(12, true, true, true))
+              .isEqualTo(second.generateRandomString(12, true, true, true));
+      assertThat(first.generateRandomNumber(1, 1000)).isEqualTo(second.generateRandomNumber(1, 1000));
+    }
+    assertThat(first.strings(10, 8, Alphabet.HEX).collect(Collectors.toList()))
+            .isEqualTo(second.strings(10, 8, Alphabet.HEX).collect(Collectors.toList()));
+
+    final Randomy other = Randomy.Builder.configure().seed(43).create();
+    assertThat(other.generateRandomString(32)).isNotEqualTo(first.generateRandomString(32));
+  }
+
+  @DisplayName("Records are the same when generated in parallel slices")
+  @Test
+  void recordsAreIndependentOfSlicing() {
+
+    final Randomy dataset = Randomy.Builder.configure().seed(7).create();
+
+    final List<String> sequential = dataset.records(0, 10_000)
+            .map(record -> record.generateRandomString(16, true) + record.generateRandomLong(0, 99))
+            .collect(Collectors.toList());
+
+    final List<String> parallel = LongStream.of(5_000, 0)
+            .parallel()
+            .mapToObj(from -> dataset.records(from, from + 5_000).parallel()
+                    .map(record -> record.generateRandomString(16, true) + record.generateRandomLong(0, 99))
+                    .collect(Collectors.toList()))
+            .flatMap(List::stream)
+            .collect(Collectors.toList());
+
+    assertThat(parallel.subList(5_000, 10_000)).isEqualTo(sequential.subList(0, 5_000));
+    assertThat(parallel.subList(0, 5_000)).isEqualTo(sequential.subList(5_000, 10_000));
+    assertThat(sequential).doesNotHaveDuplicates();
+
+    // A record does not depend on the state of the dataset object
+    dataset.generateRandomString(100);
+    assertThat(dataset.record(1234).generateRandomString(16, true)).isEqualTo(sequential.get(1234).substring(0, 16));
+  }
+
+  @DisplayName("Records require a seeded randomy object")
+  @Test
+  void recordsRequireSeed() {
+
+    assertThrows(IllegalStateException.class, () -> Randomy.Builder.build().record(0));
+    assertThrows(IllegalStateException.class, () -> Randomy.Builder.build().records(0, 1));
+    assertThrows(IllegalArgumentException.class, () -> Randomy.Builder.configure().seed(1).create().records(2, 1));
+    assertThrows(IllegalArgumentException.class, () -> Randomy.Builder.configure().seed(1).concurrent().create());
+    assertThrows(IllegalArgumentException.class, () -> Randomy.Builder.configure().seed(1).prefetch(1024).create());
+  }
+}
@@ -0,0 +1,46 @@
+package com.aarshinkov.random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StripedRandomTest {
+
+  @DisplayName("Stripes count is rounded up to a power of two")
+  @Test
+  void stripesRoundedToPowerOfTwo() {
+
+    assertThat(new StripedRandom(RandomEngine.SPLITTABLE, 1).stripes()).isEqualTo(1);
+    assertThat(new StripedRandom(RandomEngine.SPLITTABLE, 2).stripes()).isEqualTo(2);
+    assertThat(new StripedRandom(RandomEngine.SPLITTABLE, 5).stripes()).isEqualTo(8);
+    assertThat(new StripedRandom(RandomEngine.SPLITTABLE, 16).stripes()).isEqualTo(16);
+  }
+
+  @DisplayName("Striped generator returns values within bounds")
+  @Test
+  void valuesWithinBounds() {
+
+    final StripedRandom random = new StripedRandom(RandomEngine.SECURE, 4);
+
+    for (int i = 0; i < 100; i++) {
+      assertThat(random.nextInt(10)).isBetween(0, 9);
+      assertThat(random.nextDouble()).isBetween(0.0, 1.0);
+    }
+
+    final byte[] bytes = new byte[64];
+    random.nextBytes(bytes);
+    assertThat(bytes).isNotEqualTo(new byte[64]);
+  }
+
+  @DisplayName("Concurrent secure randomy uses instance-local generators")
+  @Test
+  void concurrentSecureStripes() {
+
+    final Randomy randomy = Randomy.Builder.configure().engine(RandomEngine.SECURE).concurrent(4).create();
+
+    assertThat(randomy.random()).isInstanceOf(StripedRandom.class);
+    assertThat(randomy.generateRandomString(16, true)).hasSize(16);
+    assertThat(SecureRandomSpec.forStripes().newSecureRandom(true).getAlgorithm()).isIn("DRBG", "SHA1PRNG");
+  }
+}
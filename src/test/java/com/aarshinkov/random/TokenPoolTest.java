@@ -0,0 +1,104 @@
+package com.aarshinkov.random;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TokenPoolTest {
+
+  private final Randomy randomy = Randomy.Builder.build();
+
+  @DisplayName("Pool is filled in the background and hands out unique tokens")
+  @Test
+  void handsOutTokens() throws InterruptedException {
+
+    try (TokenPool pool = TokenPool.Builder.configure(randomy).length(12).groups(true, false, true).capacity(100).create()) {
+
+      waitForSize(pool, 100);
+      assertThat(pool.size()).isEqualTo(100);
+
+      final Set<String> taken = new HashSet<>();
+      for (int i = 0; i < 500; i++) {
+        final String token = pool.take();
+        assertThat(token).matches("[0-9a-z]{12}");
+        assertThat(randomy.hasDigitInString(token)).isTrue();
+        taken.add(token);
+      }
+      assertThat(taken).hasSize(500);
+    }
+  }
+
+  @DisplayName("Pool is refilled when it drops below the low watermark")
+  @Test
+  void refillsBelowLowWatermark() throws InterruptedException {
+
+    try (TokenPool pool = TokenPool.Builder.configure(randomy).capacity(40).lowWatermark(20).create()) {
+
+      waitForSize(pool, 40);
+      for (int i = 0; i < 20; i++) {
+        pool.take();
+      }
+      // The pool is at the low watermark, which does not trigger a refill
+      Thread.sleep(100);
+      assertThat(pool.size()).isEqualTo(20);
+
+      pool.take();
+      waitForSize(pool, 40);
+      assertThat(pool.size()).isEqualTo(40);
+    }
+  }
+
+  @DisplayName("Expired tokens are evicted and replaced")
+  @Test
+  void evictsExpiredTokens() throws InterruptedException {
+
+    try (TokenPool pool = TokenPool.Builder.configure(randomy).capacity(10).timeToLive(50, TimeUnit.MILLISECONDS).create()) {
+
+      waitForSize(pool, 10);
+      assertThat(pool.evictions()).isZero();
+
+      for (int i = 0; i < 500 && pool.evictions() < 10; i++) {
+        Thread.sleep(10);
+      }
+      // All the tokens of the first fill expired and were evicted, the pool was refilled with new ones
+      assertThat(pool.evictions()).isGreaterThanOrEqualTo(10);
+      waitForSize(pool, 10);
+      assertThat(pool.size()).isEqualTo(10);
+      assertThat(pool.take()).hasSize(16);
+    }
+  }
+
+  @DisplayName("Closed pool still generates tokens on the calling thread")
+  @Test
+  void closedPoolGenerates() {
+
+    final TokenPool pool = TokenPool.Builder.configure(randomy).length(8).create();
+    pool.close();
+
+    assertThat(pool.size()).isZero();
+    assertThat(pool.take()).hasSize(8);
+  }
+
+  @DisplayName("Invalid settings, throw illegal argument exception")
+  @Test
+  void invalidSettings() {
+
+    assertThrows(IllegalArgumentException.class, () -> TokenPool.Builder.configure(null));
+    assertThrows(IllegalArgumentException.class, () -> TokenPool.Builder.configure(randomy).capacity(0));
+    assertThrows(IllegalArgumentException.class, () -> TokenPool.Builder.configure(randomy).groups(false, false, false));
+    assertThrows(IllegalArgumentException.class, () -> TokenPool.Builder.configure(randomy).capacity(10).lowWatermark(10).create());
+    assertThrows(IllegalArgumentException.class, () -> TokenPool.Builder.configure(randomy).timeToLive(0, TimeUnit.SECONDS));
+    assertThrows(IllegalArgumentException.class, () -> TokenPool.Builder.configure(randomy).length(0).create());
+  }
+
+  private static void waitForSize(TokenPool pool, int size) throws InterruptedException {
+    for (int i = 0; i < 500 && pool.size() < size; i++) {
+      Thread.sleep(10);
+    }
+  }
+}
@@ -0,0 +1,137 @@
+package com.aarshinkov.random;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TokenValidatorTest {
+
+  private static final Alphabet MIXED = Alphabet.of("0123456789ABCDEFabcdef-_ !/");
+
+  @DisplayName("Rules are checked on every token")
+  @Test
+  void checksRules() {
+
+    final TokenValidator validator = TokenValidator.Builder.configure(10)
+            .alphabet(Alphabet.ALPHANUMERIC)
+            .requireDigit()
+            .forbidLowercase()
+            .create();
+
+    final byte[] data = ("ABCDE12345" + "ABCDEFGHIJ" + "abcde12345" + "ABCDE-1234" + "0000000000" + "ABCÄE12345")
+            .getBytes(StandardCharsets.ISO_8859_1);
+    final long[] result = validator.validate(data);
+    assertThat(result).containsExactly(0b10001L);
+    assertThat(validator.validate(data, 0, 6, new long[1])).isEqualTo(2);
+    assertThat(validator.tokenCount(data.length)).isEqualTo(6);
+  }
+
+  @DisplayName("Delimited tokens and buffers")
+  @Test
+  void delimitedTokensAndBuffers() {
+
+    final TokenValidator validator = TokenValidator.Builder.configure(4).stride(5).alphabet(Alphabet.HEX)
+            .requireLowercase().create();
+    final byte[] data = "beef,0123,cafe,CAFE".getBytes(StandardCharsets.US_ASCII);
+    assertThat(validator.tokenCount(data.length)).isEqualTo(4);
+    assertThat(validator.validate(data)).containsExactly(0b101L);
+
+    final ByteBuffer direct = ByteBuffer.allocateDirect(data.length + 2);
+    direct.put((byte) 'x').put(data).flip().position(1);
+    assertThat(validator.validate(direct)).containsExactly(0b101L);
+    assertThat(direct.position()).isEqualTo(1);
+    assertThat(validator.validate(direct, new long[1])).isEqualTo(2);
+  }
+
+  @DisplayName("Word and character checks agree with a plain check")
+  @ParameterizedTest
+  @ValueSource(ints = {1, 5, 8, 9, 15, 16, 23, 64})
+  void agreesWithPlainCheck(int length) {
+
+    final Random random = new Random(length);
+    final int count = 1000;
+    final int stride = length + 1;
+    final byte[] data = new byte[count * stride];
+    for (int i = 0; i < data.length; i++) {
+      // Mostly characters of the alphabet, so valid tokens are common enough
+      data[i] = random.nextInt(20) == 0
+              ? (byte) random.nextInt(256)
+              : (byte) MIXED.charAt(random.nextInt(MIXED.size()));
+    }
+
+    final Alphabet[] alphabets = {null, Alphabet.HEX, Alphabet.ALPHANUMERIC, MIXED, Alphabet.BASE64_URL};
+    for (Alphabet alphabet : alphabets) {
+      for (int rules = 0; rules < 16; rules++) {
+        if ((rules & 12) == 12 || (rules & 10) == 10) {
+          // Contradicting rules
+          continue;
+        }
+        final TokenValidator.Builder builder = TokenValidator.Builder.configure(length).stride(stride);
+        if (alphabet != null) {
+          builder.alphabet(alphabet);
+        }
+        if ((rules & 1) != 0) {
+          builder.requireDigit();
+        }
+        if ((rules & 2) != 0) {
+          builder.requireUppercase();
+        }
+        if ((rules & 4) != 0) {
+          builder.forbidLowercase();
+        }
+        if ((rules & 8) != 0) {
+          builder.requireLowercase().forbidUppercase();
+        }
+
+        final long[] result = builder.create().validate(data);
+        for (int t = 0; t < count; t++) {
+          final boolean expected = isValid(data, t * stride, length, alphabet, rules);
+          assertThat((result[t >>> 6] >>> t & 1) != 0).as("token %d with rules %d", t, rules).isEqualTo(expected);
+        }
+      }
+    }
+  }
+
+  @DisplayName("Invalid arguments are rejected")
+  @Test
+  void rejectsInvalidArguments() {
+    assertThrows(IllegalArgumentException.class, () -> TokenValidator.Builder.configure(0));
+    assertThrows(IllegalArgumentException.class, () -> TokenValidator.Builder.configure(8).stride(7));
+    assertThrows(IllegalArgumentException.class, () -> TokenValidator.Builder.configure(8).alphabet(null));
+    assertThrows(IllegalArgumentException.class,
+            () -> TokenValidator.Builder.configure(8).alphabet(Alphabet.of("ä")));
+    assertThrows(IllegalArgumentException.class,
+            () -> TokenValidator.Builder.configure(8).requireDigit().requireUppercase().forbidUppercase());
+
+    final TokenValidator validator = TokenValidator.Builder.configure(8).create();
+    assertThrows(IllegalArgumentException.class, () -> validator.validate((byte[]) null));
+    assertThrows(IllegalArgumentException.class, () -> validator.validate(new byte[16], 0, 3, new long[1]));
+    assertThrows(IllegalArgumentException.class, () -> validator.validate(new byte[16], 0, 2, null));
+    assertThrows(IllegalArgumentException.class, () -> validator.validate(new byte[16], 0, 2, new long[0]));
+    assertThat(validator.validate(new byte[7])).isEmpty();
+  }
+
+  private static boolean isValid(byte[] data, int offset, int length, Alphabet alphabet, int rules) {
+    boolean digit = false;
+    boolean uppercase = false;
+    boolean lowercase = false;
+    for (int i = offset; i < offset + length; i++) {
+      final int c = data[i] & 0xFF;
+      if (c >= 128 || (alphabet != null && !alphabet.contains((char) c))) {
+        return false;
+      }
+      digit |= Character.isDigit(c);
+      uppercase |= c >= 'A' && c <= 'Z';
+      lowercase |= c >= 'a' && c <= 'z';
+    }
+    return ((rules & 1) == 0 || digit) && ((rules & 2) == 0 || uppercase) && ((rules & 4) == 0 || !lowercase)
+            && ((rules & 8) == 0 || (lowercase && !uppercase));
+  }
+}
@@ -0,0 +1,105 @@
+package com.aarshinkov.random;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class UniqueStringGeneratorTest {
+
+  private final Randomy randomy = Randomy.Builder.configure().engine(RandomEngine.THREAD_LOCAL).create();
+
+  @DisplayName("Every value of a small space is issued exactly once")
+  @Test
+  void exhaustsSmallSpace() {
+
+    // 2 hex characters give 256 possible values
+    final UniqueStringGenerator generator = UniqueStringGenerator.Builder.configure(randomy)
+            .length(2).alphabet(Alphabet.HEX).maxAttempts(100_000).create();
+
+    final Set<String> issued = new HashSet<>();
+    for (int i = 0; i < 256; i++) {
+      final String value = generator.next();
+      assertThat(value).matches("[0-9a-f]{2}");
+      assertThat(issued.add(value)).isTrue();
+    }
+
+    assertThat(generator.issuedCount()).isEqualTo(256);
+    assertThat(generator.collisions()).isPositive();
+    assertThrows(IllegalStateException.class, generator::next);
+  }
+
+  @DisplayName("Long strings are tracked by hash")
+  @Test
+  void longStrings() {
+
+    final UniqueStringGenerator generator = UniqueStringGenerator.Builder.configure(randomy)
+            .length(32).expectedSize(10_000).create();
+
+    final Set<String> issued = new HashSet<>();
+    for (int i = 0; i < 10_000; i++) {
+      issued.add(generator.next());
+    }
+
+    assertThat(issued).hasSize(10_000);
+    assertThat(generator.memoryBytes()).isPositive();
+  }
+
+  @DisplayName("Registered values are never issued")
+  @Test
+  void registeredValues() {
+
+    final UniqueStringGenerator generator = UniqueStringGenerator.Builder.configure(randomy)
+            .length(1).alphabet(Alphabet.of("ab")).create();
+
+    assertThat(generator.register("a")).isTrue();
+    assertThat(generator.register("a")).isFalse();
+    assertThat(generator.isIssued("a")).isTrue();
+    assertThat(generator.isIssued("b")).isFalse();
+    assertThat(generator.next()).isEqualTo("b");
+    assertThrows(IllegalArgumentException.class, () -> generator.register("c"));
+    assertThrows(IllegalArgumentException.class, () -> generator.register("ab"));
+  }
+
+  @DisplayName("Values are unique across threads, also with engines which are not thread safe")
+  @ParameterizedTest
+  @EnumSource(RandomEngine.class)
+  void uniqueAcrossThreads(RandomEngine engine) throws Exception {
+
+    final Randomy shared = Randomy.Builder.configure().engine(engine).create();
+    final UniqueStringGenerator generator = UniqueStringGenerator.Builder.configure(shared)
+            .length(4).alphabet(Alphabet.DIGITS).maxAttempts(10_000).create();
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    try {
+      final List<Future<List<String>>> futures = new ArrayList<>();
+      for (int t = 0; t < 4; t++) {
+        futures.add(executor.submit(() -> {
+          final List<String> values = new ArrayList<>();
+          for (int i = 0; i < 2000; i++) {
+            values.add(generator.next());
+          }
+          return values;
+        }));
+      }
+
+      final Set<String> issued = new HashSet<>();
+      for (Future<List<String>> future : futures) {
+        issued.addAll(future.get());
+      }
+      assertThat(issued).hasSize(8000);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
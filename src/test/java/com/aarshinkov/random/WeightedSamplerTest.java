@@ -0,0 +1,113 @@
+package com.aarshinkov.random;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class WeightedSamplerTest {
+
+  private final Randomy randomy = Randomy.Builder.configure().engine(RandomEngine.THREAD_LOCAL).create();
+
+  @DisplayName("Outcomes follow their weights")
+  @Test
+  void followsWeights() {
+
+    final double[] weights = {1, 0, 2, 5, 0.5, 1.5};
+    final WeightedSampler sampler = WeightedSampler.of(weights);
+
+    final int[] draws = new int[1_000_000];
+    randomy.generateWeighted(draws, sampler);
+
+    final int[] counts = new int[weights.length];
+    for (int draw : draws) {
+      counts[draw]++;
+    }
+
+    assertThat(counts[1]).isZero();
+    for (int i = 0; i < weights.length; i++) {
+      final double expected = draws.length * weights[i] / 10;
+      // More than 6 standard deviations
+      assertThat((double) counts[i]).isCloseTo(expected, offset(6 * Math.sqrt(expected) + 1));
+    }
+  }
+
+  @DisplayName("Weights close to the largest double follow their weights")
+  @Test
+  void largeWeights() {
+
+    final double[] weights = {Double.MAX_VALUE * 0.3, Double.MAX_VALUE * 0.3, Double.MAX_VALUE * 0.3,
+      Double.MAX_VALUE * 0.1};
+    final WeightedSampler sampler = WeightedSampler.of(weights);
+
+    final int[] draws = new int[100_000];
+    randomy.generateWeighted(draws, sampler);
+
+    final int[] counts = new int[weights.length];
+    for (int draw : draws) {
+      counts[draw]++;
+    }
+
+    for (int i = 0; i < weights.length; i++) {
+      final double expected = draws.length * (weights[i] / Double.MAX_VALUE);
+      assertThat((double) counts[i]).isCloseTo(expected, offset(6 * Math.sqrt(expected) + 1));
+    }
+  }
+
+  @DisplayName("Outcomes can be given explicitly or as a map")
+  @Test
+  void explicitOutcomes() {
+
+    final WeightedSampler sampler = WeightedSampler.of(new int[]{-7, 42}, new double[]{0, 1});
+    for (int i = 0; i < 100; i++) {
+      assertThat(randomy.generateWeighted(sampler)).isEqualTo(42);
+    }
+
+    final Map<Integer, Long> frequencies = new HashMap<>();
+    frequencies.put(10, 3L);
+    frequencies.put(20, 1L);
+    final WeightedSampler fromMap = WeightedSampler.of(frequencies);
+    assertThat(fromMap.size()).isEqualTo(2);
+
+    int tens = 0;
+    for (int i = 0; i < 40_000; i++) {
+      final int outcome = randomy.generateWeighted(fromMap);
+      assertThat(outcome).isIn(10, 20);
+      if (outcome == 10) {
+        tens++;
+      }
+    }
+    assertThat(tens).isBetween(29_000, 31_000);
+  }
+
+  @DisplayName("Sampler of characters generates weighted strings")
+  @Test
+  void weightedStrings() {
+
+    final WeightedSampler sampler = WeightedSampler.ofCharacters("abc", 8, 1, 0);
+    assertThat(sampler.isCharacters()).isTrue();
+
+    final String result = randomy.generateRandomString(9000, sampler);
+    assertThat(result).hasSize(9000).doesNotContain("c");
+    assertThat(result.chars().filter(c -> c == 'a').count()).isBetween(7700L, 8300L);
+
+    assertThrows(IllegalArgumentException.class, () -> randomy.generateRandomString(5, WeightedSampler.of(1, 2)));
+  }
+
+  @DisplayName("Sampler rejects invalid weights")
+  @Test
+  void rejectsInvalidWeights() {
+    assertThrows(IllegalArgumentException.class, () -> WeightedSampler.of());
+    assertThrows(IllegalArgumentException.class, () -> WeightedSampler.of(0, 0));
+    assertThrows(IllegalArgumentException.class, () -> WeightedSampler.of(1, -1));
+    assertThrows(IllegalArgumentException.class, () -> WeightedSampler.of(1, Double.NaN));
+    assertThrows(IllegalArgumentException.class, () -> WeightedSampler.of(Double.MAX_VALUE, Double.MAX_VALUE));
+    assertThrows(IllegalArgumentException.class, () -> WeightedSampler.of(new int[]{1}, new double[]{1, 2}));
+    assertThrows(IllegalArgumentException.class, () -> WeightedSampler.ofCharacters("ab", 1));
+    assertThrows(IllegalArgumentException.class, () -> randomy.generateWeighted(null));
+  }
+}